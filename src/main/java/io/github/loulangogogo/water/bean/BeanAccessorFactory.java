@@ -0,0 +1,224 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.exception.CopyPropertieException;
+import io.github.loulangogogo.water.tool.ReflectTool;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*********************************************************
+ ** bean属性读写访问器的生成工厂
+ ** <p>
+ ** 优先使用{@link LambdaMetafactory}生成直接调用的函数对象，
+ ** 如果方法所在的类不可直接访问（非public或者类加载器不可见）则退化为{@link MethodHandle}调用，
+ ** 两种方式都不会在属性复制时再使用{@link Method#invoke(Object, Object...)}。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class BeanAccessorFactory {
+
+    /**
+     * 当前类的查找对象
+     *
+     * @author :loulan
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private BeanAccessorFactory() {
+    }
+
+    /**
+     * 根据读方法生成属性读取函数
+     *
+     * @param readMethod 属性的读方法
+     * @return 属性读取函数（参数为bean对象，返回值为属性值）
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(Method readMethod) {
+        try {
+            if (isLambdaAccessible(readMethod)) {
+                MethodHandle handle = LOOKUP.unreflect(readMethod);
+                CallSite site = LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(wrap(readMethod.getReturnType()), readMethod.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            }
+
+            MethodHandle handle = unreflect(readMethod).asType(MethodType.methodType(Object.class, Object.class));
+            return bean -> {
+                try {
+                    return (Object) handle.invokeExact(bean);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new CopyPropertieException(ex);
+                }
+            };
+        } catch (CopyPropertieException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new CopyPropertieException("生成属性读取器失败：" + readMethod, ex);
+        }
+    }
+
+    /**
+     * 根据写方法生成属性写入函数
+     *
+     * @param writeMethod 属性的写方法
+     * @return 属性写入函数（第一个参数为bean对象，第二个参数为属性值）
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> setter(Method writeMethod) {
+        try {
+            if (isLambdaAccessible(writeMethod) && void.class.equals(writeMethod.getReturnType())) {
+                MethodHandle handle = LOOKUP.unreflect(writeMethod);
+                CallSite site = LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(void.class, writeMethod.getDeclaringClass(), wrap(writeMethod.getParameterTypes()[0])));
+                return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            }
+
+            MethodHandle handle = unreflect(writeMethod).asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (bean, value) -> {
+                try {
+                    handle.invokeExact(bean, value);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new CopyPropertieException(ex);
+                }
+            };
+        } catch (CopyPropertieException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new CopyPropertieException("生成属性写入器失败：" + writeMethod, ex);
+        }
+    }
+
+    /**
+     * 根据无参构造方法生成对象创建函数
+     *
+     * @param constructor 无参构造方法
+     * @return 对象创建函数
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    static Supplier<Object> constructor(Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        try {
+            if (Modifier.isPublic(constructor.getModifiers()) && isLambdaAccessible(declaringClass)) {
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+                CallSite site = LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "get",
+                        MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class),
+                        handle,
+                        MethodType.methodType(declaringClass));
+                return (Supplier<Object>) site.getTarget().invokeExact();
+            }
+
+            try {
+                ReflectTool.setAccessible(constructor);
+            } catch (RuntimeException ex) {
+                // 模块化环境下可能无法开放访问权限，此时如果构造方法本身是公共可访问的依然可以正常获取句柄
+            }
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    return (Object) handle.invokeExact();
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new CopyPropertieException(ex);
+                }
+            };
+        } catch (CopyPropertieException ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new CopyPropertieException("生成对象构造器失败：" + constructor, ex);
+        }
+    }
+
+    /**
+     * 将方法转化为{@link MethodHandle}，必要时开放访问权限
+     *
+     * @param method 方法对象
+     * @return 方法句柄
+     * @throws IllegalAccessException 无法访问方法异常
+     * @author :loulan
+     */
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        try {
+            ReflectTool.setAccessible(method);
+        } catch (RuntimeException ex) {
+            // 模块化环境下可能无法开放访问权限，此时如果方法本身是公共可访问的依然可以正常获取句柄
+        }
+        return LOOKUP.unreflect(method);
+    }
+
+    /**
+     * 判断方法是否可以通过{@link LambdaMetafactory}生成访问函数，
+     * 要求方法和所在的类都是public的，并且所在类对当前类加载器可见
+     *
+     * @param method 方法对象
+     * @return 是否可以生成lambda访问函数
+     * @author :loulan
+     */
+    private static boolean isLambdaAccessible(Method method) {
+        return Modifier.isPublic(method.getModifiers()) && isLambdaAccessible(method.getDeclaringClass());
+    }
+
+    /**
+     * 判断类是否可以被{@link LambdaMetafactory}生成的函数直接访问，
+     * 要求类是public的，并且对当前类加载器可见
+     *
+     * @param declaringClass 类对象
+     * @return 是否可以直接访问
+     * @author :loulan
+     */
+    private static boolean isLambdaAccessible(Class<?> declaringClass) {
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(declaringClass.getName(), false, BeanAccessorFactory.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 获取基本类型对应的包装类型，非基本类型原样返回
+     *
+     * @param type 类型
+     * @return 包装类型
+     * @author :loulan
+     */
+    static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
@@ -0,0 +1,269 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.thread.ThreadTool;
+import io.github.loulangogogo.water.tool.AssertTool;
+import io.github.loulangogogo.water.tool.ObjectTool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/*********************************************************
+ ** bean到bean的属性复制器。
+ ** <p>
+ ** 每一对（源类，目标类）只会生成一次复制计划，计划中保存了已经匹配好的读写访问器，
+ ** 之后的复制不再进行内省，也不再使用反射的{@code Method.invoke}调用。
+ ** 类型不同的属性在生成计划时从{@link ConverterRegistry}中查找一次转换器，找不到转换器的属性不复制。
+ ** 属性的忽略、重命名以及{@link CopyProperty}注解也是在生成计划时按照{@link CopyOptions}解析好的，重命名的复制和普通复制的开销相同。
+ ** 复制计划按照（源类，目标类）缓存在类上（见{@link ClassPairCache}），缓存不会阻止类加载器被卸载。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class BeanCopier {
+
+    /**
+     * 源对象的类
+     *
+     * @author :loulan
+     */
+    private final Class<?> sourceClass;
+
+    /**
+     * 目标对象的类
+     *
+     * @author :loulan
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 目标类的属性描述信息（用于创建目标对象）
+     *
+     * @author :loulan
+     */
+    private final BeanDescriptor targetDescriptor;
+
+    /**
+     * 源属性的读取器，和{@link #setters}按下标一一对应
+     *
+     * @author :loulan
+     */
+    private final Function<Object, Object>[] getters;
+
+    /**
+     * 目标属性的写入器，和{@link #getters}按下标一一对应
+     *
+     * @author :loulan
+     */
+    private final BiConsumer<Object, Object>[] setters;
+
+    /**
+     * 是否忽略值为null的属性
+     *
+     * @author :loulan
+     */
+    private final boolean ignoreNull;
+
+    /**
+     * 生成复制计划
+     *
+     * @param sourceClass 源对象的类
+     * @param targetClass 目标对象的类
+     * @param options     属性复制配置
+     * @author :loulan
+     */
+    BeanCopier(Class<?> sourceClass, Class<?> targetClass, CopyOptions options) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.ignoreNull = options.isIgnoreNull();
+
+        Map<String, BeanProperty> sourceIndex = options.sourceIndex(BeanDescriptor.of(sourceClass));
+        BeanDescriptor targetDescriptor = BeanDescriptor.of(targetClass);
+        this.targetDescriptor = targetDescriptor;
+        List<Function<Object, Object>> getterList = new ArrayList<>();
+        List<BiConsumer<Object, Object>> setterList = new ArrayList<>();
+        for (BeanProperty targetProperty : targetDescriptor.getProperties()) {
+            // 如果目标属性没有写公共写方法或者被忽略那么就不复制
+            if (!targetProperty.isWritable() || options.isIgnored(targetProperty)) {
+                continue;
+            }
+            BeanProperty sourceProperty = sourceIndex.get(options.targetKey(targetProperty));
+            // 如果指定属性在源对象属性中不存在（或者不可读、被忽略）那么不复制
+            if (ObjectTool.isNull(sourceProperty)) {
+                continue;
+            }
+            BiConsumer<Object, Object> setter = targetProperty.setter();
+            // 配置了日期格式的属性优先使用目标属性的格式
+            String format = ObjectTool.isNotNull(targetProperty.getFormat()) ? targetProperty.getFormat() : sourceProperty.getFormat();
+            TypeConverter<Object, Object> converter = ObjectTool.isNull(format) ? null
+                    : ConverterRegistry.formatConverter(sourceProperty.getType(), targetProperty.getType(), format);
+            if (ObjectTool.isNull(converter) && !sourceProperty.getType().equals(targetProperty.getType())) {
+                // 如果对应属性类型不同，那么查找类型转换器，找不到转换器不复制
+                converter = options.getConverterRegistry().getConverter(sourceProperty.getType(), targetProperty.getType());
+                if (ObjectTool.isNull(converter)) {
+                    continue;
+                }
+            }
+            if (ObjectTool.isNotNull(converter)) {
+                setter = convertSetter(setter, converter, targetProperty.getType().isPrimitive());
+            }
+            getterList.add(sourceProperty.getter());
+            setterList.add(setter);
+        }
+        @SuppressWarnings("unchecked")
+        Function<Object, Object>[] getters = (Function<Object, Object>[]) getterList.toArray(new Function<?, ?>[0]);
+        @SuppressWarnings("unchecked")
+        BiConsumer<Object, Object>[] setters = (BiConsumer<Object, Object>[]) setterList.toArray(new BiConsumer<?, ?>[0]);
+        this.getters = getters;
+        this.setters = setters;
+    }
+
+    /**
+     * 获取源类到目标类的属性复制器，使用默认的类型转换器注册中心（复制器会被缓存，同一对类只生成一次）
+     *
+     * @param sourceClass 源对象的类
+     * @param targetClass 目标对象的类
+     * @return 属性复制器
+     * @author :loulan
+     */
+    public static BeanCopier create(Class<?> sourceClass, Class<?> targetClass) {
+        return create(sourceClass, targetClass, ConverterRegistry.getDefault());
+    }
+
+    /**
+     * 获取源类到目标类的属性复制器，使用指定的类型转换器注册中心，其它配置为默认值（同一对类只生成一次）
+     *
+     * @param sourceClass 源对象的类
+     * @param targetClass 目标对象的类
+     * @param registry    类型转换器的注册中心
+     * @return 属性复制器
+     * @author :loulan
+     */
+    public static BeanCopier create(Class<?> sourceClass, Class<?> targetClass, ConverterRegistry registry) {
+        AssertTool.notNull(sourceClass, "源类不能为空");
+        AssertTool.notNull(targetClass, "目标类不能为空");
+        AssertTool.notNull(registry, "类型转换器注册中心不能为空");
+
+        return create(sourceClass, targetClass, registry.getCopyOptions());
+    }
+
+    /**
+     * 获取源类到目标类的属性复制器，使用指定的属性复制配置（复制器缓存在配置对象上，同一对类只生成一次）
+     *
+     * @param sourceClass 源对象的类
+     * @param targetClass 目标对象的类
+     * @param options     属性复制配置
+     * @return 属性复制器
+     * @author :loulan
+     */
+    public static BeanCopier create(Class<?> sourceClass, Class<?> targetClass, CopyOptions options) {
+        AssertTool.notNull(sourceClass, "源类不能为空");
+        AssertTool.notNull(targetClass, "目标类不能为空");
+        AssertTool.notNull(options, "属性复制配置不能为空");
+
+        return options.copiers.get(sourceClass, targetClass);
+    }
+
+    /**
+     * 将源对象的属性复制到目标对象中
+     *
+     * @param source 源对象（必须是{@link #getSourceClass()}的实例）
+     * @param target 目标对象（必须是{@link #getTargetClass()}的实例）
+     * @author :loulan
+     */
+    public void copy(Object source, Object target) {
+        AssertTool.notNull(source, "源对象不能为空");
+        AssertTool.notNull(target, "目标对象不能为空");
+
+        for (int i = 0; i < getters.length; i++) {
+            Object value = getters[i].apply(source);
+            if (value != null || !ignoreNull) {
+                setters[i].accept(target, value);
+            }
+        }
+    }
+
+    /**
+     * 创建一个目标类的对象，并将源对象的属性复制到该对象中
+     *
+     * @param <T>    泛型
+     * @param source 源对象（必须是{@link #getSourceClass()}的实例）
+     * @return 目标对象
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(Object source) {
+        Object target = targetDescriptor.newInstance();
+        copy(source, target);
+        return (T) target;
+    }
+
+    /**
+     * 批量复制，将源对象集合转换为目标类对象的集合，结果集合预先分配好大小，顺序和源集合一致
+     *
+     * @param <T>     泛型
+     * @param sources 源对象集合（元素必须是{@link #getSourceClass()}的实例）
+     * @return 目标对象的list集合
+     * @author :loulan
+     */
+    public <T> List<T> copyList(Collection<?> sources) {
+        return copyList(sources, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * 批量复制，将源对象集合转换为目标类对象的集合，结果集合预先分配好大小，顺序和源集合一致。
+     * 元素个数达到{@code parallelThreshold}时将集合拆分为连续的分块交给{@code executor}并行复制。
+     *
+     * @param <T>               泛型
+     * @param sources           源对象集合（元素必须是{@link #getSourceClass()}的实例）
+     * @param parallelThreshold 并行复制的元素个数阈值
+     * @param executor          并行复制使用的执行器（为{@code null}时顺序复制）
+     * @return 目标对象的list集合
+     * @author :loulan
+     */
+    public <T> List<T> copyList(Collection<?> sources, int parallelThreshold, Executor executor) {
+        return ThreadTool.parallelMap(sources, source -> source == null ? null : this.<T>copy(source), parallelThreshold, executor);
+    }
+
+    /**
+     * 获取源对象的类
+     *
+     * @return 源对象的类
+     * @author :loulan
+     */
+    public Class<?> getSourceClass() {
+        return sourceClass;
+    }
+
+    /**
+     * 获取目标对象的类
+     *
+     * @return 目标对象的类
+     * @author :loulan
+     */
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * 生成先进行类型转换再写入的属性写入器，内置的转换失败时不写入（和没有转换器时一样跳过这个属性）
+     *
+     * @param setter    目标属性的写入器
+     * @param converter 类型转换器
+     * @param primitive 目标属性是否是基本类型（基本类型不能写入{@code null}值）
+     * @return 属性写入器
+     * @author :loulan
+     */
+    private static BiConsumer<Object, Object> convertSetter(BiConsumer<Object, Object> setter, TypeConverter<Object, Object> converter, boolean primitive) {
+        return (target, value) -> {
+            Object converted = value == null ? null : ConverterRegistry.tryConvert(converter, value);
+            if (converted != ConverterRegistry.SKIP && (converted != null || !primitive)) {
+                setter.accept(target, converted);
+            }
+        };
+    }
+}
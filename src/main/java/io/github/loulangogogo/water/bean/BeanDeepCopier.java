@@ -0,0 +1,684 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.exception.CopyPropertieException;
+import io.github.loulangogogo.water.tool.ObjectTool;
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/*********************************************************
+ ** bean对象的深度复制器。
+ ** <p>
+ ** 嵌套的bean、集合、Map以及数组都会生成新的对象，不使用java的序列化。
+ ** 每一对（源类，目标类）的属性匹配关系只生成一次并缓存在类上（见{@link ClassPairCache}），
+ ** 复制过程中使用{@link IdentityHashMap}记录已经复制过的对象，循环引用的对象只会复制一次。
+ ** <p>
+ ** 已知不可变的值类型（基本类型及其包装类型、字符串、枚举、{@link BigDecimal}、{@link BigInteger}、
+ ** {@code java.time}包中的类型、{@link UUID}、{@link Class}、{@link Locale}、{@link URI}、{@link File}、{@link Path}、
+ ** {@link Pattern}等，见{@link #IMMUTABLE_TYPES}）直接共享引用，{@link Date}和{@link Calendar}会进行克隆，
+ ** {@link Optional}会深度复制其中的值，类型不同的值使用{@link ConverterRegistry}进行转换。
+ ** java自带的其它类型（例如{@link StringBuilder}、{@link java.util.concurrent.atomic.AtomicInteger}）无法进行深度复制，
+ ** 需要原样复制这些值时抛出{@link CopyPropertieException}（异常信息中包含属性名），不会静默地丢弃数据。
+ ** 当前对象保存了一次复制过程的状态，不能在多个线程之间共享。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class BeanDeepCopier {
+
+    /**
+     * 无法进行复制时的返回值
+     *
+     * @author :loulan
+     */
+    static final Object SKIP = new Object();
+
+    /**
+     * 已知不可变、可以直接共享引用的java类型（包括子类和实现类）
+     *
+     * @author :loulan
+     */
+    private static final Class<?>[] IMMUTABLE_TYPES = {String.class, Integer.class, Long.class, Double.class, Float.class,
+            Short.class, Byte.class, Character.class, Boolean.class, BigDecimal.class, BigInteger.class, UUID.class,
+            Class.class, Locale.class, Currency.class, URI.class, URL.class, File.class, Path.class, Pattern.class,
+            InetAddress.class, Charset.class, OptionalInt.class, OptionalLong.class, OptionalDouble.class};
+
+    /**
+     * 深度复制计划的缓存，按照（源类，目标类）缓存
+     *
+     * @author :loulan
+     */
+    private static final ClassPairCache<PropertyPair[]> PLANS = new ClassPairCache<>(BeanDeepCopier::createPlan);
+
+    /**
+     * 类型转换器注册中心
+     *
+     * @author :loulan
+     */
+    private final ConverterRegistry registry;
+
+    /**
+     * 已经复制过的对象（源对象到复制后对象的映射）
+     *
+     * @author :loulan
+     */
+    private final Map<Object, Object> copied = new IdentityHashMap<>();
+
+    /**
+     * 构造深度复制器
+     *
+     * @param registry 类型转换器注册中心
+     * @author :loulan
+     */
+    BeanDeepCopier(ConverterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 将源对象深度复制为指定类型的对象
+     *
+     * @param source     源对象
+     * @param targetType 目标类型
+     * @return 复制后的对象，无法复制时返回{@link #SKIP}
+     * @author :loulan
+     */
+    Object copy(Object source, Type targetType) {
+        try {
+            return copyValue(source, declaredType(targetType));
+        } catch (UncopyableException ex) {
+            throw new CopyPropertieException(ex.getMessage());
+        }
+    }
+
+    /**
+     * 将源对象的属性深度复制到目标对象中
+     *
+     * @param source 源对象（bean对象或者Map集合）
+     * @param target 目标对象（bean对象或者Map集合）
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    void copyInto(Object source, Object target) {
+        copied.put(source, target);
+        if (source instanceof Map && target instanceof Map) {
+            throw new CopyPropertieException("暂不支持MapToMap属性复制");
+        } else if (source instanceof Map) {
+            mapToBean((Map<Object, Object>) source, target);
+        } else if (target instanceof Map) {
+            beanToMap(source, (Map<Object, Object>) target);
+        } else {
+            beanToBean(source, target);
+        }
+    }
+
+    /**
+     * 深度复制一个值
+     *
+     * @param value      要复制的值
+     * @param targetType 目标类型
+     * @return 复制后的值，无法复制时返回{@link #SKIP}
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private Object copyValue(Object value, Type targetType) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> raw = BeanAccessorFactory.wrap(rawClass(targetType));
+        Class<?> valueClass = value.getClass();
+
+        // 已经复制过的对象直接返回复制后的对象（处理循环引用）
+        Object existing = copied.get(value);
+        if (existing != null && raw.isInstance(existing)) {
+            return existing;
+        }
+
+        if (valueClass.isArray()) {
+            if (Object.class.equals(raw) || raw.isArray()) {
+                return copyArray(value, targetType);
+            }
+            return SKIP;
+        }
+        if (value instanceof Collection) {
+            if (Object.class.equals(raw) || Collection.class.isAssignableFrom(raw)) {
+                return copyCollection((Collection<Object>) value, targetType, raw);
+            }
+            return SKIP;
+        }
+        if (value instanceof Map) {
+            if (Object.class.equals(raw) || Map.class.isAssignableFrom(raw)) {
+                return copyMap((Map<Object, Object>) value, targetType, raw);
+            }
+            if (isBeanClass(raw)) {
+                Object target = BeanDescriptor.of(raw).newInstance();
+                copied.put(value, target);
+                mapToBean((Map<Object, Object>) value, target);
+                return target;
+            }
+            return SKIP;
+        }
+        if (value instanceof Date) {
+            return convertValue(((Date) value).clone(), raw);
+        }
+        if (value instanceof Calendar) {
+            return convertValue(((Calendar) value).clone(), raw);
+        }
+        if (value instanceof Optional && raw.isInstance(value)) {
+            Object content = ((Optional<Object>) value).orElse(null);
+            Object copiedContent = copyValue(content, typeArgument(targetType, 0));
+            return copiedContent == SKIP ? SKIP : Optional.ofNullable(copiedContent);
+        }
+        if (isImmutableClass(valueClass)) {
+            return convertValue(value, raw);
+        }
+        if (isJdkClass(valueClass)) {
+            // java自带的其它类型可能是可变的，不能共享引用，只能转换为其它类型
+            if (raw.isInstance(value)) {
+                throw new UncopyableException(valueClass);
+            }
+            return convertValue(value, raw);
+        }
+
+        // bean对象
+        if (Map.class.isAssignableFrom(raw)) {
+            Map<Object, Object> target = new LinkedHashMap<>();
+            copied.put(value, target);
+            beanToMap(value, target);
+            return target;
+        }
+        // 目标类型是值的父类（或者接口）时按照值的实际类型复制，不会丢失子类的属性
+        Class<?> targetClass;
+        if (raw.isAssignableFrom(valueClass) && (isBeanClass(valueClass) || !isBeanClass(raw))) {
+            targetClass = valueClass;
+        } else if (isBeanClass(raw)) {
+            targetClass = raw;
+        } else {
+            return isImmutableClass(raw) ? convertValue(value, raw) : SKIP;
+        }
+        Object target = BeanDescriptor.of(targetClass).newInstance();
+        copied.put(value, target);
+        beanToBean(value, target);
+        return target;
+    }
+
+    /**
+     * 值类型的转换，类型相同直接返回，类型不同使用类型转换器转换
+     *
+     * @param value 值
+     * @param raw   目标类型（包装类型）
+     * @return 转换后的值，无法转换时返回{@link #SKIP}
+     * @author :loulan
+     */
+    private Object convertValue(Object value, Class<?> raw) {
+        if (raw.isInstance(value)) {
+            return value;
+        }
+        TypeConverter<Object, Object> converter = registry.getConverter(value.getClass(), raw);
+        if (ObjectTool.isNull(converter)) {
+            return SKIP;
+        }
+        Object converted = ConverterRegistry.tryConvert(converter, value);
+        return converted == ConverterRegistry.SKIP ? SKIP : converted;
+    }
+
+    /**
+     * 深度复制数组
+     *
+     * @param value      源数组
+     * @param targetType 目标类型
+     * @return 复制后的数组，无法复制时返回{@link #SKIP}
+     * @author :loulan
+     */
+    private Object copyArray(Object value, Type targetType) {
+        Class<?> raw = rawClass(targetType);
+        Class<?> componentClass = raw.isArray() ? raw.getComponentType() : value.getClass().getComponentType();
+        Type componentType = targetType instanceof GenericArrayType ? ((GenericArrayType) targetType).getGenericComponentType() : componentClass;
+
+        int length = Array.getLength(value);
+        if (componentClass.isPrimitive() && componentClass.equals(value.getClass().getComponentType())) {
+            // 相同类型的基本类型数组直接复制内存
+            Object target = Array.newInstance(componentClass, length);
+            System.arraycopy(value, 0, target, 0, length);
+            return target;
+        }
+
+        Object target = Array.newInstance(componentClass, length);
+        copied.put(value, target);
+        for (int i = 0; i < length; i++) {
+            Object element = copyValue(Array.get(value, i), componentType);
+            if (element == SKIP || (element == null && componentClass.isPrimitive())) {
+                copied.remove(value);
+                return SKIP;
+            }
+            Array.set(target, i, element);
+        }
+        return target;
+    }
+
+    /**
+     * 深度复制集合
+     *
+     * @param value      源集合
+     * @param targetType 目标类型
+     * @param raw        目标类型的类对象
+     * @return 复制后的集合，无法复制时返回{@link #SKIP}
+     * @author :loulan
+     */
+    private Object copyCollection(Collection<Object> value, Type targetType, Class<?> raw) {
+        Collection<Object> target = newCollection(value, raw);
+        if (!raw.isInstance(target)) {
+            return SKIP;
+        }
+        Type elementType = typeArgument(targetType, 0);
+        copied.put(value, target);
+        for (Object element : value) {
+            Object copiedElement = copyValue(element, elementType);
+            if (copiedElement == SKIP) {
+                copied.remove(value);
+                return SKIP;
+            }
+            target.add(copiedElement);
+        }
+        return target;
+    }
+
+    /**
+     * 深度复制Map集合
+     *
+     * @param value      源Map集合
+     * @param targetType 目标类型
+     * @param raw        目标类型的类对象
+     * @return 复制后的Map集合，无法复制时返回{@link #SKIP}
+     * @author :loulan
+     */
+    private Object copyMap(Map<Object, Object> value, Type targetType, Class<?> raw) {
+        Map<Object, Object> target = newMap(value, raw);
+        if (!raw.isInstance(target)) {
+            return SKIP;
+        }
+        Type keyType = typeArgument(targetType, 0);
+        Type valueType = typeArgument(targetType, 1);
+        copied.put(value, target);
+        for (Map.Entry<Object, Object> entry : value.entrySet()) {
+            Object key = copyValue(entry.getKey(), keyType);
+            Object copiedValue = copyValue(entry.getValue(), valueType);
+            if (key == SKIP || copiedValue == SKIP) {
+                copied.remove(value);
+                return SKIP;
+            }
+            target.put(key, copiedValue);
+        }
+        return target;
+    }
+
+    /**
+     * bean到bean的深度复制
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @author :loulan
+     */
+    private void beanToBean(Object source, Object target) {
+        for (PropertyPair pair : plan(source.getClass(), target.getClass())) {
+            Object value = copyProperty(pair.getter.apply(source), pair.targetType, pair.name);
+            if (value == SKIP || (value == null && pair.primitive)) {
+                continue;
+            }
+            pair.setter.accept(target, value);
+        }
+    }
+
+    /**
+     * Map到bean的深度复制，只复制Map中存在的属性
+     *
+     * @param source 源Map集合
+     * @param target 目标对象
+     * @author :loulan
+     */
+    private void mapToBean(Map<Object, Object> source, Object target) {
+        CopyOptions options = CopyOptions.getDefault();
+        for (BeanProperty property : BeanDescriptor.of(target.getClass()).getProperties()) {
+            String key = options.sourceName(property);
+            if (!property.isWritable() || options.isIgnored(property) || !source.containsKey(key)) {
+                continue;
+            }
+            Object value = copyProperty(source.get(key), property.getGenericType(), key);
+            if (value == SKIP || (value == null && property.getType().isPrimitive())) {
+                continue;
+            }
+            property.write(target, value);
+        }
+    }
+
+    /**
+     * bean到Map的深度复制，值为null的属性不复制
+     *
+     * @param source 源对象
+     * @param target 目标Map集合
+     * @author :loulan
+     */
+    private void beanToMap(Object source, Map<Object, Object> target) {
+        CopyOptions options = CopyOptions.getDefault();
+        for (BeanProperty property : BeanDescriptor.of(source.getClass()).getProperties()) {
+            if (!property.isReadable() || options.isIgnored(property)) {
+                continue;
+            }
+            Object value = copyProperty(property.read(source), Object.class, property.getName());
+            if (value != null && value != SKIP) {
+                target.put(options.targetName(property), value);
+            }
+        }
+    }
+
+    /**
+     * 深度复制一个属性的值，值中有无法深度复制的java类型时抛出带有属性名的异常
+     *
+     * @param value      要复制的值
+     * @param targetType 目标类型
+     * @param name       属性名
+     * @return 复制后的值，无法复制时返回{@link #SKIP}
+     * @author :loulan
+     */
+    private Object copyProperty(Object value, Type targetType, String name) {
+        try {
+            return copyValue(value, targetType);
+        } catch (UncopyableException ex) {
+            throw new CopyPropertieException("属性" + name + "无法深度复制：" + ex.getMessage());
+        }
+    }
+
+    /**
+     * 获取深度复制计划（同名并且可读可写的属性对）
+     *
+     * @param sourceClass 源对象的类
+     * @param targetClass 目标对象的类
+     * @return 属性对数组
+     * @author :loulan
+     */
+    private static PropertyPair[] plan(Class<?> sourceClass, Class<?> targetClass) {
+        return PLANS.get(sourceClass, targetClass);
+    }
+
+    /**
+     * 生成深度复制计划，属性的匹配规则（包括注解）和普通的属性复制一致
+     *
+     * @param sourceClass 源对象的类
+     * @param targetClass 目标对象的类
+     * @return 属性对数组
+     * @author :loulan
+     */
+    private static PropertyPair[] createPlan(Class<?> sourceClass, Class<?> targetClass) {
+        CopyOptions options = CopyOptions.getDefault();
+        Map<String, BeanProperty> sourceIndex = options.sourceIndex(BeanDescriptor.of(sourceClass));
+        List<PropertyPair> pairs = new ArrayList<>();
+        for (BeanProperty targetProperty : BeanDescriptor.of(targetClass).getProperties()) {
+            if (!targetProperty.isWritable() || options.isIgnored(targetProperty)) {
+                continue;
+            }
+            BeanProperty sourceProperty = sourceIndex.get(options.targetKey(targetProperty));
+            if (ObjectTool.isNotNull(sourceProperty)) {
+                pairs.add(new PropertyPair(sourceProperty, targetProperty));
+            }
+        }
+        return pairs.toArray(new PropertyPair[0]);
+    }
+
+    /**
+     * 创建和源集合同类型的新集合
+     *
+     * @param value 源集合
+     * @param raw   目标类型
+     * @return 新的集合
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> newCollection(Collection<Object> value, Class<?> raw) {
+        if (value instanceof SortedSet && raw.isAssignableFrom(TreeSet.class)) {
+            return new TreeSet<>(((SortedSet<Object>) value).comparator());
+        }
+        if (raw.isAssignableFrom(value.getClass()) && isInstantiable(value.getClass())) {
+            return (Collection<Object>) BeanDescriptor.of(value.getClass()).newInstance();
+        }
+        if (!Object.class.equals(raw) && isInstantiable(raw)) {
+            return (Collection<Object>) BeanDescriptor.of(raw).newInstance();
+        }
+        if (value instanceof Set || Set.class.equals(raw)) {
+            return new LinkedHashSet<>(value.size() * 4 / 3 + 1);
+        }
+        if (value instanceof Queue || Queue.class.isAssignableFrom(raw)) {
+            return new LinkedList<>();
+        }
+        return new ArrayList<>(value.size());
+    }
+
+    /**
+     * 创建和源Map集合同类型的新Map集合
+     *
+     * @param value 源Map集合
+     * @param raw   目标类型
+     * @return 新的Map集合
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> newMap(Map<Object, Object> value, Class<?> raw) {
+        if (value instanceof SortedMap && raw.isAssignableFrom(TreeMap.class)) {
+            return new TreeMap<>(((SortedMap<Object, Object>) value).comparator());
+        }
+        if (raw.isAssignableFrom(value.getClass()) && isInstantiable(value.getClass())) {
+            return (Map<Object, Object>) BeanDescriptor.of(value.getClass()).newInstance();
+        }
+        if (!Object.class.equals(raw) && isInstantiable(raw)) {
+            return (Map<Object, Object>) BeanDescriptor.of(raw).newInstance();
+        }
+        return new LinkedHashMap<>(value.size() * 4 / 3 + 1);
+    }
+
+    /**
+     * 顶层复制的目标类型是不能实例化的java集合类（例如{@link java.util.Arrays#asList(Object[])}、
+     * {@link java.util.Collections#unmodifiableList(List)}返回的集合）时，使用对应的接口作为目标类型
+     *
+     * @param targetType 目标类型
+     * @return 实际使用的目标类型
+     * @author :loulan
+     */
+    private static Type declaredType(Type targetType) {
+        if (!(targetType instanceof Class)) {
+            return targetType;
+        }
+        Class<?> clzz = (Class<?>) targetType;
+        if (clzz.isInterface() || !isJdkClass(clzz) || isInstantiable(clzz)) {
+            return clzz;
+        }
+        if (List.class.isAssignableFrom(clzz)) {
+            return List.class;
+        } else if (SortedSet.class.isAssignableFrom(clzz)) {
+            return SortedSet.class;
+        } else if (Set.class.isAssignableFrom(clzz)) {
+            return Set.class;
+        } else if (Queue.class.isAssignableFrom(clzz)) {
+            return Queue.class;
+        } else if (Collection.class.isAssignableFrom(clzz)) {
+            return Collection.class;
+        } else if (SortedMap.class.isAssignableFrom(clzz)) {
+            return SortedMap.class;
+        } else if (Map.class.isAssignableFrom(clzz)) {
+            return Map.class;
+        }
+        return clzz;
+    }
+
+    /**
+     * 判断类是否是已知不可变、可以直接共享引用的值类型
+     *
+     * @param clzz 类对象
+     * @return 是否是不可变的值类型
+     * @author :loulan
+     */
+    private static boolean isImmutableClass(Class<?> clzz) {
+        if (clzz.isPrimitive() || Enum.class.isAssignableFrom(clzz)) {
+            return true;
+        }
+        for (Class<?> type : IMMUTABLE_TYPES) {
+            if (type.isAssignableFrom(clzz)) {
+                return true;
+            }
+        }
+        return clzz.getName().startsWith("java.time.");
+    }
+
+    /**
+     * 判断类是否是java自带的类型（包括{@link Path}等接口在jdk内部的实现类）
+     *
+     * @param clzz 类对象
+     * @return 是否是java自带的类型
+     * @author :loulan
+     */
+    private static boolean isJdkClass(Class<?> clzz) {
+        String name = clzz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.")
+                || name.startsWith("jdk.") || name.startsWith("com.sun.");
+    }
+
+    /**
+     * 判断类是否是可以进行属性复制的bean类
+     *
+     * @param clzz 类对象
+     * @return 是否是bean类
+     * @author :loulan
+     */
+    private static boolean isBeanClass(Class<?> clzz) {
+        return !isJdkClass(clzz) && !Enum.class.isAssignableFrom(clzz) && !clzz.isArray() && isInstantiable(clzz);
+    }
+
+    /**
+     * 判断类是否可以通过public的无参构造方法实例化
+     *
+     * @param clzz 类对象
+     * @return 是否可以实例化
+     * @author :loulan
+     */
+    private static boolean isInstantiable(Class<?> clzz) {
+        if (clzz.isInterface() || Modifier.isAbstract(clzz.getModifiers()) || !Modifier.isPublic(clzz.getModifiers())) {
+            return false;
+        }
+        try {
+            clzz.getConstructor();
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 获取类型的原始类
+     *
+     * @param type 类型
+     * @return 原始类
+     * @author :loulan
+     */
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return rawClass(((ParameterizedType) type).getRawType());
+        } else if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawClass(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        } else if (type instanceof WildcardType) {
+            return rawClass(((WildcardType) type).getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable) {
+            return rawClass(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * 获取泛型类型的指定下标的类型参数，没有类型参数时返回{@link Object}
+     *
+     * @param type  类型
+     * @param index 类型参数的下标
+     * @return 类型参数
+     * @author :loulan
+     */
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * 深度复制计划中的属性对
+     *
+     * @author :loulan
+     */
+    private static final class PropertyPair {
+        private final String name;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+        private final Type targetType;
+        private final boolean primitive;
+
+        private PropertyPair(BeanProperty sourceProperty, BeanProperty targetProperty) {
+            this.name = sourceProperty.getName();
+            this.getter = sourceProperty.getter();
+            this.setter = targetProperty.setter();
+            this.targetType = targetProperty.getGenericType();
+            this.primitive = targetProperty.getType().isPrimitive();
+        }
+    }
+
+    /**
+     * 值中有无法深度复制的java类型，由属性的复制方法转换为带有属性名的{@link CopyPropertieException}
+     *
+     * @author :loulan
+     */
+    private static final class UncopyableException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private UncopyableException(Class<?> valueClass) {
+            super(valueClass.getName() + "是可变的java类型，无法进行深度复制", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.exception.CopyPropertieException;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*********************************************************
+ ** bean类的属性描述信息。
+ ** <p>
+ ** 每个类只进行一次内省，结果通过{@link ClassValue}缓存在类上，
+ ** 类被卸载的时候缓存也会跟着释放，不会造成类加载器泄漏。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class BeanDescriptor {
+
+    /**
+     * 类属性描述信息的缓存
+     *
+     * @author :loulan
+     */
+    private static final ClassValue<BeanDescriptor> CACHE = new ClassValue<BeanDescriptor>() {
+        @Override
+        protected BeanDescriptor computeValue(Class<?> type) {
+            return new BeanDescriptor(type);
+        }
+    };
+
+    /**
+     * bean的类对象
+     *
+     * @author :loulan
+     */
+    private final Class<?> beanClass;
+
+    /**
+     * 所有属性（不包括class属性）
+     *
+     * @author :loulan
+     */
+    private final List<BeanProperty> properties;
+
+    /**
+     * 属性名称和属性的映射
+     *
+     * @author :loulan
+     */
+    private final Map<String, BeanProperty> propertyMap;
+
+    /**
+     * 无参构造方法生成的对象创建函数（第一次使用时生成）
+     *
+     * @author :loulan
+     */
+    private volatile Supplier<Object> instantiator;
+
+    /**
+     * 对类进行内省构建属性描述信息
+     *
+     * @param beanClass bean的类对象
+     * @author :loulan
+     */
+    private BeanDescriptor(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        PropertyDescriptor[] descriptors;
+        try {
+            descriptors = Introspector.getBeanInfo(beanClass).getPropertyDescriptors();
+        } catch (IntrospectionException ex) {
+            throw new CopyPropertieException(ex);
+        } finally {
+            // 内省的结果已经缓存在类上，清除Introspector的全局缓存，避免它一直引用类导致类加载器无法卸载
+            Introspector.flushFromCaches(beanClass);
+        }
+
+        List<BeanProperty> list = new ArrayList<>(descriptors.length);
+        Map<String, BeanProperty> map = new LinkedHashMap<>(descriptors.length * 4 / 3 + 1);
+        for (PropertyDescriptor descriptor : descriptors) {
+            // 过滤掉其中的class属性，以及无法确定类型的索引属性
+            if ("class".equals(descriptor.getName()) || descriptor.getPropertyType() == null) {
+                continue;
+            }
+            BeanProperty property = new BeanProperty(descriptor, findAnnotation(beanClass, descriptor));
+            list.add(property);
+            map.put(property.getName(), property);
+        }
+        this.properties = Collections.unmodifiableList(list);
+        this.propertyMap = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 获取指定类的属性描述信息
+     *
+     * @param beanClass bean的类对象
+     * @return 属性描述信息
+     * @author :loulan
+     */
+    static BeanDescriptor of(Class<?> beanClass) {
+        return CACHE.get(beanClass);
+    }
+
+    Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 获取所有的属性
+     *
+     * @return 属性列表
+     * @author :loulan
+     */
+    List<BeanProperty> getProperties() {
+        return properties;
+    }
+
+    /**
+     * 根据名称获取属性，不存在返回null
+     *
+     * @param name 属性名称
+     * @return 属性信息
+     * @author :loulan
+     */
+    BeanProperty getProperty(String name) {
+        return propertyMap.get(name);
+    }
+
+    /**
+     * 通过无参构造方法创建bean对象（构造方法只查找一次，之后直接调用生成好的对象创建函数）
+     *
+     * @return bean对象
+     * @author :loulan
+     */
+    Object newInstance() {
+        return instantiator().get();
+    }
+
+    /**
+     * 获取无参构造方法生成的对象创建函数（第一次调用时生成）
+     *
+     * @return 对象创建函数
+     * @author :loulan
+     */
+    Supplier<Object> instantiator() {
+        Supplier<Object> current = instantiator;
+        if (current == null) {
+            Constructor<?> constructor;
+            try {
+                constructor = beanClass.getDeclaredConstructor();
+            } catch (NoSuchMethodException ex) {
+                throw new CopyPropertieException("无法实例化没有无参构造方法的类：" + beanClass.getName(), ex);
+            }
+            if (Modifier.isAbstract(beanClass.getModifiers())) {
+                throw new CopyPropertieException("无法实例化抽象类或者接口：" + beanClass.getName());
+            }
+            // 多线程同时生成也没有关系，生成的结果是等价的
+            current = BeanAccessorFactory.constructor(constructor);
+            instantiator = current;
+        }
+        return current;
+    }
+
+    /**
+     * 查找属性上的{@link CopyProperty}注解，查找顺序：属性字段（包括父类的字段） &gt; 读方法 &gt; 写方法
+     *
+     * @param beanClass  bean的类对象
+     * @param descriptor 属性描述器
+     * @return 复制注解，没有时返回null
+     * @author :loulan
+     */
+    private static CopyProperty findAnnotation(Class<?> beanClass, PropertyDescriptor descriptor) {
+        for (Class<?> clzz = beanClass; clzz != null && !Object.class.equals(clzz); clzz = clzz.getSuperclass()) {
+            try {
+                Field field = clzz.getDeclaredField(descriptor.getName());
+                if (field.isAnnotationPresent(CopyProperty.class)) {
+                    return field.getAnnotation(CopyProperty.class);
+                }
+                break;
+            } catch (NoSuchFieldException ex) {
+                // 当前类中没有该字段，继续查找父类
+            }
+        }
+        Method readMethod = descriptor.getReadMethod();
+        if (readMethod != null && readMethod.isAnnotationPresent(CopyProperty.class)) {
+            return readMethod.getAnnotation(CopyProperty.class);
+        }
+        Method writeMethod = descriptor.getWriteMethod();
+        if (writeMethod != null && writeMethod.isAnnotationPresent(CopyProperty.class)) {
+            return writeMethod.getAnnotation(CopyProperty.class);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.tool.AssertTool;
+import io.github.loulangogogo.water.tool.ObjectTool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/*********************************************************
+ ** map到bean的属性读取器。
+ ** <p>
+ ** 读取器在生成的时候就按照{@link CopyOptions}确定好了所有可写属性对应的key、写入器以及日期格式的转换器，
+ ** 读取的时候按照属性逐个从map中取值，不需要先对map的key进行转换。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class BeanMapReader {
+
+    /**
+     * 可写属性在map中对应的key，和其它数组按下标一一对应
+     *
+     * @author :loulan
+     */
+    private final String[] keys;
+
+    /**
+     * 可写属性的写入器
+     *
+     * @author :loulan
+     */
+    private final BiConsumer<Object, Object>[] setters;
+
+    /**
+     * 可写属性的类型（包装类型）
+     *
+     * @author :loulan
+     */
+    private final Class<?>[] types;
+
+    /**
+     * 配置了日期格式的属性从字符串转换的转换器，没有配置时为null
+     *
+     * @author :loulan
+     */
+    private final TypeConverter<Object, Object>[] formatters;
+
+    /**
+     * 可写属性是否是基本类型（基本类型不能写入null值）
+     *
+     * @author :loulan
+     */
+    private final boolean[] primitives;
+
+    /**
+     * 类型转换器注册中心
+     *
+     * @author :loulan
+     */
+    private final ConverterRegistry registry;
+
+    /**
+     * 是否忽略值为null的属性
+     *
+     * @author :loulan
+     */
+    private final boolean ignoreNull;
+
+    /**
+     * 根据bean的属性描述信息生成读取器
+     *
+     * @param descriptor bean的属性描述信息
+     * @param options    属性复制配置
+     * @author :loulan
+     */
+    BeanMapReader(BeanDescriptor descriptor, CopyOptions options) {
+        List<BeanProperty> properties = new ArrayList<>();
+        for (BeanProperty property : descriptor.getProperties()) {
+            // 无法写入的属性以及忽略的属性过滤掉
+            if (property.isWritable() && !options.isIgnored(property)) {
+                properties.add(property);
+            }
+        }
+        int size = properties.size();
+        this.keys = new String[size];
+        @SuppressWarnings("unchecked")
+        BiConsumer<Object, Object>[] setters = (BiConsumer<Object, Object>[]) new BiConsumer<?, ?>[size];
+        @SuppressWarnings("unchecked")
+        TypeConverter<Object, Object>[] formatters = (TypeConverter<Object, Object>[]) new TypeConverter<?, ?>[size];
+        this.setters = setters;
+        this.types = new Class<?>[size];
+        this.formatters = formatters;
+        this.primitives = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            BeanProperty property = properties.get(i);
+            keys[i] = options.sourceName(property);
+            setters[i] = property.setter();
+            types[i] = BeanAccessorFactory.wrap(property.getType());
+            formatters[i] = ObjectTool.isNull(property.getFormat()) ? null
+                    : ConverterRegistry.formatConverter(String.class, property.getType(), property.getFormat());
+            primitives[i] = property.getType().isPrimitive();
+        }
+        this.registry = options.getConverterRegistry();
+        this.ignoreNull = options.isIgnoreNull();
+    }
+
+    /**
+     * 将map中的数据写入到bean对象中，值的类型和属性的类型不一致时尝试使用类型转换器进行转换
+     *
+     * @param source 源map集合
+     * @param target 目标对象
+     * @author :loulan
+     */
+    void read(Map<String, ? extends Object> source, Object target) {
+        AssertTool.notNull(source, "源对象不能为空");
+        AssertTool.notNull(target, "目标对象不能为空");
+
+        for (int i = 0; i < keys.length; i++) {
+            Object value = source.get(keys[i]);
+            if (value != null && formatters[i] != null && value instanceof String) {
+                value = ConverterRegistry.tryConvert(formatters[i], value);
+            } else if (value != null && !types[i].isInstance(value)) {
+                TypeConverter<Object, Object> converter = registry.getConverter(value.getClass(), types[i]);
+                if (ObjectTool.isNotNull(converter)) {
+                    value = ConverterRegistry.tryConvert(converter, value);
+                }
+            }
+            // 内置的转换（包括日期格式的转换）失败时跳过这个属性
+            if (value == ConverterRegistry.SKIP) {
+                continue;
+            }
+            if (value == null && (ignoreNull || primitives[i])) {
+                continue;
+            }
+            setters[i].accept(target, value);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.tool.AssertTool;
+import io.github.loulangogogo.water.tool.ObjectTool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/*********************************************************
+ ** bean到map的属性写入器。
+ ** <p>
+ ** 写入器在生成的时候就按照{@link CopyOptions}确定好了所有可读属性的key和读取器（包括忽略、重命名以及日期格式），
+ ** 写入的时候每个属性只读取一次，并且直接写入到调用者提供的map中，不需要再对map的key进行二次转换。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class BeanMapWriter {
+
+    /**
+     * 可读属性的名称，和{@link #getters}按下标一一对应
+     *
+     * @author :loulan
+     */
+    private final String[] names;
+
+    /**
+     * 可读属性的读取器，和{@link #names}按下标一一对应
+     *
+     * @author :loulan
+     */
+    private final Function<Object, Object>[] getters;
+
+    /**
+     * 根据bean的属性描述信息生成写入器
+     *
+     * @param descriptor bean的属性描述信息
+     * @param options    属性复制配置
+     * @author :loulan
+     */
+    BeanMapWriter(BeanDescriptor descriptor, CopyOptions options) {
+        List<String> nameList = new ArrayList<>();
+        List<Function<Object, Object>> getterList = new ArrayList<>();
+        for (BeanProperty property : descriptor.getProperties()) {
+            // 无法读取的属性以及忽略的属性过滤掉
+            if (!property.isReadable() || options.isIgnored(property)) {
+                continue;
+            }
+            Function<Object, Object> getter = property.getter();
+            TypeConverter<Object, Object> formatter = ObjectTool.isNull(property.getFormat()) ? null
+                    : ConverterRegistry.formatConverter(property.getType(), String.class, property.getFormat());
+            if (ObjectTool.isNotNull(formatter)) {
+                // 配置了日期格式的属性直接写入格式化之后的字符串
+                Function<Object, Object> read = getter;
+                getter = bean -> {
+                    Object value = read.apply(bean);
+                    return value == null ? null : ConverterRegistry.tryConvert(formatter, value);
+                };
+            }
+            nameList.add(options.targetName(property));
+            getterList.add(getter);
+        }
+        this.names = nameList.toArray(new String[0]);
+        @SuppressWarnings("unchecked")
+        Function<Object, Object>[] getters = (Function<Object, Object>[]) getterList.toArray(new Function<?, ?>[0]);
+        this.getters = getters;
+    }
+
+    /**
+     * 获取可读属性的个数
+     *
+     * @return 可读属性的个数
+     * @author :loulan
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * 将bean对象的属性写入到map中
+     *
+     * @param source     源对象
+     * @param target     目标map集合
+     * @param ignoreNull 是否忽略值为null的属性
+     * @author :loulan
+     */
+    void write(Object source, Map<String, Object> target, boolean ignoreNull) {
+        AssertTool.notNull(source, "源对象不能为空");
+        AssertTool.notNull(target, "目标对象不能为空");
+
+        for (int i = 0; i < names.length; i++) {
+            Object value = getters[i].apply(source);
+            // 日期格式化失败时跳过这个属性
+            if (value == ConverterRegistry.SKIP) {
+                continue;
+            }
+            if (value != null || !ignoreNull) {
+                target.put(names[i], value);
+            }
+        }
+    }
+}
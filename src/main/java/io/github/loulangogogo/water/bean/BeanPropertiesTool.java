@@ -1,16 +1,10 @@
 package io.github.loulangogogo.water.bean;
 
-import io.github.loulangogogo.water.collection.ArrayTool;
 import io.github.loulangogogo.water.exception.CopyPropertieException;
 import io.github.loulangogogo.water.map.MapTool;
-import io.github.loulangogogo.water.stream.CollectorTool;
 import io.github.loulangogogo.water.tool.AssertTool;
 import io.github.loulangogogo.water.tool.ObjectTool;
 
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,63 +17,56 @@ import java.util.Map;
 class BeanPropertiesTool {
 
     /**
-     * 将对象属性复制到map集合中
+     * 将对象属性复制到map集合中（值为null的属性不复制）
      *
      * @param source 目标对象
      * @param target 目标map集合
-     * @throws IntrospectionException 获取属性描述器失败异常
      * @author :loulan
      */
-    public static void beanToMap(Object source, Map<String, Object> target) throws IntrospectionException {
+    public static void beanToMap(Object source, Map<String, Object> target) {
+        beanToMap(source, target, true);
+    }
+
+    /**
+     * 将对象属性复制到map集合中，每个属性的读方法只调用一次
+     *
+     * @param source     目标对象
+     * @param target     目标map集合
+     * @param ignoreNull 是否忽略值为null的属性
+     * @author :loulan
+     */
+    public static void beanToMap(Object source, Map<String, Object> target, boolean ignoreNull) {
         AssertTool.notNull(source, "源对象不能为空");
         AssertTool.notNull(target, "目标对象不能为空");
 
-        // 获取所有属性描述器
-        PropertyDescriptor[] sourcePropertyDescriptors = Introspector.getBeanInfo(source.getClass()).getPropertyDescriptors();
-        if (ArrayTool.isEmpty(sourcePropertyDescriptors)) {
-            // 如果没有属性就直接返回
-            return;
-        }
-        HashMap<String, Object> data = ArrayTool.stream(sourcePropertyDescriptors)
-                .filter(sourcePd -> {
-                    try {
-                        // 过滤掉其中的class属性
-                        if ("class".equals(sourcePd.getName())) return false;
-                        // 无法读取的数据过滤掉
-                        if (ObjectTool.isNotNull(sourcePd.getReadMethod().invoke(source))) {
-                            return true;
-                        } else {
-                            return false;
-                        }
-                    } catch (Exception e) {
-                        throw new CopyPropertieException(e);
-                    }
-                })
-                .collect(CollectorTool.toMap(
-                        o -> o.getName(),
-                        o -> {
-                            try {
-                                // 读取其中的数据
-                                return o.getReadMethod().invoke(source);
-                            } catch (Exception ex) {
-                                throw new CopyPropertieException(ex);
-                            }
-                        },
-                        (o1, o2) -> o1,
-                        HashMap::new
-                ));
-        target.putAll(data);
+        CopyOptions.getDefault().getMapWriter(source.getClass()).write(source, target, ignoreNull);
+    }
+
+    /**
+     * 将对象属性复制到一个新的map集合中，map集合按照可读属性的个数预先分配容量
+     *
+     * @param source     目标对象
+     * @param ignoreNull 是否忽略值为null的属性
+     * @return map集合
+     * @author :loulan
+     */
+    public static Map<String, Object> beanToMap(Object source, boolean ignoreNull) {
+        AssertTool.notNull(source, "源对象不能为空");
+
+        BeanMapWriter writer = CopyOptions.getDefault().getMapWriter(source.getClass());
+        Map<String, Object> target = new HashMap<>(writer.size() * 4 / 3 + 1);
+        writer.write(source, target, ignoreNull);
+        return target;
     }
 
     /**
-     * 将map集合中的数据复制到对象中
+     * 将map集合中的数据复制到对象中（单个对象的属性顺序复制，不使用并行流）
      *
      * @param source 源对象map集合
      * @param target 目标对象
-     * @throws IntrospectionException 获取属性描述器失败异常
      * @author :loulan
      */
-    public static void mapToBean(Map<String, ? extends Object> source, Object target) throws IntrospectionException {
+    public static void mapToBean(Map<String, ? extends Object> source, Object target) {
         AssertTool.notNull(source, "源对象不能为空");
         AssertTool.notNull(target, "目标对象不能为空");
 
@@ -88,93 +75,21 @@ class BeanPropertiesTool {
             return;
         }
 
-        PropertyDescriptor[] targetPropertyDescriptors = Introspector.getBeanInfo(target.getClass()).getPropertyDescriptors();
-        if (ArrayTool.isEmpty(targetPropertyDescriptors)) {
-            // 如果目标对象没有属性直接返回就行了
-            return;
-        }
-        ArrayTool.parallelStream(targetPropertyDescriptors)
-                .filter(targetPd -> {
-                    if (ObjectTool.isNotNull(targetPd.getWriteMethod())) {
-                        return true;
-                    } else {
-                        return false;
-                    }
-                }).forEach(targetPd -> {
-                    String fieldName = targetPd.getName();
-                    try {
-                        targetPd.getWriteMethod().invoke(target, source.get(fieldName));
-                    } catch (Exception ex) {
-                        throw new CopyPropertieException(ex);
-                    }
-                });
+        CopyOptions.getDefault().getMapReader(target.getClass()).read(source, target);
     }
 
     /**
-     * 将对象属性复制到对象中
+     * 将对象属性复制到对象中（使用缓存的{@link BeanCopier}复制计划）
      *
      * @param source 源对象
      * @param target 目标对象
-     * @throws IntrospectionException 获取属性描述器失败异常
      * @author :loulan
      */
-    public static void beanToBean(Object source, Object target) throws IntrospectionException {
+    public static void beanToBean(Object source, Object target) {
         AssertTool.notNull(source, "源对象不能为空");
         AssertTool.notNull(target, "目标对象不能为空");
 
-        Class<?> targetClass = target.getClass();
-        // 获取所有属性描述器
-        PropertyDescriptor[] targetPropertyDescriptors = Introspector.getBeanInfo(targetClass).getPropertyDescriptors();
-        PropertyDescriptor[] sourcePropertyDescriptors = Introspector.getBeanInfo(source.getClass()).getPropertyDescriptors();
-
-        if (ArrayTool.isEmpty(sourcePropertyDescriptors) || ArrayTool.isEmpty(targetPropertyDescriptors)) {
-            // 如果没有属性就直接返回
-            return;
-        }
-
-        // 将源对象的属性转化未map集合，方便后面提取
-        Map<String, PropertyDescriptor> sourcePropertyDescriptorsMap = ArrayTool.parallelStream(sourcePropertyDescriptors)
-                .filter(o -> ObjectTool.isNotNull(o.getReadMethod()))
-                .collect(CollectorTool.toMap(
-                        PropertyDescriptor::getName,
-                        o -> o,
-                        (o1, o2) -> o1,
-                        HashMap::new
-                ));
-
-        ArrayTool.parallelStream(targetPropertyDescriptors)
-                .filter(o -> {
-                    // 如果目标属性没有写公共写方法那么就不复制
-                    if (ObjectTool.isNotNull(o.getWriteMethod())) {
-                        return true;
-                    } else {
-                        return false;
-                    }
-                })
-                .forEach(targetPd -> {
-                    PropertyDescriptor sourcePd = sourcePropertyDescriptorsMap.get(targetPd.getName());
-                    // 如果指定属性在源对象属性中不存在那么不复制
-                    if (ObjectTool.isNull(sourcePd)) {
-                        return;
-                    }
-
-                    // 比较对象类型是否相同
-                    Class<?> sourcePdPropertyType = sourcePd.getPropertyType();
-                    Class<?> targetPdPropertyType = targetPd.getPropertyType();
-                    if (!sourcePdPropertyType.equals(targetPdPropertyType)) {
-                        // 如果对应属性类型不同，那么不复制
-                        return;
-                    }
-
-                    try {
-                        // 进行属性值的复制
-                        Object value = sourcePd.getReadMethod().invoke(source);
-                        targetPd.getWriteMethod().invoke(target, value);
-                    } catch (Exception ex) {
-                        throw new CopyPropertieException(ex);
-                    }
-
-                });
+        BeanCopier.create(source.getClass(), target.getClass()).copy(source, target);
     }
 
     /**
@@ -182,10 +97,9 @@ class BeanPropertiesTool {
      *
      * @param source 源对象
      * @param target 目标对象
-     * @throws IntrospectionException 获取属性描述器失败异常
      * @author :loulan
      */
-    public static void copyProperties(Object source, Object target) throws IntrospectionException {
+    public static void copyProperties(Object source, Object target) {
         AssertTool.notNull(source, "源对象不能为空");
         AssertTool.notNull(target, "目标对象不能为空");
         if (ObjectTool.isInstanceof(source, Map.class) && ObjectTool.isInstanceof(target, Map.class)) {
@@ -202,4 +116,33 @@ class BeanPropertiesTool {
         }
     }
 
+    /**
+     * 按照属性复制配置进行属性复制
+     *
+     * @param source  源对象
+     * @param target  目标对象
+     * @param options 属性复制配置
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public static void copyProperties(Object source, Object target, CopyOptions options) {
+        AssertTool.notNull(source, "源对象不能为空");
+        AssertTool.notNull(target, "目标对象不能为空");
+        AssertTool.notNull(options, "属性复制配置不能为空");
+        if (ObjectTool.isInstanceof(source, Map.class) && ObjectTool.isInstanceof(target, Map.class)) {
+            throw new CopyPropertieException("暂不支持MapToMap属性复制");
+        } else if (ObjectTool.isInstanceof(source, Map.class) && !ObjectTool.isInstanceof(target, Map.class)) {
+            // map到对象的属性复制
+            if (MapTool.isNotEmpty((Map<String, ? extends Object>) source)) {
+                options.getMapReader(target.getClass()).read((Map<String, ? extends Object>) source, target);
+            }
+        } else if (!ObjectTool.isInstanceof(source, Map.class) && ObjectTool.isInstanceof(target, Map.class)) {
+            // 对象到map的属性复制
+            options.getMapWriter(source.getClass()).write(source, (Map<String, Object>) target, options.isIgnoreNull());
+        } else {
+            // 对象到对象的属性复制
+            BeanCopier.create(source.getClass(), target.getClass(), options).copy(source, target);
+        }
+    }
+
 }
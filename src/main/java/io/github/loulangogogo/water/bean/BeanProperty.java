@@ -0,0 +1,206 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.tool.ObjectTool;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/*********************************************************
+ ** bean的单个属性信息，包含属性的名称、类型以及编译好的读写访问器。
+ ** <p>
+ ** 读写访问器在第一次使用的时候才会生成，生成之后缓存在当前对象中。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class BeanProperty {
+
+    /**
+     * 属性名称
+     *
+     * @author :loulan
+     */
+    private final String name;
+
+    /**
+     * 属性类型
+     *
+     * @author :loulan
+     */
+    private final Class<?> type;
+
+    /**
+     * 属性读方法
+     *
+     * @author :loulan
+     */
+    private final Method readMethod;
+
+    /**
+     * 属性写方法
+     *
+     * @author :loulan
+     */
+    private final Method writeMethod;
+
+    /**
+     * 属性复制时使用的名称（{@link CopyProperty#value()}），没有配置时为null
+     *
+     * @author :loulan
+     */
+    private final String alias;
+
+    /**
+     * 属性复制时是否忽略（{@link CopyProperty#ignore()}）
+     *
+     * @author :loulan
+     */
+    private final boolean ignored;
+
+    /**
+     * 日期和字符串之间转换的格式（{@link CopyProperty#format()}），没有配置时为null
+     *
+     * @author :loulan
+     */
+    private final String format;
+
+    /**
+     * 属性读取器
+     *
+     * @author :loulan
+     */
+    private volatile Function<Object, Object> getter;
+
+    /**
+     * 属性写入器
+     *
+     * @author :loulan
+     */
+    private volatile BiConsumer<Object, Object> setter;
+
+    /**
+     * 根据属性描述器构建属性信息
+     *
+     * @param descriptor 属性描述器
+     * @param annotation 属性上的复制注解（可以为null）
+     * @author :loulan
+     */
+    BeanProperty(PropertyDescriptor descriptor, CopyProperty annotation) {
+        this.name = descriptor.getName();
+        this.type = descriptor.getPropertyType();
+        this.readMethod = descriptor.getReadMethod();
+        this.writeMethod = descriptor.getWriteMethod();
+        this.alias = ObjectTool.isNull(annotation) || annotation.value().isEmpty() ? null : annotation.value();
+        this.ignored = ObjectTool.isNotNull(annotation) && annotation.ignore();
+        this.format = ObjectTool.isNull(annotation) || annotation.format().isEmpty() ? null : annotation.format();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 获取属性的泛型类型，优先从读方法上获取，其次从写方法上获取
+     *
+     * @return 属性的泛型类型
+     * @author :loulan
+     */
+    Type getGenericType() {
+        if (ObjectTool.isNotNull(readMethod)) {
+            return readMethod.getGenericReturnType();
+        }
+        if (ObjectTool.isNotNull(writeMethod)) {
+            return writeMethod.getGenericParameterTypes()[0];
+        }
+        return type;
+    }
+
+    Method getReadMethod() {
+        return readMethod;
+    }
+
+    Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    String getAlias() {
+        return alias;
+    }
+
+    boolean isIgnored() {
+        return ignored;
+    }
+
+    String getFormat() {
+        return format;
+    }
+
+    boolean isReadable() {
+        return ObjectTool.isNotNull(readMethod);
+    }
+
+    boolean isWritable() {
+        return ObjectTool.isNotNull(writeMethod);
+    }
+
+    /**
+     * 获取属性读取器
+     *
+     * @return 属性读取器
+     * @author :loulan
+     */
+    Function<Object, Object> getter() {
+        Function<Object, Object> current = getter;
+        if (ObjectTool.isNull(current)) {
+            // 多线程同时生成也没有关系，生成的结果是等价的
+            current = BeanAccessorFactory.getter(readMethod);
+            getter = current;
+        }
+        return current;
+    }
+
+    /**
+     * 获取属性写入器
+     *
+     * @return 属性写入器
+     * @author :loulan
+     */
+    BiConsumer<Object, Object> setter() {
+        BiConsumer<Object, Object> current = setter;
+        if (ObjectTool.isNull(current)) {
+            // 多线程同时生成也没有关系，生成的结果是等价的
+            current = BeanAccessorFactory.setter(writeMethod);
+            setter = current;
+        }
+        return current;
+    }
+
+    /**
+     * 读取bean对象的属性值
+     *
+     * @param bean bean对象
+     * @return 属性值
+     * @author :loulan
+     */
+    Object read(Object bean) {
+        return getter().apply(bean);
+    }
+
+    /**
+     * 设置bean对象的属性值
+     *
+     * @param bean  bean对象
+     * @param value 属性值
+     * @author :loulan
+     */
+    void write(Object bean, Object value) {
+        setter().accept(bean, value);
+    }
+}
@@ -2,12 +2,17 @@ package io.github.loulangogogo.water.bean;
 
 import io.github.loulangogogo.water.collection.CollectionTool;
 import io.github.loulangogogo.water.exception.CopyPropertieException;
-import io.github.loulangogogo.water.stream.CollectorTool;
+import io.github.loulangogogo.water.thread.ThreadTool;
 import io.github.loulangogogo.water.tool.ObjectTool;
+import io.github.loulangogogo.water.tool.ReflectTool;
 
-import java.io.*;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 /*********************************************************
  ** 对象工具类
@@ -16,6 +21,13 @@ import java.util.stream.Stream;
  ** @since 8
  *********************************************************/
 public class BeanTool {
+    /**
+     * 集合转换时默认的并行阈值，集合元素个数达到该值时才会进行分块并行转换
+     *
+     * @author :loulan
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
     /**
      * 进行对象属性复制
      *
@@ -84,7 +96,7 @@ public class BeanTool {
      */
     public static <T> T copy(Object source, Class<T> clzz) {
         try {
-            T t = clzz.newInstance();
+            T t = newInstance(clzz);
             copy(source, t);
             return t;
         } catch (Exception ex) {
@@ -92,6 +104,47 @@ public class BeanTool {
         }
     }
 
+    /**
+     * 按照属性复制配置进行对象属性复制，配置中的忽略、重命名和命名风格以及{@link CopyProperty}注解只在第一次复制时解析，
+     * 之后使用缓存在配置对象上的复制计划
+     *
+     * @param source  复制的源对象(可以是bean对象，也可以是map集合)
+     * @param target  复制的目标对象(可以是bean对象，也可以是map集合)
+     * @param options 属性复制配置
+     * @author :loulan
+     */
+    public static void copy(Object source, Object target, CopyOptions options) {
+        try {
+            if (ObjectTool.isNull(source) || ObjectTool.isNull(target)) {
+                throw new NullPointerException("'source' object or 'target' object is null");
+            } else {
+                BeanPropertiesTool.copyProperties(source, target, options);
+            }
+        } catch (Exception ex) {
+            throw new CopyPropertieException(ex);
+        }
+    }
+
+    /**
+     * 按照属性复制配置将源对象属性复制到目标类的对象里
+     *
+     * @param <T>     泛型
+     * @param source  复制的源对象（可以是bean对象，也可以是Map集合）
+     * @param clzz    目标对象的类（必须是可以实例化的bean的类对象）
+     * @param options 属性复制配置
+     * @return class类文件对应的对象
+     * @author :loulan
+     */
+    public static <T> T copy(Object source, Class<T> clzz, CopyOptions options) {
+        try {
+            T t = newInstance(clzz);
+            copy(source, t, options);
+            return t;
+        } catch (Exception ex) {
+            throw new CopyPropertieException(ex);
+        }
+    }
+
     /**
      * 将Map集合数据复制到指定类的对象里，{@link BeanTool#copy(Object, Class)}也有map到bean的属性复制功能,<br>
      * 功能等同于{@link BeanTool#mapToBean(Map, Class)}
@@ -112,7 +165,7 @@ public class BeanTool {
 
     /**
      * 将一个对象(Map对象)的List集合转化为另一个对象(bean)的List集合<br>
-     * 还有一个{@link BeanTool#fastCopy(List, Class)}方法也可以实现这个共能，它们的区别是fastCopy更快但是集合对象顺序会乱，copy的满一些但顺序不会乱。
+     * 还有一个{@link BeanTool#fastCopy(List, Class)}方法也可以实现这个共能，它们的区别是fastCopy在大集合的时候会分块并行转换，copy始终是顺序转换的。
      *
      * @param <T>   泛型
      * @param source list的源对象(可以是bean对象，也可以是Map对象)
@@ -121,8 +174,8 @@ public class BeanTool {
      * @author :loulan
      */
     public static <T> List<T> copy(List<? extends Object> source, Class<T> clzz) {
-        List<T> list = CollectionTool.list();
-        collectionConvert(source, list, clzz, false);
+        List<T> list = new ArrayList<>(CollectionTool.isEmpty(source) ? 0 : source.size());
+        collectionConvert(source, list, clzz);
         return list;
     }
 
@@ -137,7 +190,7 @@ public class BeanTool {
      */
     public static <T> Set<T> copy(Set<? extends Object> source, Class<T> clzz) {
         Set<T> set = CollectionTool.set();
-        collectionConvert(source, set, clzz, true);
+        collectionConvert(source, set, clzz);
         return set;
     }
 
@@ -150,7 +203,7 @@ public class BeanTool {
      */
     public static List<Map<String, Object>> copy(List<? extends Object> source) {
         List<Map<String, Object>> list = CollectionTool.list();
-        collectionConvert(source, list, false);
+        collectionConvert(source, list);
         return list;
     }
 
@@ -163,25 +216,39 @@ public class BeanTool {
      */
     public static Set<Map<String, Object>> copy(Set<? extends Object> source) {
         Set<Map<String, Object>> set = CollectionTool.set();
-        collectionConvert(source, set, true);
+        collectionConvert(source, set);
         return set;
     }
 
     /**
-     * bean对象的List集合转化为Map对象的List集合
+     * bean对象的List集合转化为Map对象的List集合，
+     * 元素个数达到{@link #DEFAULT_PARALLEL_THRESHOLD}时使用{@link ForkJoinPool#commonPool()}分块并行转换
      *
      * @param source 源对象的list集合（只能是bean对象的）
      * @return {@link Map}对象的list集合
      * @author :loulan
      */
     public static List<Map<String, Object>> fastCopy(List<? extends Object> source) {
-        List<Map<String, Object>> list = CollectionTool.list();
-        collectionConvert(source, list, true);
-        return list;
+        return fastCopy(source, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * bean对象的List集合转化为Map对象的List集合，元素个数达到{@code parallelThreshold}时使用{@code executor}分块并行转换，
+     * 转换结果的顺序和源集合一致
+     *
+     * @param source            源对象的list集合（只能是bean对象的）
+     * @param parallelThreshold 并行转换的元素个数阈值
+     * @param executor          并行转换使用的执行器（为{@code null}时顺序转换）
+     * @return {@link Map}对象的list集合
+     * @author :loulan
+     */
+    public static List<Map<String, Object>> fastCopy(List<? extends Object> source, int parallelThreshold, Executor executor) {
+        return ThreadTool.parallelMap(source, data -> copy(data), parallelThreshold, executor);
     }
 
     /**
-     * 将一个对象(Map对象)的List集合转化为另一个对象(bean)的List集合(速度比{@link BeanTool#copy(List, Class)}的快)
+     * 将一个对象(Map对象)的List集合转化为另一个对象(bean)的List集合，
+     * 元素个数达到{@link #DEFAULT_PARALLEL_THRESHOLD}时使用{@link ForkJoinPool#commonPool()}分块并行转换
      *
      * @param <T>   泛型
      * @param source list的源对象(可以是bean对象，也可以是Map对象)
@@ -190,13 +257,85 @@ public class BeanTool {
      * @author :loulan
      */
     public static <T> List<T> fastCopy(List<? extends Object> source, Class<T> clzz) {
-        List<T> list = CollectionTool.list();
-        collectionConvert(source, list, clzz, true);
-        return list;
+        return fastCopy(source, clzz, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
     }
 
     /**
-     * 将对象的的属性复制到map集合里面
+     * 将一个对象(Map对象)的List集合转化为另一个对象(bean)的List集合，
+     * 元素个数达到{@code parallelThreshold}时使用{@code executor}分块并行转换，转换结果的顺序和源集合一致。
+     * <p>
+     * 单个对象的属性复制始终是顺序执行的，并行只发生在集合层面，小集合不会因为并行调度反而变慢。
+     *
+     * @param <T>               泛型
+     * @param source            list的源对象(可以是bean对象，也可以是Map对象)
+     * @param clzz              目标对象的类对象(只能bean对象)
+     * @param parallelThreshold 并行转换的元素个数阈值
+     * @param executor          并行转换使用的执行器（为{@code null}时顺序转换）
+     * @return 目标对象的list集合
+     * @author :loulan
+     */
+    public static <T> List<T> fastCopy(List<? extends Object> source, Class<T> clzz, int parallelThreshold, Executor executor) {
+        return ThreadTool.parallelMap(source, copyFunction(clzz), parallelThreshold, executor);
+    }
+
+    /**
+     * 对象的深度复制，生成一个和源对象类型相同的新对象。
+     * <p>
+     * 嵌套的bean对象、集合、Map以及数组都会生成新的对象，循环引用的对象只复制一次（复制后依然保持循环引用），
+     * 字符串、枚举等不可变的值直接共享，子类的值按照实际类型复制，不使用java的序列化。
+     *
+     * @param <T>    泛型
+     * @param source 复制的源对象（bean对象、集合、Map或者数组）
+     * @return 复制后的新对象
+     * @throws CopyPropertieException 有无法深度复制的可变java类型（例如{@link StringBuilder}）的属性
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T source) {
+        if (ObjectTool.isNull(source)) {
+            return null;
+        }
+        return (T) deepCopy(source, source.getClass());
+    }
+
+    /**
+     * 对象的深度复制，将源对象深度复制为指定类的对象，
+     * 同名属性的类型不同时嵌套的bean对象按照目标属性的类型（包括集合元素的泛型类型）进行复制，值类型使用{@link ConverterRegistry}转换
+     *
+     * @param <T>    泛型
+     * @param source 复制的源对象(可以是bean对象，也可以是Map集合)
+     * @param clzz   目标对象的类对象
+     * @return 目标对象
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(Object source, Class<T> clzz) {
+        if (ObjectTool.isNull(source)) {
+            return null;
+        }
+        Object target = new BeanDeepCopier(ConverterRegistry.getDefault()).copy(source, clzz);
+        if (target == BeanDeepCopier.SKIP) {
+            throw new CopyPropertieException("无法将" + source.getClass().getName() + "深度复制为" + clzz.getName());
+        }
+        return (T) target;
+    }
+
+    /**
+     * 对象的深度复制，将源对象的属性深度复制到目标对象中
+     *
+     * @param source 复制的源对象(可以是bean对象，也可以是Map集合)
+     * @param target 复制的目标对象(可以是bean对象，也可以是Map集合)
+     * @author :loulan
+     */
+    public static void deepCopy(Object source, Object target) {
+        if (ObjectTool.isNull(source) || ObjectTool.isNull(target)) {
+            throw new CopyPropertieException("'source' object or 'target' object is null");
+        }
+        new BeanDeepCopier(ConverterRegistry.getDefault()).copyInto(source, target);
+    }
+
+    /**
+     * 将对象的的属性复制到map集合里面（值为null的属性不复制）
      *
      * @param sourceObj 要进行属性复制的对象（只能是bean对象）
      * @param targetMap 目标map集合
@@ -211,22 +350,63 @@ public class BeanTool {
     }
 
     /**
-     * 将对象的的属性复制到map集合里面
+     * 将对象的的属性复制到map集合里面（值为null的属性不复制）
      *
      * @param sourceObj 要进行属性复制的对象（只能是bean对象）
      * @return map对象
      * @author :loulan
      */
     public static Map<String, Object> beanToMap(Object sourceObj) {
+        return beanToMap(sourceObj, true);
+    }
+
+    /**
+     * 将对象的的属性复制到map集合里面，每个属性的读方法只会调用一次
+     *
+     * @param sourceObj  要进行属性复制的对象（只能是bean对象）
+     * @param targetMap  目标map集合
+     * @param ignoreNull 是否忽略值为null的属性
+     * @author :loulan
+     */
+    public static void beanToMap(Object sourceObj, Map<String, Object> targetMap, boolean ignoreNull) {
+        try {
+            BeanPropertiesTool.beanToMap(sourceObj, targetMap, ignoreNull);
+        } catch (Exception ex) {
+            throw new CopyPropertieException(ex);
+        }
+    }
+
+    /**
+     * 将对象的的属性复制到map集合里面，返回的map集合按照属性个数预先分配容量
+     *
+     * @param sourceObj  要进行属性复制的对象（只能是bean对象）
+     * @param ignoreNull 是否忽略值为null的属性
+     * @return map对象
+     * @author :loulan
+     */
+    public static Map<String, Object> beanToMap(Object sourceObj, boolean ignoreNull) {
         try {
-            Map<String, Object> target = new HashMap<>();
-            beanToMap(sourceObj, target);
-            return target;
+            return BeanPropertiesTool.beanToMap(sourceObj, ignoreNull);
         } catch (Exception ex) {
             throw new CopyPropertieException(ex);
         }
     }
 
+    /**
+     * 按照属性复制配置将对象的属性复制到map集合里面，map的key直接按照配置生成（例如驼峰转下划线），
+     * 不需要再对转换后的map进行二次处理
+     *
+     * @param sourceObj 要进行属性复制的对象（只能是bean对象）
+     * @param options   属性复制配置
+     * @return map对象
+     * @author :loulan
+     */
+    public static Map<String, Object> beanToMap(Object sourceObj, CopyOptions options) {
+        Map<String, Object> map = new HashMap<>();
+        copy(sourceObj, map, options);
+        return map;
+    }
+
     /**
      * 将map集合数据复制到对象属性里面
      * <p>
@@ -263,7 +443,7 @@ public class BeanTool {
     @Deprecated
     public static <T> T mapToBean(Map<String, ? extends Object> sourceMap, Class<T> clzz) {
         try {
-            T t = clzz.newInstance();
+            T t = newInstance(clzz);
             mapToBean(sourceMap, t);
             return t;
         } catch (Exception ex) {
@@ -278,20 +458,19 @@ public class BeanTool {
      * @param datas  源对象集合
      * @param target 目标集合
      * @param clzz   目标对象的类对象
-     * @param isFast 是否快速转换（使用的是java8的Stream的并行流）
      * @author :loulan
      */
-    private static <T> void collectionConvert(Collection<? extends Object> datas, Collection<T> target, Class<T> clzz, boolean isFast) {
+    private static <T> void collectionConvert(Collection<? extends Object> datas, Collection<T> target, Class<T> clzz) {
         // 判断集合是否为空，如果为空的话，直接返回一个空集合就可以了
         if (CollectionTool.isEmpty(datas)) {
             return;
         }
 
-        // 看看是否需要快速转化，所谓的快速转化就是stream是否并行，并行会乱了顺序
-        Stream<?> datasStream = isFast ? datas.parallelStream() : datas.stream();
-
         // 遍历转换
-        target.addAll(datasStream.map(data -> copy(data, clzz)).collect(CollectorTool.toList()));
+        Function<Object, T> function = copyFunction(clzz);
+        for (Object data : datas) {
+            target.add(function.apply(data));
+        }
     }
 
     /**
@@ -299,19 +478,187 @@ public class BeanTool {
      *
      * @param datas  源对象集合
      * @param target Map<String,Object> 的list集合
-     * @param isFast 是否快速转换（使用的是java8的Stream的并行流）
      * @author :loulan
      */
-    private static void collectionConvert(Collection<? extends Object> datas, Collection<Map<String, Object>> target, boolean isFast) {
+    private static void collectionConvert(Collection<? extends Object> datas, Collection<Map<String, Object>> target) {
         // 判断集合是否为空，如果为空的话，直接返回一个空集合就可以了
         if (CollectionTool.isEmpty(datas)) {
             return;
         }
 
-        // 看看是否需要快速转化，所谓的快速转化就是stream是否并行，并行会乱了顺序
-        Stream<?> datasStream = isFast ? datas.parallelStream() : datas.stream();
-
         // 遍历转换
-        target.addAll(datasStream.map(data -> copy(data)).collect(CollectorTool.toList()));
+        for (Object data : datas) {
+            target.add(copy(data));
+        }
+    }
+
+    /**
+     * 通过无参构造方法创建对象（构造方法只查找一次并缓存）
+     *
+     * @param <T>  泛型
+     * @param clzz 类对象
+     * @return 创建的对象
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstance(Class<T> clzz) {
+        return (T) BeanDescriptor.of(clzz).newInstance();
+    }
+
+    /**
+     * 生成批量转换使用的复制函数，目标类的构造器只解析一次，
+     * 源对象的复制器按照元素的类型解析，连续相同类型的元素复用同一个复制器
+     *
+     * @param <T>  泛型
+     * @param clzz 目标对象的类对象
+     * @return 复制函数
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Function<Object, T> copyFunction(Class<T> clzz) {
+        BeanDescriptor targetDescriptor = BeanDescriptor.of(clzz);
+        // 复制器是不可变对象，多个线程之间竞争读写最近使用的复制器也没有问题
+        BeanCopier[] lastCopier = new BeanCopier[1];
+        return data -> {
+            try {
+                if (ObjectTool.isNull(data)) {
+                    throw new NullPointerException("'source' object is null");
+                }
+                T target = (T) targetDescriptor.newInstance();
+                if (data instanceof Map) {
+                    BeanPropertiesTool.mapToBean((Map<String, ? extends Object>) data, target);
+                } else {
+                    BeanCopier copier = lastCopier[0];
+                    if (ObjectTool.isNull(copier) || copier.getSourceClass() != data.getClass()) {
+                        copier = BeanCopier.create(data.getClass(), clzz);
+                        lastCopier[0] = copier;
+                    }
+                    copier.copy(data, target);
+                }
+                return target;
+            } catch (CopyPropertieException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new CopyPropertieException(ex);
+            }
+        };
+    }
+
+    /**
+     * 预热指定类的属性复制缓存和反射元数据（在当前线程顺序执行），适合在服务启动时调用，
+     * 避免第一次属性复制时在业务线程上进行内省和生成访问器。
+     * <p>
+     * 每个类预热的内容：反射元数据、属性描述信息、bean和map之间的转换计划、同类之间的复制计划、
+     * 无参构造方法的对象创建函数以及紧凑序列化的类信息（可序列化的类）。
+     * 单个类预热失败不会影响其他类，失败的类和异常记录在预热报告中。
+     *
+     * @param classes 要预热的类
+     * @return 预热报告
+     * @author :loulan
+     */
+    public static WarmUpReport warmUp(Collection<? extends Class<?>> classes) {
+        return warmUp(classes, null);
+    }
+
+    /**
+     * 预热指定类的属性复制缓存和反射元数据，{@code executor}不为{@code null}时使用{@code executor}并行预热，
+     * 预热内容见{@link #warmUp(Collection)}
+     *
+     * @param classes  要预热的类
+     * @param executor 并行预热使用的执行器（为{@code null}时顺序预热）
+     * @return 预热报告
+     * @author :loulan
+     */
+    public static WarmUpReport warmUp(Collection<? extends Class<?>> classes, Executor executor) {
+        long start = System.nanoTime();
+        List<Object[]> results = ThreadTool.parallelMap(classes, clzz -> {
+            long classStart = System.nanoTime();
+            Throwable failure = null;
+            try {
+                warmUpClass(clzz);
+            } catch (RuntimeException | LinkageError ex) {
+                failure = ex;
+            }
+            return new Object[]{clzz, System.nanoTime() - classStart, failure};
+        }, 2, executor);
+
+        Map<Class<?>, Long> elapsedNanos = new LinkedHashMap<>(results.size() * 4 / 3 + 1);
+        Map<Class<?>, Throwable> failures = new LinkedHashMap<>();
+        for (Object[] result : results) {
+            elapsedNanos.put((Class<?>) result[0], (Long) result[1]);
+            if (ObjectTool.isNotNull(result[2])) {
+                failures.put((Class<?>) result[0], (Throwable) result[2]);
+            }
+        }
+        return new WarmUpReport(elapsedNanos, failures, System.nanoTime() - start);
+    }
+
+    /**
+     * 扫描指定包（包括子包）下的类并在当前线程顺序预热，见{@link #warmUp(String, Executor)}
+     *
+     * @param packageName 包名
+     * @return 预热报告
+     * @author :loulan
+     */
+    public static WarmUpReport warmUp(String packageName) {
+        return warmUp(packageName, null);
+    }
+
+    /**
+     * 扫描指定包（包括子包）下的类并预热，接口、注解、枚举以及匿名类会被跳过，预热内容见{@link #warmUp(Collection)}
+     *
+     * @param packageName 包名
+     * @param executor    并行预热使用的执行器（为{@code null}时顺序预热）
+     * @return 预热报告
+     * @author :loulan
+     */
+    public static WarmUpReport warmUp(String packageName, Executor executor) {
+        List<Class<?>> classes = new ArrayList<>();
+        for (Class<?> clzz : ReflectTool.scanClasses(packageName)) {
+            if (!clzz.isInterface() && !clzz.isEnum() && !clzz.isAnonymousClass() && !clzz.isSynthetic()) {
+                classes.add(clzz);
+            }
+        }
+        return warmUp(classes, executor);
+    }
+
+    /**
+     * 预热单个类的缓存
+     *
+     * @param clzz 要预热的类
+     * @author :loulan
+     */
+    private static void warmUpClass(Class<?> clzz) {
+        ReflectTool.warmUp(clzz);
+        if (clzz.isInterface() || clzz.isArray() || clzz.isPrimitive() || clzz.isEnum()) {
+            return;
+        }
+        BeanDescriptor descriptor = BeanDescriptor.of(clzz);
+        CopyOptions options = CopyOptions.getDefault();
+        options.getMapWriter(clzz);
+        options.getMapReader(clzz);
+        BeanCopier.create(clzz, clzz);
+        if (!Modifier.isAbstract(clzz.getModifiers()) && hasNoArgConstructor(clzz)) {
+            descriptor.instantiator();
+        }
+        if (Serializable.class.isAssignableFrom(clzz)) {
+            CompactClassInfo.of(clzz);
+        }
+    }
+
+    /**
+     * 判断类是否有无参构造方法
+     *
+     * @param clzz 类对象
+     * @return 是否有无参构造方法
+     * @author :loulan
+     */
+    private static boolean hasNoArgConstructor(Class<?> clzz) {
+        for (Constructor<?> constructor : ReflectTool.getConstructors(clzz)) {
+            if (constructor.getParameterCount() == 0) {
+                return true;
+            }
+        }
+        return false;
     }
 }
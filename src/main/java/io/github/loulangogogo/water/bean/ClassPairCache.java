@@ -0,0 +1,134 @@
+package io.github.loulangogogo.water.bean;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/*********************************************************
+ ** 按照（源类，目标类）缓存的值（例如复制计划）。
+ ** <p>
+ ** 缓存的值一般会同时引用源类和目标类，所以值总是保存在类加载器层级更深的那个类上（{@link ClassValue}），
+ ** 父类加载器中的类不会因为缓存而让子类加载器（例如web应用、插件）无法卸载：
+ ** <pre>
+ **     1.目标类的类加载器是源类的类加载器的祖先（例如从插件的类复制到公共的类）时，值保存在源类上，源类被卸载的时候一起释放；
+ **     2.其它情况（同一个类加载器、源类的类加载器是祖先、没有关系的类加载器）值保存在目标类上，目标类被卸载的时候一起释放。
+ ** </pre>
+ ** 第2种情况中如果两个类加载器没有关系，目标类存在的时候会保持源类不被卸载。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class ClassPairCache<V> {
+
+    /**
+     * 值的创建函数，参数为源类和目标类
+     *
+     * @author :loulan
+     */
+    private final BiFunction<Class<?>, Class<?>, V> factory;
+
+    /**
+     * 保存在目标类上的值，外层按照源类，内层按照目标类
+     *
+     * @author :loulan
+     */
+    private final ClassValue<TargetValues<V>> onTarget = new ClassValue<TargetValues<V>>() {
+        @Override
+        protected TargetValues<V> computeValue(Class<?> sourceClass) {
+            return new TargetValues<>(sourceClass, factory);
+        }
+    };
+
+    /**
+     * 保存在源类上的值（目标类的类加载器是源类的类加载器的祖先），外层按照源类，内层按照目标类
+     *
+     * @author :loulan
+     */
+    private final ClassValue<Map<Class<?>, V>> onSource = new ClassValue<Map<Class<?>, V>>() {
+        @Override
+        protected Map<Class<?>, V> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * 创建缓存
+     *
+     * @param factory 值的创建函数，参数为源类和目标类，不能返回{@code null}
+     * @author :loulan
+     */
+    ClassPairCache(BiFunction<Class<?>, Class<?>, V> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * 获取缓存的值，不存在时创建
+     *
+     * @param sourceClass 源类
+     * @param targetClass 目标类
+     * @return 缓存的值
+     * @author :loulan
+     */
+    V get(Class<?> sourceClass, Class<?> targetClass) {
+        ClassLoader sourceLoader = sourceClass.getClassLoader();
+        ClassLoader targetLoader = targetClass.getClassLoader();
+        if (sourceLoader != targetLoader && isAncestor(targetLoader, sourceLoader)) {
+            Map<Class<?>, V> values = onSource.get(sourceClass);
+            V value = values.get(targetClass);
+            if (value == null) {
+                value = values.computeIfAbsent(targetClass, clzz -> factory.apply(sourceClass, clzz));
+            }
+            return value;
+        }
+        return onTarget.get(sourceClass).get(targetClass);
+    }
+
+    /**
+     * 判断一个类加载器是否是另一个类加载器的祖先（启动类加载器{@code null}是所有类加载器的祖先）
+     *
+     * @param ancestor 可能的祖先类加载器
+     * @param loader   类加载器
+     * @return 是否是祖先
+     * @author :loulan
+     */
+    private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+        if (ancestor == null) {
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 保存在目标类上的值，每个源类一个。
+     * 只弱引用创建函数，避免保存在类上的值反过来引用缓存对象，导致不再使用的缓存无法释放；
+     * 能调用到{@link #get(Class)}的时候缓存对象一定还在使用，创建函数不会被回收。
+     *
+     * @author :loulan
+     */
+    private static final class TargetValues<V> extends ClassValue<V> {
+
+        private final Class<?> sourceClass;
+
+        private final WeakReference<BiFunction<Class<?>, Class<?>, V>> factory;
+
+        private TargetValues(Class<?> sourceClass, BiFunction<Class<?>, Class<?>, V> factory) {
+            this.sourceClass = sourceClass;
+            this.factory = new WeakReference<>(factory);
+        }
+
+        @Override
+        protected V computeValue(Class<?> targetClass) {
+            BiFunction<Class<?>, Class<?>, V> function = factory.get();
+            if (function == null) {
+                throw new IllegalStateException("cache has been released");
+            }
+            return function.apply(sourceClass, targetClass);
+        }
+    }
+}
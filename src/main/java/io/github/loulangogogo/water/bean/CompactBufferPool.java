@@ -0,0 +1,140 @@
+package io.github.loulangogogo.water.bean;
+
+/*********************************************************
+ ** {@link CompactSerializer}使用的线程缓冲池，每个线程复用同一个编码输出（包括其中可以自动扩容的缓冲区、
+ ** 引用表和类表）以及同一个解码用的byte数组，序列化的过程除了最终的结果之外不再产生额外的垃圾对象。
+ ** <p>
+ ** 缓冲区被占用时（例如在自定义序列化方法中又调用了序列化）会临时创建新的缓冲区；
+ ** 超过{@link #MAX_POOLED_SIZE}的缓冲区用完之后不再保留，避免一次大对象的序列化长期占用内存。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class CompactBufferPool {
+
+    /**
+     * 缓冲区的初始大小
+     *
+     * @author :loulan
+     */
+    static final int INITIAL_SIZE = 256;
+
+    /**
+     * 可以保留在线程中的缓冲区的最大大小
+     *
+     * @author :loulan
+     */
+    static final int MAX_POOLED_SIZE = 1 << 20;
+
+    /**
+     * 每个线程的缓冲池
+     *
+     * @author :loulan
+     */
+    private static final ThreadLocal<CompactBufferPool> POOLS = ThreadLocal.withInitial(CompactBufferPool::new);
+
+    /**
+     * 复用的编码输出
+     *
+     * @author :loulan
+     */
+    private final CompactOutput output = new CompactOutput(new byte[INITIAL_SIZE], 0);
+
+    /**
+     * 编码输出是否正在使用
+     *
+     * @author :loulan
+     */
+    private boolean outputInUse;
+
+    /**
+     * 复用的解码数组
+     *
+     * @author :loulan
+     */
+    private byte[] input = new byte[INITIAL_SIZE];
+
+    /**
+     * 解码数组是否正在使用
+     *
+     * @author :loulan
+     */
+    private boolean inputInUse;
+
+    /**
+     * 私有化构造器
+     *
+     * @author :loulan
+     */
+    private CompactBufferPool() {
+    }
+
+    /**
+     * 获取当前线程的编码输出，使用完之后必须调用{@link #releaseOutput(CompactOutput)}归还
+     *
+     * @param position 开始写入的位置
+     * @return 编码输出
+     * @author :loulan
+     */
+    static CompactOutput acquireOutput(int position) {
+        CompactBufferPool pool = POOLS.get();
+        if (pool.outputInUse) {
+            return new CompactOutput(new byte[INITIAL_SIZE], position);
+        }
+        pool.outputInUse = true;
+        pool.output.reset(position);
+        return pool.output;
+    }
+
+    /**
+     * 归还编码输出
+     *
+     * @param output 编码输出
+     * @author :loulan
+     */
+    static void releaseOutput(CompactOutput output) {
+        CompactBufferPool pool = POOLS.get();
+        if (pool.output == output) {
+            output.reset(0);
+            if (output.getBuffer().length > MAX_POOLED_SIZE) {
+                output.setBuffer(new byte[INITIAL_SIZE]);
+            }
+            pool.outputInUse = false;
+        }
+    }
+
+    /**
+     * 获取当前线程的解码数组（长度至少为指定的大小），使用完之后必须调用{@link #releaseInput(byte[])}归还
+     *
+     * @param size 需要的大小
+     * @return 解码数组
+     * @author :loulan
+     */
+    static byte[] acquireInput(int size) {
+        CompactBufferPool pool = POOLS.get();
+        if (pool.inputInUse) {
+            return new byte[size];
+        }
+        if (pool.input.length < size) {
+            pool.input = new byte[Math.max(size, pool.input.length << 1)];
+        }
+        pool.inputInUse = true;
+        return pool.input;
+    }
+
+    /**
+     * 归还解码数组
+     *
+     * @param input 解码数组
+     * @author :loulan
+     */
+    static void releaseInput(byte[] input) {
+        CompactBufferPool pool = POOLS.get();
+        if (pool.input == input) {
+            if (input.length > MAX_POOLED_SIZE) {
+                pool.input = new byte[INITIAL_SIZE];
+            }
+            pool.inputInUse = false;
+        }
+    }
+}
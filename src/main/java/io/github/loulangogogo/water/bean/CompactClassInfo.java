@@ -0,0 +1,393 @@
+package io.github.loulangogogo.water.bean;
+
+import java.io.Externalizable;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*********************************************************
+ ** {@link CompactSerializer}使用的类信息，每个类只分析一次并通过{@link ClassValue}缓存在类上。
+ ** <p>
+ ** 类信息中确定了类的编码方式（标签）；自定义的可序列化类还会确定需要序列化的字段以及字段的指纹，
+ ** 指纹用于反序列化时校验两端的类结构是否一致。
+ ** 以下类型使用java原生序列化进行编码（兼容原生序列化的语义）：
+ ** <pre>
+ **     1.没有无参构造方法的类；
+ **     2.定义了writeObject、readObject、writeReplace、readResolve等序列化方法的类，以及{@link Externalizable}的类；
+ **     3.继承了java自带的可序列化类的自定义类，以及没有单独处理的java自带的类。
+ ** </pre>
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class CompactClassInfo {
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_REF = 1;
+    static final byte TAG_STRING = 2;
+    static final byte TAG_INTEGER = 3;
+    static final byte TAG_LONG = 4;
+    static final byte TAG_BOOLEAN = 5;
+    static final byte TAG_DOUBLE = 6;
+    static final byte TAG_FLOAT = 7;
+    static final byte TAG_SHORT = 8;
+    static final byte TAG_BYTE = 9;
+    static final byte TAG_CHARACTER = 10;
+    static final byte TAG_BIG_DECIMAL = 11;
+    static final byte TAG_BIG_INTEGER = 12;
+    static final byte TAG_DATE = 13;
+    static final byte TAG_LOCAL_DATE = 14;
+    static final byte TAG_LOCAL_TIME = 15;
+    static final byte TAG_LOCAL_DATE_TIME = 16;
+    static final byte TAG_INSTANT = 17;
+    static final byte TAG_ENUM = 18;
+    static final byte TAG_ARRAY = 19;
+    static final byte TAG_COLLECTION = 20;
+    static final byte TAG_MAP = 21;
+    static final byte TAG_OBJECT = 22;
+    static final byte TAG_JDK = 23;
+
+    /**
+     * 字段类型：引用类型
+     *
+     * @author :loulan
+     */
+    static final byte FIELD_OBJECT = 0;
+    static final byte FIELD_INT = 1;
+    static final byte FIELD_LONG = 2;
+    static final byte FIELD_BOOLEAN = 3;
+    static final byte FIELD_DOUBLE = 4;
+    static final byte FIELD_FLOAT = 5;
+    static final byte FIELD_SHORT = 6;
+    static final byte FIELD_BYTE = 7;
+    static final byte FIELD_CHAR = 8;
+
+    /**
+     * 值类型和标签的对应关系
+     *
+     * @author :loulan
+     */
+    private static final Map<Class<?>, Byte> VALUE_TAGS = new IdentityHashMap<>();
+
+    /**
+     * 直接按照元素编码的集合类型以及对应的创建函数
+     *
+     * @author :loulan
+     */
+    private static final Map<Class<?>, Supplier<Object>> CONTAINERS = new IdentityHashMap<>();
+
+    static {
+        VALUE_TAGS.put(String.class, TAG_STRING);
+        VALUE_TAGS.put(Integer.class, TAG_INTEGER);
+        VALUE_TAGS.put(Long.class, TAG_LONG);
+        VALUE_TAGS.put(Boolean.class, TAG_BOOLEAN);
+        VALUE_TAGS.put(Double.class, TAG_DOUBLE);
+        VALUE_TAGS.put(Float.class, TAG_FLOAT);
+        VALUE_TAGS.put(Short.class, TAG_SHORT);
+        VALUE_TAGS.put(Byte.class, TAG_BYTE);
+        VALUE_TAGS.put(Character.class, TAG_CHARACTER);
+        VALUE_TAGS.put(BigDecimal.class, TAG_BIG_DECIMAL);
+        VALUE_TAGS.put(BigInteger.class, TAG_BIG_INTEGER);
+        VALUE_TAGS.put(Date.class, TAG_DATE);
+        VALUE_TAGS.put(LocalDate.class, TAG_LOCAL_DATE);
+        VALUE_TAGS.put(LocalTime.class, TAG_LOCAL_TIME);
+        VALUE_TAGS.put(LocalDateTime.class, TAG_LOCAL_DATE_TIME);
+        VALUE_TAGS.put(Instant.class, TAG_INSTANT);
+
+        CONTAINERS.put(ArrayList.class, ArrayList::new);
+        CONTAINERS.put(LinkedList.class, LinkedList::new);
+        CONTAINERS.put(HashSet.class, HashSet::new);
+        CONTAINERS.put(LinkedHashSet.class, LinkedHashSet::new);
+        CONTAINERS.put(TreeSet.class, TreeSet::new);
+        CONTAINERS.put(ArrayDeque.class, ArrayDeque::new);
+        CONTAINERS.put(HashMap.class, HashMap::new);
+        CONTAINERS.put(LinkedHashMap.class, LinkedHashMap::new);
+        CONTAINERS.put(TreeMap.class, TreeMap::new);
+        CONTAINERS.put(ConcurrentHashMap.class, ConcurrentHashMap::new);
+    }
+
+    /**
+     * 类信息的缓存
+     *
+     * @author :loulan
+     */
+    private static final ClassValue<CompactClassInfo> CACHE = new ClassValue<CompactClassInfo>() {
+        @Override
+        protected CompactClassInfo computeValue(Class<?> type) {
+            return new CompactClassInfo(type);
+        }
+    };
+
+    /**
+     * 类对象
+     *
+     * @author :loulan
+     */
+    final Class<?> type;
+
+    /**
+     * 编码使用的标签
+     *
+     * @author :loulan
+     */
+    final byte tag;
+
+    /**
+     * 需要序列化的字段（只有自定义的可序列化类才有）
+     *
+     * @author :loulan
+     */
+    final Field[] fields;
+
+    /**
+     * 字段的类型，和{@link #fields}按下标一一对应
+     *
+     * @author :loulan
+     */
+    final byte[] fieldTypes;
+
+    /**
+     * 字段结构的指纹
+     *
+     * @author :loulan
+     */
+    final int fingerprint;
+
+    /**
+     * 对象的创建函数（自定义的可序列化类和集合类才有）
+     *
+     * @author :loulan
+     */
+    final Supplier<Object> constructor;
+
+    /**
+     * 枚举类的所有枚举值（只有枚举类才有）
+     *
+     * @author :loulan
+     */
+    final Object[] enumConstants;
+
+    /**
+     * 分析类信息
+     *
+     * @param type 类对象
+     * @author :loulan
+     */
+    private CompactClassInfo(Class<?> type) {
+        this.type = type;
+        Byte valueTag = VALUE_TAGS.get(type);
+        Field[] objectFields = null;
+        Supplier<Object> objectConstructor = CONTAINERS.get(type);
+        byte resolvedTag;
+        if (valueTag != null) {
+            resolvedTag = valueTag;
+        } else if (type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum())) {
+            resolvedTag = TAG_ENUM;
+        } else if (type.isArray()) {
+            resolvedTag = TAG_ARRAY;
+        } else if (objectConstructor != null) {
+            resolvedTag = Map.class.isAssignableFrom(type) ? TAG_MAP : TAG_COLLECTION;
+        } else {
+            objectFields = objectFields(type);
+            objectConstructor = objectFields == null ? null : objectConstructor(type);
+            resolvedTag = objectConstructor == null ? TAG_JDK : TAG_OBJECT;
+        }
+
+        this.tag = resolvedTag;
+        this.constructor = objectConstructor;
+        this.enumConstants = type.isEnum() ? type.getEnumConstants() : null;
+        if (resolvedTag == TAG_OBJECT) {
+            this.fields = objectFields;
+            this.fieldTypes = new byte[objectFields.length];
+            int hash = type.getName().hashCode();
+            for (int i = 0; i < objectFields.length; i++) {
+                fieldTypes[i] = fieldType(objectFields[i].getType());
+                hash = 31 * hash + objectFields[i].getName().hashCode();
+                hash = 31 * hash + objectFields[i].getType().getName().hashCode();
+            }
+            this.fingerprint = hash;
+        } else {
+            this.fields = new Field[0];
+            this.fieldTypes = new byte[0];
+            this.fingerprint = 0;
+        }
+    }
+
+    /**
+     * 获取类信息
+     *
+     * @param type 类对象
+     * @return 类信息
+     * @author :loulan
+     */
+    static CompactClassInfo of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 判断集合对象是否可以直接按照元素编码（排序集合只支持自然排序）
+     *
+     * @param container 集合对象
+     * @return 是否可以直接按照元素编码
+     * @author :loulan
+     */
+    static boolean isPlainContainer(Object container) {
+        Comparator<?> comparator = null;
+        if (container instanceof TreeSet) {
+            comparator = ((TreeSet<?>) container).comparator();
+        } else if (container instanceof TreeMap) {
+            comparator = ((TreeMap<?, ?>) container).comparator();
+        }
+        return comparator == null;
+    }
+
+    /**
+     * 获取自定义可序列化类需要序列化的字段（父类的字段在前，同一个类中的字段按名称排序），
+     * 不能使用字段直接编码的类返回null
+     *
+     * @param type 类对象
+     * @return 字段数组
+     * @author :loulan
+     */
+    private static Field[] objectFields(Class<?> type) {
+        if (!Serializable.class.isAssignableFrom(type) || Externalizable.class.isAssignableFrom(type)
+                || Proxy.isProxyClass(type) || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> clzz = type; clzz != null && Serializable.class.isAssignableFrom(clzz); clzz = clzz.getSuperclass()) {
+            if (isJdkClass(clzz) || hasSerializationMethod(clzz)) {
+                return null;
+            }
+            hierarchy.add(0, clzz);
+        }
+
+        List<Field> list = new ArrayList<>();
+        for (Class<?> clzz : hierarchy) {
+            Field[] declaredFields = clzz.getDeclaredFields();
+            Arrays.sort(declaredFields, Comparator.comparing(Field::getName));
+            for (Field field : declaredFields) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                } catch (RuntimeException ex) {
+                    return null;
+                }
+                list.add(field);
+            }
+        }
+        return list.toArray(new Field[0]);
+    }
+
+    /**
+     * 获取自定义可序列化类的创建函数（通过无参构造方法），没有无参构造方法时返回null
+     *
+     * @param type 类对象
+     * @return 创建函数
+     * @author :loulan
+     */
+    private static Supplier<Object> objectConstructor(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            return BeanAccessorFactory.constructor(constructor);
+        } catch (NoSuchMethodException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 判断类是否是java自带的类
+     *
+     * @param type 类对象
+     * @return 是否是java自带的类
+     * @author :loulan
+     */
+    private static boolean isJdkClass(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.") || name.startsWith("jdk.");
+    }
+
+    /**
+     * 判断类中是否定义了自定义序列化相关的方法或者字段
+     *
+     * @param type 类对象
+     * @return 是否定义了自定义序列化方法
+     * @author :loulan
+     */
+    private static boolean hasSerializationMethod(Class<?> type) {
+        for (Method method : type.getDeclaredMethods()) {
+            switch (method.getName()) {
+                case "writeObject":
+                case "readObject":
+                case "readObjectNoData":
+                case "writeReplace":
+                case "readResolve":
+                    return true;
+                default:
+            }
+        }
+        try {
+            type.getDeclaredField("serialPersistentFields");
+            return true;
+        } catch (NoSuchFieldException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 获取字段的编码类型
+     *
+     * @param type 字段的类型
+     * @return 字段的编码类型
+     * @author :loulan
+     */
+    private static byte fieldType(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return FIELD_OBJECT;
+        } else if (int.class.equals(type)) {
+            return FIELD_INT;
+        } else if (long.class.equals(type)) {
+            return FIELD_LONG;
+        } else if (boolean.class.equals(type)) {
+            return FIELD_BOOLEAN;
+        } else if (double.class.equals(type)) {
+            return FIELD_DOUBLE;
+        } else if (float.class.equals(type)) {
+            return FIELD_FLOAT;
+        } else if (short.class.equals(type)) {
+            return FIELD_SHORT;
+        } else if (byte.class.equals(type)) {
+            return FIELD_BYTE;
+        }
+        return FIELD_CHAR;
+    }
+}
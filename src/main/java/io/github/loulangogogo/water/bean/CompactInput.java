@@ -0,0 +1,534 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.exception.SerializeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.loulangogogo.water.bean.CompactClassInfo.*;
+
+/*********************************************************
+ ** {@link CompactSerializer}的解码输入，从byte数组的指定范围中解码对象，和{@link CompactOutput}一一对应。
+ ** <p>
+ ** 解码时会校验类的编码方式和字段指纹，两端的类结构不一致时抛出{@link SerializeException}，
+ ** 并且只会创建可序列化的类的对象。
+ ** 当前对象保存了一次反序列化过程的状态，不能在多个线程之间共享。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class CompactInput {
+
+    /**
+     * 解码的数据
+     *
+     * @author :loulan
+     */
+    private final byte[] buffer;
+
+    /**
+     * 当前读取的位置
+     *
+     * @author :loulan
+     */
+    private int position;
+
+    /**
+     * 可以读取的结束位置（不包含）
+     *
+     * @author :loulan
+     */
+    private final int limit;
+
+    /**
+     * 已经解码的对象，下标就是引用编号
+     *
+     * @author :loulan
+     */
+    private final List<Object> references = new ArrayList<>();
+
+    /**
+     * 已经读取的类，下标就是类编号
+     *
+     * @author :loulan
+     */
+    private final List<Class<?>> classes = new ArrayList<>();
+
+    /**
+     * 创建解码输入
+     *
+     * @param buffer   数据
+     * @param position 开始读取的位置
+     * @param limit    结束位置（不包含）
+     * @author :loulan
+     */
+    CompactInput(byte[] buffer, int position, int limit) {
+        this.buffer = buffer;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * 解码一个值
+     *
+     * @return 值
+     * @author :loulan
+     */
+    Object readValue() {
+        byte tag = readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_REF:
+                int reference = readVarInt();
+                if (reference >= references.size()) {
+                    throw new SerializeException("无效的对象引用：" + reference);
+                }
+                return references.get(reference);
+            case TAG_STRING:
+                return readString();
+            case TAG_INTEGER:
+                return unzigzag(readVarInt());
+            case TAG_LONG:
+                return unzigzag(readVarLong());
+            case TAG_BOOLEAN:
+                return readByte() != 0;
+            case TAG_DOUBLE:
+                return Double.longBitsToDouble(readLong());
+            case TAG_FLOAT:
+                return Float.intBitsToFloat(readInt());
+            case TAG_SHORT:
+                return (short) unzigzag(readVarInt());
+            case TAG_BYTE:
+                return readByte();
+            case TAG_CHARACTER:
+                return (char) readVarInt();
+            case TAG_BIG_DECIMAL:
+                int scale = unzigzag(readVarInt());
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case TAG_BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case TAG_DATE:
+                return new Date(unzigzag(readVarLong()));
+            case TAG_LOCAL_DATE:
+                return LocalDate.ofEpochDay(unzigzag(readVarLong()));
+            case TAG_LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(readVarLong());
+            case TAG_LOCAL_DATE_TIME:
+                LocalDate date = LocalDate.ofEpochDay(unzigzag(readVarLong()));
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong()));
+            case TAG_INSTANT:
+                long seconds = unzigzag(readVarLong());
+                return Instant.ofEpochSecond(seconds, readVarInt());
+            case TAG_ENUM:
+                CompactClassInfo enumInfo = readClass(TAG_ENUM);
+                int ordinal = readVarInt();
+                if (enumInfo.enumConstants == null || ordinal >= enumInfo.enumConstants.length) {
+                    throw new SerializeException("无效的枚举值：" + enumInfo.type.getName() + "#" + ordinal);
+                }
+                return enumInfo.enumConstants[ordinal];
+            case TAG_ARRAY:
+                return readArray(readClass(TAG_ARRAY).type.getComponentType());
+            case TAG_COLLECTION:
+                return readCollection(readClass(TAG_COLLECTION));
+            case TAG_MAP:
+                return readMap(readClass(TAG_MAP));
+            case TAG_OBJECT:
+                return readObject(readClass(TAG_OBJECT));
+            case TAG_JDK:
+                return readJdk();
+            default:
+                throw new SerializeException("无效的数据标签：" + tag);
+        }
+    }
+
+    /**
+     * 解码集合
+     *
+     * @param info 集合的类信息
+     * @return 集合
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private Object readCollection(CompactClassInfo info) {
+        Collection<Object> collection = (Collection<Object>) info.constructor.get();
+        references.add(collection);
+        int size = readVarInt();
+        for (int i = 0; i < size; i++) {
+            collection.add(readValue());
+        }
+        return collection;
+    }
+
+    /**
+     * 解码Map集合
+     *
+     * @param info Map集合的类信息
+     * @return Map集合
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private Object readMap(CompactClassInfo info) {
+        Map<Object, Object> map = (Map<Object, Object>) info.constructor.get();
+        references.add(map);
+        int size = readVarInt();
+        for (int i = 0; i < size; i++) {
+            Object key = readValue();
+            map.put(key, readValue());
+        }
+        return map;
+    }
+
+    /**
+     * 解码自定义对象（先通过无参构造方法创建对象，再逐个设置字段）
+     *
+     * @param info 类信息
+     * @return 对象
+     * @author :loulan
+     */
+    private Object readObject(CompactClassInfo info) {
+        Object value = info.constructor.get();
+        references.add(value);
+        Field[] fields = info.fields;
+        byte[] fieldTypes = info.fieldTypes;
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                switch (fieldTypes[i]) {
+                    case FIELD_INT:
+                        field.setInt(value, unzigzag(readVarInt()));
+                        break;
+                    case FIELD_LONG:
+                        field.setLong(value, unzigzag(readVarLong()));
+                        break;
+                    case FIELD_BOOLEAN:
+                        field.setBoolean(value, readByte() != 0);
+                        break;
+                    case FIELD_DOUBLE:
+                        field.setDouble(value, Double.longBitsToDouble(readLong()));
+                        break;
+                    case FIELD_FLOAT:
+                        field.setFloat(value, Float.intBitsToFloat(readInt()));
+                        break;
+                    case FIELD_SHORT:
+                        field.setShort(value, (short) unzigzag(readVarInt()));
+                        break;
+                    case FIELD_BYTE:
+                        field.setByte(value, readByte());
+                        break;
+                    case FIELD_CHAR:
+                        field.setChar(value, (char) readVarInt());
+                        break;
+                    default:
+                        field.set(value, readValue());
+                }
+            }
+        } catch (IllegalAccessException | IllegalArgumentException ex) {
+            throw new SerializeException("设置字段失败：" + info.type.getName(), ex);
+        }
+        return value;
+    }
+
+    /**
+     * 解码数组
+     *
+     * @param componentType 元素类型
+     * @return 数组
+     * @author :loulan
+     */
+    private Object readArray(Class<?> componentType) {
+        if (byte.class == componentType) {
+            byte[] values = readBytes();
+            references.add(values);
+            return values;
+        }
+        int length = readVarInt();
+        checkLength(length);
+        Object array = Array.newInstance(componentType, length);
+        references.add(array);
+        if (int.class == componentType) {
+            int[] values = (int[]) array;
+            for (int i = 0; i < length; i++) {
+                values[i] = unzigzag(readVarInt());
+            }
+        } else if (long.class == componentType) {
+            long[] values = (long[]) array;
+            for (int i = 0; i < length; i++) {
+                values[i] = unzigzag(readVarLong());
+            }
+        } else if (double.class == componentType) {
+            double[] values = (double[]) array;
+            for (int i = 0; i < length; i++) {
+                values[i] = Double.longBitsToDouble(readLong());
+            }
+        } else if (float.class == componentType) {
+            float[] values = (float[]) array;
+            for (int i = 0; i < length; i++) {
+                values[i] = Float.intBitsToFloat(readInt());
+            }
+        } else if (boolean.class == componentType) {
+            boolean[] values = (boolean[]) array;
+            for (int i = 0; i < length; i++) {
+                values[i] = readByte() != 0;
+            }
+        } else if (short.class == componentType) {
+            short[] values = (short[]) array;
+            for (int i = 0; i < length; i++) {
+                values[i] = (short) unzigzag(readVarInt());
+            }
+        } else if (char.class == componentType) {
+            char[] values = (char[]) array;
+            for (int i = 0; i < length; i++) {
+                values[i] = (char) readVarInt();
+            }
+        } else {
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < length; i++) {
+                values[i] = readValue();
+            }
+        }
+        return array;
+    }
+
+    /**
+     * 使用java原生序列化解码对象，对象流中的对象不会和外部已经解码的对象共享引用
+     *
+     * @return 对象
+     * @author :loulan
+     */
+    private Object readJdk() {
+        int length = readVarInt();
+        checkLength(length);
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(buffer, position, length))) {
+            Object value = inputStream.readObject();
+            position += length;
+            references.add(value);
+            return value;
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new SerializeException("反序列化对象失败", ex);
+        }
+    }
+
+    /**
+     * 读取类信息，并且校验类的编码方式和字段指纹
+     *
+     * @param tag 数据标签
+     * @return 类信息
+     * @author :loulan
+     */
+    private CompactClassInfo readClass(byte tag) {
+        int id = readVarInt();
+        Class<?> type;
+        if (id == 0) {
+            String name = readString();
+            int fingerprint = readInt();
+            type = loadClass(name);
+            if (CompactClassInfo.of(type).fingerprint != fingerprint) {
+                throw new SerializeException("类的结构和序列化时不一致：" + name);
+            }
+            classes.add(type);
+        } else if (id <= classes.size()) {
+            type = classes.get(id - 1);
+        } else {
+            throw new SerializeException("无效的类编号：" + id);
+        }
+        CompactClassInfo info = CompactClassInfo.of(type);
+        if (info.tag != tag) {
+            throw new SerializeException("类的编码方式和序列化时不一致：" + type.getName());
+        }
+        return info;
+    }
+
+    /**
+     * 加载类，优先使用线程上下文类加载器
+     *
+     * @param name 类名
+     * @return 类对象
+     * @author :loulan
+     */
+    private static Class<?> loadClass(String name) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        try {
+            return Class.forName(name, false, loader == null ? CompactInput.class.getClassLoader() : loader);
+        } catch (ClassNotFoundException ex) {
+            try {
+                return Class.forName(name, false, CompactInput.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new SerializeException("找不到类：" + name, e);
+            }
+        }
+    }
+
+    /**
+     * 读取字符串
+     *
+     * @return 字符串
+     * @author :loulan
+     */
+    String readString() {
+        int length = readVarInt();
+        checkLength(length);
+        char[] chars = new char[length];
+        byte[] buf = buffer;
+        int pos = position;
+        try {
+            for (int i = 0; i < length; i++) {
+                int b = buf[pos++] & 0xFF;
+                if (b < 0x80) {
+                    chars[i] = (char) b;
+                } else if (b < 0xE0) {
+                    chars[i] = (char) (((b & 0x1F) << 6) | (buf[pos++] & 0x3F));
+                } else {
+                    chars[i] = (char) (((b & 0x0F) << 12) | ((buf[pos++] & 0x3F) << 6) | (buf[pos++] & 0x3F));
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException ex) {
+            throw new SerializeException("数据不完整", ex);
+        }
+        if (pos > limit) {
+            throw new SerializeException("数据不完整");
+        }
+        position = pos;
+        return new String(chars);
+    }
+
+    /**
+     * 读取byte数组（长度加上内容）
+     *
+     * @return byte数组
+     * @author :loulan
+     */
+    byte[] readBytes() {
+        int length = readVarInt();
+        checkLength(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    /**
+     * 读取一个字节
+     *
+     * @return 字节
+     * @author :loulan
+     */
+    byte readByte() {
+        if (position >= limit) {
+            throw new SerializeException("数据不完整");
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * 读取固定4个字节的整数
+     *
+     * @return 整数
+     * @author :loulan
+     */
+    int readInt() {
+        checkLength(4);
+        byte[] buf = buffer;
+        int pos = position;
+        position = pos + 4;
+        return ((buf[pos] & 0xFF) << 24) | ((buf[pos + 1] & 0xFF) << 16) | ((buf[pos + 2] & 0xFF) << 8) | (buf[pos + 3] & 0xFF);
+    }
+
+    /**
+     * 读取固定8个字节的整数
+     *
+     * @return 长整数
+     * @author :loulan
+     */
+    long readLong() {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 读取变长编码的无符号整数
+     *
+     * @return 整数
+     * @author :loulan
+     */
+    int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = readByte();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new SerializeException("无效的变长整数");
+    }
+
+    /**
+     * 读取变长编码的无符号长整数
+     *
+     * @return 长整数
+     * @author :loulan
+     */
+    long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new SerializeException("无效的变长整数");
+    }
+
+    /**
+     * 校验剩余的数据是否足够
+     *
+     * @param length 需要的数据长度
+     * @author :loulan
+     */
+    private void checkLength(int length) {
+        if (length < 0 || length > limit - position) {
+            throw new SerializeException("数据不完整");
+        }
+    }
+
+    /**
+     * zigzag解码
+     *
+     * @param value 编码后的整数
+     * @return 原始整数
+     * @author :loulan
+     */
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * zigzag解码
+     *
+     * @param value 编码后的长整数
+     * @return 原始长整数
+     * @author :loulan
+     */
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,550 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.exception.SerializeException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static io.github.loulangogogo.water.bean.CompactClassInfo.*;
+
+/*********************************************************
+ ** {@link CompactSerializer}的编码输出，将对象编码到可以自动扩容的byte数组中。
+ ** <p>
+ ** 整数使用zigzag加变长编码，类名在一次序列化中只写入一次（之后写入类的编号），
+ ** 同一个对象（集合、数组以及自定义对象）只编码一次，再次出现时写入引用编号，循环引用也可以正确处理；
+ ** 使用java原生序列化编码的对象（见{@link #writeJdk(Object)}）内部的对象不参与引用编号。
+ ** 当前对象保存了一次序列化过程的状态，不能在多个线程之间共享。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class CompactOutput {
+
+    /**
+     * 编码的缓冲区
+     *
+     * @author :loulan
+     */
+    private byte[] buffer;
+
+    /**
+     * 当前写入的位置
+     *
+     * @author :loulan
+     */
+    private int position;
+
+    /**
+     * 已经编码过的对象和引用编号
+     *
+     * @author :loulan
+     */
+    private final Map<Object, Integer> references = new IdentityHashMap<>();
+
+    /**
+     * 已经写入过的类和类编号
+     *
+     * @author :loulan
+     */
+    private final Map<Class<?>, Integer> classes = new IdentityHashMap<>();
+
+    /**
+     * 创建编码输出
+     *
+     * @param buffer   初始的缓冲区
+     * @param position 开始写入的位置
+     * @author :loulan
+     */
+    CompactOutput(byte[] buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    void setBuffer(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 重置编码状态（清空引用表和类表），以便复用当前对象和缓冲区进行下一次序列化
+     *
+     * @param position 开始写入的位置
+     * @author :loulan
+     */
+    void reset(int position) {
+        this.position = position;
+        references.clear();
+        classes.clear();
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * 编码一个值
+     *
+     * @param value 值
+     * @author :loulan
+     */
+    void writeValue(Object value) {
+        if (value == null) {
+            writeByte(TAG_NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        CompactClassInfo info = CompactClassInfo.of(type);
+        switch (info.tag) {
+            case TAG_STRING:
+                writeByte(TAG_STRING);
+                writeString((String) value);
+                return;
+            case TAG_INTEGER:
+                writeByte(TAG_INTEGER);
+                writeVarInt(zigzag((Integer) value));
+                return;
+            case TAG_LONG:
+                writeByte(TAG_LONG);
+                writeVarLong(zigzag((Long) value));
+                return;
+            case TAG_BOOLEAN:
+                writeByte(TAG_BOOLEAN);
+                writeByte((Boolean) value ? 1 : 0);
+                return;
+            case TAG_DOUBLE:
+                writeByte(TAG_DOUBLE);
+                writeLong(Double.doubleToRawLongBits((Double) value));
+                return;
+            case TAG_FLOAT:
+                writeByte(TAG_FLOAT);
+                writeInt(Float.floatToRawIntBits((Float) value));
+                return;
+            case TAG_SHORT:
+                writeByte(TAG_SHORT);
+                writeVarInt(zigzag((Short) value));
+                return;
+            case TAG_BYTE:
+                writeByte(TAG_BYTE);
+                writeByte((Byte) value);
+                return;
+            case TAG_CHARACTER:
+                writeByte(TAG_CHARACTER);
+                writeVarInt((Character) value);
+                return;
+            case TAG_BIG_DECIMAL:
+                writeByte(TAG_BIG_DECIMAL);
+                writeVarInt(zigzag(((BigDecimal) value).scale()));
+                writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+                return;
+            case TAG_BIG_INTEGER:
+                writeByte(TAG_BIG_INTEGER);
+                writeBytes(((BigInteger) value).toByteArray());
+                return;
+            case TAG_DATE:
+                writeByte(TAG_DATE);
+                writeVarLong(zigzag(((Date) value).getTime()));
+                return;
+            case TAG_LOCAL_DATE:
+                writeByte(TAG_LOCAL_DATE);
+                writeVarLong(zigzag(((LocalDate) value).toEpochDay()));
+                return;
+            case TAG_LOCAL_TIME:
+                writeByte(TAG_LOCAL_TIME);
+                writeVarLong(((LocalTime) value).toNanoOfDay());
+                return;
+            case TAG_LOCAL_DATE_TIME:
+                writeByte(TAG_LOCAL_DATE_TIME);
+                writeVarLong(zigzag(((LocalDateTime) value).toLocalDate().toEpochDay()));
+                writeVarLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+                return;
+            case TAG_INSTANT:
+                writeByte(TAG_INSTANT);
+                writeVarLong(zigzag(((Instant) value).getEpochSecond()));
+                writeVarInt(((Instant) value).getNano());
+                return;
+            case TAG_ENUM:
+                writeByte(TAG_ENUM);
+                writeClass(((Enum<?>) value).getDeclaringClass());
+                writeVarInt(((Enum<?>) value).ordinal());
+                return;
+            default:
+        }
+
+        // 以下类型的对象需要记录引用
+        Integer reference = references.get(value);
+        if (reference != null) {
+            writeByte(TAG_REF);
+            writeVarInt(reference);
+            return;
+        }
+        references.put(value, references.size());
+        switch (info.tag) {
+            case TAG_ARRAY:
+                writeByte(TAG_ARRAY);
+                writeClass(type);
+                writeArray(value, type.getComponentType());
+                return;
+            case TAG_COLLECTION:
+                if (!CompactClassInfo.isPlainContainer(value)) {
+                    writeJdk(value);
+                    return;
+                }
+                writeByte(TAG_COLLECTION);
+                writeClass(type);
+                Collection<?> collection = (Collection<?>) value;
+                writeVarInt(collection.size());
+                for (Object element : collection) {
+                    writeValue(element);
+                }
+                return;
+            case TAG_MAP:
+                if (!CompactClassInfo.isPlainContainer(value)) {
+                    writeJdk(value);
+                    return;
+                }
+                writeByte(TAG_MAP);
+                writeClass(type);
+                Map<?, ?> map = (Map<?, ?>) value;
+                writeVarInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+                return;
+            case TAG_OBJECT:
+                writeByte(TAG_OBJECT);
+                writeClass(type);
+                writeFields(value, info);
+                return;
+            default:
+                writeJdk(value);
+        }
+    }
+
+    /**
+     * 编码自定义对象的字段
+     *
+     * @param value 对象
+     * @param info  类信息
+     * @author :loulan
+     */
+    private void writeFields(Object value, CompactClassInfo info) {
+        Field[] fields = info.fields;
+        byte[] fieldTypes = info.fieldTypes;
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                switch (fieldTypes[i]) {
+                    case FIELD_INT:
+                        writeVarInt(zigzag(field.getInt(value)));
+                        break;
+                    case FIELD_LONG:
+                        writeVarLong(zigzag(field.getLong(value)));
+                        break;
+                    case FIELD_BOOLEAN:
+                        writeByte(field.getBoolean(value) ? 1 : 0);
+                        break;
+                    case FIELD_DOUBLE:
+                        writeLong(Double.doubleToRawLongBits(field.getDouble(value)));
+                        break;
+                    case FIELD_FLOAT:
+                        writeInt(Float.floatToRawIntBits(field.getFloat(value)));
+                        break;
+                    case FIELD_SHORT:
+                        writeVarInt(zigzag(field.getShort(value)));
+                        break;
+                    case FIELD_BYTE:
+                        writeByte(field.getByte(value));
+                        break;
+                    case FIELD_CHAR:
+                        writeVarInt(field.getChar(value));
+                        break;
+                    default:
+                        writeValue(field.get(value));
+                }
+            }
+        } catch (IllegalAccessException ex) {
+            throw new SerializeException("读取字段失败：" + info.type.getName(), ex);
+        }
+    }
+
+    /**
+     * 编码数组（基本类型数组直接写入元素值）
+     *
+     * @param array         数组
+     * @param componentType 元素类型
+     * @author :loulan
+     */
+    private void writeArray(Object array, Class<?> componentType) {
+        if (byte[].class == array.getClass()) {
+            writeBytes((byte[]) array);
+        } else if (int[].class == array.getClass()) {
+            int[] values = (int[]) array;
+            writeVarInt(values.length);
+            for (int value : values) {
+                writeVarInt(zigzag(value));
+            }
+        } else if (long[].class == array.getClass()) {
+            long[] values = (long[]) array;
+            writeVarInt(values.length);
+            for (long value : values) {
+                writeVarLong(zigzag(value));
+            }
+        } else if (double[].class == array.getClass()) {
+            double[] values = (double[]) array;
+            writeVarInt(values.length);
+            for (double value : values) {
+                writeLong(Double.doubleToRawLongBits(value));
+            }
+        } else if (float[].class == array.getClass()) {
+            float[] values = (float[]) array;
+            writeVarInt(values.length);
+            for (float value : values) {
+                writeInt(Float.floatToRawIntBits(value));
+            }
+        } else if (boolean[].class == array.getClass()) {
+            boolean[] values = (boolean[]) array;
+            writeVarInt(values.length);
+            for (boolean value : values) {
+                writeByte(value ? 1 : 0);
+            }
+        } else if (short[].class == array.getClass()) {
+            short[] values = (short[]) array;
+            writeVarInt(values.length);
+            for (short value : values) {
+                writeVarInt(zigzag(value));
+            }
+        } else if (char[].class == array.getClass()) {
+            char[] values = (char[]) array;
+            writeVarInt(values.length);
+            for (char value : values) {
+                writeVarInt(value);
+            }
+        } else {
+            Object[] values = (Object[]) array;
+            writeVarInt(values.length);
+            for (Object value : values) {
+                writeValue(value);
+            }
+        }
+    }
+
+    /**
+     * 使用java原生序列化编码对象，每个对象使用单独的对象流，
+     * 对象流中的对象和外部的对象不共享引用（同一个对象在对象流内外各有一份）
+     *
+     * @param value 对象
+     * @author :loulan
+     */
+    private void writeJdk(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(value);
+        } catch (IOException ex) {
+            throw new SerializeException("序列化对象失败：" + value.getClass().getName(), ex);
+        }
+        writeByte(TAG_JDK);
+        writeBytes(bytes.toByteArray());
+    }
+
+    /**
+     * 写入类信息，第一次写入类名和字段指纹，之后只写入类的编号
+     *
+     * @param type 类对象
+     * @author :loulan
+     */
+    private void writeClass(Class<?> type) {
+        Integer id = classes.get(type);
+        if (id != null) {
+            writeVarInt(id + 1);
+            return;
+        }
+        classes.put(type, classes.size());
+        writeVarInt(0);
+        writeString(type.getName());
+        writeInt(CompactClassInfo.of(type).fingerprint);
+    }
+
+    /**
+     * 写入字符串（字符数加上UTF-8形式的字符编码）
+     *
+     * @param value 字符串
+     * @author :loulan
+     */
+    void writeString(String value) {
+        int length = value.length();
+        writeVarInt(length);
+        ensureCapacity(length * 3);
+        byte[] buf = buffer;
+        int pos = position;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        position = pos;
+    }
+
+    /**
+     * 写入byte数组（长度加上内容）
+     *
+     * @param bytes byte数组
+     * @author :loulan
+     */
+    void writeBytes(byte[] bytes) {
+        writeVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * 写入一个字节
+     *
+     * @param value 字节
+     * @author :loulan
+     */
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * 写入固定4个字节的整数
+     *
+     * @param value 整数
+     * @author :loulan
+     */
+    void writeInt(int value) {
+        ensureCapacity(4);
+        byte[] buf = buffer;
+        int pos = position;
+        buf[pos] = (byte) (value >>> 24);
+        buf[pos + 1] = (byte) (value >>> 16);
+        buf[pos + 2] = (byte) (value >>> 8);
+        buf[pos + 3] = (byte) value;
+        position = pos + 4;
+    }
+
+    /**
+     * 写入固定8个字节的整数
+     *
+     * @param value 整数
+     * @author :loulan
+     */
+    void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    /**
+     * 写入变长编码的无符号整数（每个字节7位，最高位表示是否还有后续字节）
+     *
+     * @param value 整数
+     * @author :loulan
+     */
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+        byte[] buf = buffer;
+        int pos = position;
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        position = pos;
+    }
+
+    /**
+     * 写入变长编码的无符号长整数
+     *
+     * @param value 长整数
+     * @author :loulan
+     */
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        byte[] buf = buffer;
+        int pos = position;
+        while ((value & ~0x7FL) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        position = pos;
+    }
+
+    /**
+     * 保证缓冲区还有指定大小的剩余空间，不够时扩容（至少扩容为原来的两倍）
+     *
+     * @param size 需要的剩余空间
+     * @author :loulan
+     */
+    private void ensureCapacity(int size) {
+        int required = position + size;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+
+    /**
+     * zigzag编码，将有符号整数映射为无符号整数（绝对值小的负数也只占用很少的字节）
+     *
+     * @param value 整数
+     * @return 编码后的整数
+     * @author :loulan
+     */
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * zigzag编码
+     *
+     * @param value 长整数
+     * @return 编码后的长整数
+     * @author :loulan
+     */
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * 计算变长编码的无符号整数占用的字节数
+     *
+     * @param value 整数
+     * @return 字节数
+     * @author :loulan
+     */
+    static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,289 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.exception.SerializeException;
+import io.github.loulangogogo.water.io.ByteBufferInputStream;
+import io.github.loulangogogo.water.tool.AssertTool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/*********************************************************
+ ** 紧凑的二进制序列化器，比java原生的序列化速度更快、序列化结果更小。
+ ** <p>
+ ** 编码规则：
+ ** <pre>
+ **     1.整数使用zigzag加变长编码，字符串使用字符数加UTF-8编码；
+ **     2.类名在一次序列化中只写入一次，同时写入字段结构的指纹，反序列化时校验两端的类结构是否一致；
+ **     3.集合、数组以及自定义对象会记录引用，共享引用和循环引用都可以正确还原（使用java原生序列化编码的对象除外，见第4条）；
+ **     4.自定义的可序列化类通过字段反射编码（字段信息每个类只分析一次），反序列化时通过无参构造方法创建对象，
+ **       没有无参构造方法或者定义了自定义序列化方法的类，以及没有单独处理的java自带的类
+ **       （例如{@link java.util.Collections#unmodifiableList(java.util.List)}返回的集合、使用比较器排序的集合）使用java原生的序列化进行编码。
+ **       每个这样的对象单独使用java原生序列化编码，它内部的共享引用和循环引用可以还原，
+ **       但是和它外部共享的对象会被复制成两份，经过它的循环引用在反序列化后也会变成一个单独的副本。
+ ** </pre>
+ ** 序列化的数据格式：魔数（1个字节） + 数据长度（变长整数） + 数据，数据格式只在相同版本的类之间使用，不适合长期存储。
+ ** 和java原生的序列化一样，序列化的对象（包括嵌套的对象）需要实现{@link java.io.Serializable}接口；
+ ** transient字段不进行序列化，反序列化后保持无参构造方法初始化的值。
+ ** <p>
+ ** 编码使用的缓冲区在每个线程中复用（见{@link CompactBufferPool}），序列化到{@link ByteBuffer}或者输出流时不会产生额外的byte数组。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class CompactSerializer implements Serializer {
+
+    /**
+     * 序列化数据的魔数
+     *
+     * @author :loulan
+     */
+    static final byte MAGIC = (byte) 0xC7;
+
+    /**
+     * 序列化数据头部的最大长度（魔数 + 5个字节的数据长度）
+     *
+     * @author :loulan
+     */
+    static final int MAX_HEADER_SIZE = 6;
+
+    /**
+     * 单例对象
+     *
+     * @author :loulan
+     */
+    private static final CompactSerializer INSTANCE = new CompactSerializer();
+
+    /**
+     * 私有化构造器
+     *
+     * @author :loulan
+     */
+    private CompactSerializer() {
+    }
+
+    /**
+     * 获取紧凑的二进制序列化器
+     *
+     * @return 序列化器
+     * @author :loulan
+     */
+    public static CompactSerializer getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public byte[] serialize(Object obj) {
+        CompactOutput output = encode(obj);
+        try {
+            int start = writeHeader(output);
+            return Arrays.copyOfRange(output.getBuffer(), start, output.getPosition());
+        } finally {
+            CompactBufferPool.releaseOutput(output);
+        }
+    }
+
+    /**
+     * 将对象序列化到一个输出流中（不会关闭输出流）
+     *
+     * @param obj          要进行序列化的对象
+     * @param outputStream 输出流
+     * @author :loulan
+     */
+    @Override
+    public void serialize(Object obj, OutputStream outputStream) {
+        AssertTool.notNull(outputStream, "outputStream cannot be null!");
+        CompactOutput output = encode(obj);
+        try {
+            int start = writeHeader(output);
+            outputStream.write(output.getBuffer(), start, output.getPosition() - start);
+        } catch (IOException ex) {
+            throw new SerializeException(ex);
+        } finally {
+            CompactBufferPool.releaseOutput(output);
+        }
+    }
+
+    /**
+     * 将对象序列化到缓冲区中，数据从缓冲区当前的位置开始写入，写入之后缓冲区的位置移动到数据的末尾；
+     * 缓冲区剩余空间不足时抛出异常，缓冲区保持不变。
+     *
+     * @param obj    要进行序列化的对象
+     * @param buffer 缓冲区
+     * @author :loulan
+     */
+    @Override
+    public void serialize(Object obj, ByteBuffer buffer) {
+        AssertTool.notNull(buffer, "buffer cannot be null!");
+        CompactOutput output = encode(obj);
+        try {
+            int start = writeHeader(output);
+            int length = output.getPosition() - start;
+            if (buffer.remaining() < length) {
+                throw new SerializeException("缓冲区剩余空间不足，需要" + length + "个字节，剩余" + buffer.remaining() + "个字节");
+            }
+            buffer.put(output.getBuffer(), start, length);
+        } finally {
+            CompactBufferPool.releaseOutput(output);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] objectData) {
+        AssertTool.notNull(objectData, "objectData cannot be null!");
+        CompactInput header = new CompactInput(objectData, 0, objectData.length);
+        int length = readHeader(header);
+        int start = header.getPosition();
+        if (length > objectData.length - start) {
+            throw new SerializeException("数据不完整");
+        }
+        return (T) new CompactInput(objectData, start, start + length).readValue();
+    }
+
+    /**
+     * 从输入流中反序列化一个对象，只读取一个对象的数据（不会关闭输入流）
+     *
+     * @param <T>         泛型
+     * @param inputStream 要进行反序列化的输入流
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(InputStream inputStream) {
+        AssertTool.notNull(inputStream, "inputStream cannot be null!");
+        try {
+            if ((byte) inputStream.read() != MAGIC) {
+                throw new SerializeException("不是紧凑序列化格式的数据");
+            }
+            int length = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = inputStream.read();
+                if (b < 0 || shift >= 32) {
+                    throw new SerializeException("数据不完整");
+                }
+                length |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            if (length < 0) {
+                throw new SerializeException("数据不完整");
+            }
+            byte[] data = CompactBufferPool.acquireInput(length);
+            try {
+                int read = 0;
+                while (read < length) {
+                    int count = inputStream.read(data, read, length - read);
+                    if (count < 0) {
+                        throw new SerializeException("数据不完整");
+                    }
+                    read += count;
+                }
+                return (T) new CompactInput(data, 0, length).readValue();
+            } finally {
+                CompactBufferPool.releaseInput(data);
+            }
+        } catch (IOException ex) {
+            throw new SerializeException(ex);
+        }
+    }
+
+    /**
+     * 从缓冲区当前的位置反序列化一个对象，读取之后缓冲区的位置移动到这个对象数据的末尾，
+     * 因此可以从同一个缓冲区中连续读取多个对象；反序列化失败时缓冲区的位置保持不变。
+     * <p>
+     * 堆缓冲区直接在底层数组上解码，直接缓冲区的数据会先复制到当前线程复用的数组中。
+     *
+     * @param <T>    泛型
+     * @param buffer 缓冲区
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(ByteBuffer buffer) {
+        AssertTool.notNull(buffer, "buffer cannot be null!");
+        int position = buffer.position();
+        try {
+            if (buffer.hasArray()) {
+                byte[] array = buffer.array();
+                int limit = buffer.arrayOffset() + buffer.limit();
+                CompactInput header = new CompactInput(array, buffer.arrayOffset() + position, limit);
+                int length = readHeader(header);
+                int start = header.getPosition();
+                if (length > limit - start) {
+                    throw new SerializeException("数据不完整");
+                }
+                T value = (T) new CompactInput(array, start, start + length).readValue();
+                buffer.position(start + length - buffer.arrayOffset());
+                return value;
+            }
+            return deserialize(new ByteBufferInputStream(buffer));
+        } catch (RuntimeException ex) {
+            buffer.position(position);
+            throw ex;
+        }
+    }
+
+    /**
+     * 将对象编码到当前线程复用的缓冲区中，缓冲区开头预留了数据头部的空间；
+     * 使用完之后必须通过{@link CompactBufferPool#releaseOutput(CompactOutput)}归还。
+     *
+     * @param obj 要进行序列化的对象
+     * @return 编码输出
+     * @author :loulan
+     */
+    private static CompactOutput encode(Object obj) {
+        CompactOutput output = CompactBufferPool.acquireOutput(MAX_HEADER_SIZE);
+        try {
+            output.writeValue(obj);
+        } catch (RuntimeException | Error ex) {
+            CompactBufferPool.releaseOutput(output);
+            throw ex;
+        }
+        return output;
+    }
+
+    /**
+     * 读取数据头部（魔数和数据长度）
+     *
+     * @param header 解码输入
+     * @return 数据长度
+     * @author :loulan
+     */
+    private static int readHeader(CompactInput header) {
+        if (header.readByte() != MAGIC) {
+            throw new SerializeException("不是紧凑序列化格式的数据");
+        }
+        int length = header.readVarInt();
+        if (length < 0) {
+            throw new SerializeException("数据不完整");
+        }
+        return length;
+    }
+
+    /**
+     * 在数据的前面写入数据头部（魔数和数据长度）
+     *
+     * @param output 编码输出
+     * @return 数据头部的开始位置
+     * @author :loulan
+     */
+    private static int writeHeader(CompactOutput output) {
+        int length = output.getPosition() - MAX_HEADER_SIZE;
+        int start = MAX_HEADER_SIZE - 1 - CompactOutput.varIntSize(length);
+        byte[] buffer = output.getBuffer();
+        buffer[start] = MAGIC;
+        int pos = start + 1;
+        while ((length & ~0x7F) != 0) {
+            buffer[pos++] = (byte) ((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        buffer[pos] = (byte) length;
+        return start;
+    }
+}
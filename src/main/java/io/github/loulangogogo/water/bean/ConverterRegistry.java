@@ -0,0 +1,582 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.date.LocalDateAndTimeTool;
+import io.github.loulangogogo.water.json.JsonTool;
+import io.github.loulangogogo.water.tool.AssertTool;
+import io.github.loulangogogo.water.tool.ObjectTool;
+import io.github.loulangogogo.water.tool.StrTool;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*********************************************************
+ ** 类型转换器的注册中心。
+ ** <p>
+ ** 属性复制器在生成复制计划的时候，会为每一对类型不同的属性从注册中心中查找一次转换器，
+ ** 之后的复制直接使用查找到的转换器，不再进行查找。内置了常用的转换：
+ ** <pre>
+ **     1.基本类型和包装类型之间、子类到父类之间直接赋值；
+ **     2.数值类型之间的相互转换（包括{@link BigDecimal}和{@link BigInteger}），超出目标类型范围或者转换为整数时有小数部分的转换失败；
+ **     3.数值、布尔、字符、枚举、日期转换为字符串，字符串转换为数值、布尔、字符、枚举；
+ **     4.{@link Date}、{@link LocalDateTime}、{@link LocalDate}、{@link LocalTime}、毫秒值和字符串之间的转换。
+ ** </pre>
+ ** 日期和字符串之间的转换格式以及时区和JSON工具的配置一致。
+ ** 属性复制时内置的转换失败（例如字符串不是数字）会跳过这个属性，注册的转换器失败时抛出异常。
+ ** 注意：注册中心生成的复制器会被缓存，注册新的转换器之后只对之后新生成的复制器生效。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class ConverterRegistry {
+
+    /**
+     * 日期转换使用的时区，和JSON工具的时区一致
+     *
+     * @author :loulan
+     */
+    private static final ZoneId ZONE = ZoneId.of(JsonTool.DEFAULT_TIME_ZONE);
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(JsonTool.DEFAULT_DATE_TIME_PATTERN);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(JsonTool.DEFAULT_DATE_PATTERN);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(JsonTool.DEFAULT_TIME_PATTERN);
+
+    /**
+     * 内置的转换失败时{@link #tryConvert(TypeConverter, Object)}的返回值，表示跳过这个属性
+     *
+     * @author :loulan
+     */
+    static final Object SKIP = new Object();
+
+    /**
+     * 直接赋值的转换器
+     *
+     * @author :loulan
+     */
+    private static final TypeConverter<Object, Object> IDENTITY = value -> value;
+
+    /**
+     * 查找不到转换器时的占位对象
+     *
+     * @author :loulan
+     */
+    private static final Object NONE = new Object();
+
+    /**
+     * 默认的注册中心
+     *
+     * @author :loulan
+     */
+    private static final ConverterRegistry DEFAULT = create();
+
+    /**
+     * 注册的转换器，外层按照源类型，内层按照目标类型
+     *
+     * @author :loulan
+     */
+    private final Map<Class<?>, Map<Class<?>, TypeConverter<Object, Object>>> converters = new ConcurrentHashMap<>();
+
+    /**
+     * 已经查找过的转换器的缓存（按照源类型和目标类型缓存，查找不到时缓存{@link #NONE}），注册新的转换器时整体替换
+     *
+     * @author :loulan
+     */
+    private volatile ClassPairCache<Object> resolved = newResolvedCache();
+
+    /**
+     * 只指定了当前注册中心的属性复制配置（复制器缓存在配置对象上），第一次使用时创建
+     *
+     * @author :loulan
+     */
+    private volatile CopyOptions copyOptions;
+
+    /**
+     * 私有化构造器
+     *
+     * @author :loulan
+     */
+    private ConverterRegistry() {
+    }
+
+    /**
+     * 获取默认的注册中心，{@link BeanTool}的属性复制使用的就是默认注册中心
+     *
+     * @return 默认的注册中心
+     * @author :loulan
+     */
+    public static ConverterRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 获取只指定了当前注册中心的属性复制配置，默认注册中心对应默认的配置，
+     * 同一个注册中心总是返回同一个配置对象，这样复制器只会在配置对象上缓存一份
+     *
+     * @return 属性复制配置
+     * @author :loulan
+     */
+    CopyOptions getCopyOptions() {
+        if (this == DEFAULT) {
+            return CopyOptions.getDefault();
+        }
+        CopyOptions options = copyOptions;
+        if (options == null) {
+            synchronized (this) {
+                options = copyOptions;
+                if (options == null) {
+                    options = CopyOptionsBuilder.builder().setConverterRegistry(this).build();
+                    copyOptions = options;
+                }
+            }
+        }
+        return options;
+    }
+
+    /**
+     * 创建一个新的注册中心（包含内置的转换器）
+     *
+     * @return 注册中心
+     * @author :loulan
+     */
+    public static ConverterRegistry create() {
+        ConverterRegistry registry = new ConverterRegistry();
+        registry.registerDefaults();
+        return registry;
+    }
+
+    /**
+     * 注册类型转换器，相同的源类型和目标类型后注册的会覆盖先注册的
+     *
+     * @param <S>        源类型泛型
+     * @param <T>        目标类型泛型
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param converter  类型转换器
+     * @return 当前注册中心
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> ConverterRegistry register(Class<S> sourceType, Class<T> targetType, TypeConverter<? super S, ? extends T> converter) {
+        AssertTool.notNull(sourceType, "sourceType cannot be null!");
+        AssertTool.notNull(targetType, "targetType cannot be null!");
+        AssertTool.notNull(converter, "converter cannot be null!");
+
+        converters.computeIfAbsent(wrap(sourceType), key -> new ConcurrentHashMap<>())
+                .put(wrap(targetType), (TypeConverter<Object, Object>) converter);
+        resolved = newResolvedCache();
+        return this;
+    }
+
+    /**
+     * 查找源类型到目标类型的转换器，查找不到返回{@code null}
+     * <p>
+     * 查找顺序：注册的转换器（包括源类型的父类和接口） &gt; 直接赋值 &gt; 内置的通用转换。
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 类型转换器
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public TypeConverter<Object, Object> getConverter(Class<?> sourceType, Class<?> targetType) {
+        AssertTool.notNull(sourceType, "sourceType cannot be null!");
+        AssertTool.notNull(targetType, "targetType cannot be null!");
+
+        Object converter = resolved.get(wrap(sourceType), wrap(targetType));
+        return converter == NONE ? null : (TypeConverter<Object, Object>) converter;
+    }
+
+    /**
+     * 属性复制时进行类型转换，内置的转换失败时返回{@link #SKIP}（和没有转换器时一样跳过这个属性），
+     * 注册的转换器失败时抛出异常
+     *
+     * @param converter 类型转换器
+     * @param value     要转换的值（不为{@code null}）
+     * @return 转换后的值，内置的转换失败时返回{@link #SKIP}
+     * @author :loulan
+     */
+    static Object tryConvert(TypeConverter<Object, Object> converter, Object value) {
+        if (!(converter instanceof BuiltInConverter)) {
+            return converter.convert(value);
+        }
+        try {
+            return converter.convert(value);
+        } catch (RuntimeException ex) {
+            return SKIP;
+        }
+    }
+
+    /**
+     * 将值转换为指定的类型，值为{@code null}时返回{@code null}
+     *
+     * @param <T>        目标类型泛型
+     * @param value      要转换的值
+     * @param targetType 目标类型
+     * @return 转换后的值
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object value, Class<T> targetType) {
+        if (ObjectTool.isNull(value)) {
+            return null;
+        }
+        TypeConverter<Object, Object> converter = getConverter(value.getClass(), targetType);
+        if (ObjectTool.isNull(converter)) {
+            throw new ClassCastException("cannot convert " + value.getClass().getName() + " to " + targetType.getName());
+        }
+        return (T) converter.convert(value);
+    }
+
+    /**
+     * 生成按照指定格式进行日期和字符串之间转换的转换器，不是日期和字符串之间的转换时返回{@code null}。
+     * 生成的转换器和其它内置转换器一样，格式不匹配的值在属性复制中跳过（见{@link #tryConvert(TypeConverter, Object)}）
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param pattern    日期格式
+     * @return 类型转换器
+     * @author :loulan
+     */
+    static TypeConverter<Object, Object> formatConverter(Class<?> sourceType, Class<?> targetType, String pattern) {
+        if (String.class.equals(targetType) && (Date.class.isAssignableFrom(sourceType) || TemporalAccessor.class.isAssignableFrom(sourceType))) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+            return Date.class.isAssignableFrom(sourceType)
+                    ? builtIn(value -> formatter.format(LocalDateAndTimeTool.toLocalDateTime((Date) value, ZONE)))
+                    : builtIn(value -> formatter.format((TemporalAccessor) value));
+        }
+        if (!String.class.equals(sourceType)) {
+            return null;
+        }
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+        if (Date.class.equals(targetType)) {
+            return builtIn(value -> StrTool.isBlank((String) value) ? null : Date.from(parseDateTime((String) value, formatter).atZone(ZONE).toInstant()));
+        } else if (LocalDateTime.class.equals(targetType)) {
+            return builtIn(value -> StrTool.isBlank((String) value) ? null : parseDateTime((String) value, formatter));
+        } else if (LocalDate.class.equals(targetType)) {
+            return builtIn(value -> StrTool.isBlank((String) value) ? null : LocalDate.parse(((String) value).trim(), formatter));
+        } else if (LocalTime.class.equals(targetType)) {
+            return builtIn(value -> StrTool.isBlank((String) value) ? null : LocalTime.parse(((String) value).trim(), formatter));
+        }
+        return null;
+    }
+
+    /**
+     * 按照指定格式解析日期时间，格式中没有时间部分时取当天的开始时间
+     *
+     * @param value     日期字符串
+     * @param formatter 日期格式
+     * @return 日期时间
+     * @author :loulan
+     */
+    private static LocalDateTime parseDateTime(String value, DateTimeFormatter formatter) {
+        TemporalAccessor parsed = formatter.parse(value.trim());
+        if (parsed.isSupported(ChronoField.HOUR_OF_DAY)) {
+            return LocalDateTime.from(parsed);
+        }
+        return LocalDate.from(parsed).atStartOfDay();
+    }
+
+    /**
+     * 查找转换器
+     *
+     * @param sourceType 源类型（包装类型）
+     * @param targetType 目标类型（包装类型）
+     * @return 类型转换器
+     * @author :loulan
+     */
+    private TypeConverter<Object, Object> resolve(Class<?> sourceType, Class<?> targetType) {
+        // 查找注册的转换器，源类型找不到的时候依次查找父类和接口
+        for (Class<?> type : hierarchy(sourceType)) {
+            Map<Class<?>, TypeConverter<Object, Object>> targets = converters.get(type);
+            if (ObjectTool.isNotNull(targets) && targets.containsKey(targetType)) {
+                return targets.get(targetType);
+            }
+        }
+
+        // 目标类型是源类型的父类（包括基本类型和包装类型）直接赋值
+        if (targetType.isAssignableFrom(sourceType)) {
+            return IDENTITY;
+        }
+
+        // 内置的通用转换，只有标量（数值、字符、布尔、枚举、日期等）才转换为字符串，普通的bean不转换
+        if (String.class.equals(targetType)) {
+            if (Enum.class.isAssignableFrom(sourceType)) {
+                return builtIn(value -> ((Enum<?>) value).name());
+            }
+            return isScalarType(sourceType) ? builtIn(String::valueOf) : null;
+        }
+        if (targetType.isEnum() && String.class.equals(sourceType)) {
+            return builtIn(value -> StrTool.isBlank((String) value) ? null : enumValueOf(targetType, ((String) value).trim()));
+        }
+        if (Number.class.isAssignableFrom(sourceType) && isNumberType(targetType)) {
+            return builtIn(value -> toNumber((Number) value, targetType));
+        }
+        if (String.class.equals(sourceType) && isNumberType(targetType)) {
+            return builtIn(value -> StrTool.isBlank((String) value) ? null : toNumber(new BigDecimal(((String) value).trim()), targetType));
+        }
+        if (String.class.equals(sourceType) && Boolean.class.equals(targetType)) {
+            return builtIn(value -> StrTool.isBlank((String) value) ? null : Boolean.valueOf(((String) value).trim()));
+        }
+        if (String.class.equals(sourceType) && Character.class.equals(targetType)) {
+            return builtIn(value -> ((String) value).isEmpty() ? null : ((String) value).charAt(0));
+        }
+        return null;
+    }
+
+    /**
+     * 判断是否是可以直接转换为字符串的标量类型
+     *
+     * @param type 类型（包装类型）
+     * @return 是否是标量类型
+     * @author :loulan
+     */
+    private static boolean isScalarType(Class<?> type) {
+        return Number.class.isAssignableFrom(type) || CharSequence.class.isAssignableFrom(type)
+                || Boolean.class.equals(type) || Character.class.equals(type) || UUID.class.equals(type)
+                || Date.class.isAssignableFrom(type) || Calendar.class.isAssignableFrom(type)
+                || TemporalAccessor.class.isAssignableFrom(type);
+    }
+
+    /**
+     * 创建已查找转换器的缓存
+     *
+     * @return 缓存对象
+     * @author :loulan
+     */
+    private ClassPairCache<Object> newResolvedCache() {
+        return new ClassPairCache<>((sourceType, targetType) -> {
+            TypeConverter<Object, Object> converter = resolve(sourceType, targetType);
+            return ObjectTool.isNull(converter) ? NONE : converter;
+        });
+    }
+
+    /**
+     * 注册内置的日期相关的转换器
+     *
+     * @author :loulan
+     */
+    private void registerDefaults() {
+        registerBuiltIn(Date.class, LocalDateTime.class, value -> LocalDateAndTimeTool.toLocalDateTime(value, ZONE));
+        registerBuiltIn(Date.class, LocalDate.class, value -> LocalDateAndTimeTool.toLocalDate(value, ZONE));
+        registerBuiltIn(Date.class, Long.class, Date::getTime);
+        registerBuiltIn(Date.class, String.class, value -> DATE_TIME_FORMATTER.format(LocalDateAndTimeTool.toLocalDateTime(value, ZONE)));
+        registerBuiltIn(LocalDateTime.class, Date.class, value -> Date.from(value.atZone(ZONE).toInstant()));
+        registerBuiltIn(LocalDateTime.class, LocalDate.class, LocalDateTime::toLocalDate);
+        registerBuiltIn(LocalDateTime.class, LocalTime.class, LocalDateTime::toLocalTime);
+        registerBuiltIn(LocalDateTime.class, Long.class, value -> value.atZone(ZONE).toInstant().toEpochMilli());
+        registerBuiltIn(LocalDateTime.class, String.class, DATE_TIME_FORMATTER::format);
+        registerBuiltIn(LocalDate.class, Date.class, value -> Date.from(value.atStartOfDay(ZONE).toInstant()));
+        registerBuiltIn(LocalDate.class, LocalDateTime.class, LocalDate::atStartOfDay);
+        registerBuiltIn(LocalDate.class, String.class, DATE_FORMATTER::format);
+        registerBuiltIn(LocalTime.class, String.class, TIME_FORMATTER::format);
+        registerBuiltIn(Long.class, Date.class, Date::new);
+        registerBuiltIn(Long.class, LocalDateTime.class, value -> LocalDateAndTimeTool.toLocalDateTime(value, ZONE));
+        registerBuiltIn(Long.class, LocalDate.class, value -> LocalDateAndTimeTool.toLocalDate(value, ZONE));
+        registerBuiltIn(String.class, LocalDateTime.class, value -> StrTool.isBlank(value) ? null : LocalDateTime.parse(value.trim(), DATE_TIME_FORMATTER));
+        registerBuiltIn(String.class, LocalDate.class, value -> StrTool.isBlank(value) ? null : LocalDate.parse(value.trim(), DATE_FORMATTER));
+        registerBuiltIn(String.class, LocalTime.class, value -> StrTool.isBlank(value) ? null : LocalTime.parse(value.trim(), TIME_FORMATTER));
+        registerBuiltIn(String.class, Date.class, value -> StrTool.isBlank(value) ? null : Date.from(LocalDateTime.parse(value.trim(), DATE_TIME_FORMATTER).atZone(ZONE).toInstant()));
+    }
+
+    /**
+     * 注册内置的转换器（只在创建注册中心时调用，类型都是包装类型）
+     *
+     * @param <S>        源类型泛型
+     * @param <T>        目标类型泛型
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param converter  类型转换器
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private <S, T> void registerBuiltIn(Class<S> sourceType, Class<T> targetType, TypeConverter<? super S, ? extends T> converter) {
+        converters.computeIfAbsent(sourceType, key -> new ConcurrentHashMap<>())
+                .put(targetType, builtIn((TypeConverter<Object, Object>) converter));
+    }
+
+    /**
+     * 标记为内置的转换器
+     *
+     * @param converter 类型转换器
+     * @return 内置的转换器
+     * @author :loulan
+     */
+    private static TypeConverter<Object, Object> builtIn(TypeConverter<Object, Object> converter) {
+        return new BuiltInConverter(converter);
+    }
+
+    /**
+     * 获取类型的继承层次（自身、父类、接口），用于查找注册的转换器
+     *
+     * @param type 类型
+     * @return 继承层次中的所有类型
+     * @author :loulan
+     */
+    private static Set<Class<?>> hierarchy(Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> current = type; ObjectTool.isNotNull(current); current = current.getSuperclass()) {
+            types.add(current);
+        }
+        for (Class<?> current = type; ObjectTool.isNotNull(current); current = current.getSuperclass()) {
+            addInterfaces(current, types);
+        }
+        return types;
+    }
+
+    private static void addInterfaces(Class<?> type, Set<Class<?>> types) {
+        for (Class<?> anInterface : type.getInterfaces()) {
+            if (types.add(anInterface)) {
+                addInterfaces(anInterface, types);
+            }
+        }
+    }
+
+    /**
+     * 判断是否是支持转换的数值类型
+     *
+     * @param type 类型（包装类型）
+     * @return 是否是支持转换的数值类型
+     * @author :loulan
+     */
+    private static boolean isNumberType(Class<?> type) {
+        return Integer.class.equals(type) || Long.class.equals(type) || Double.class.equals(type)
+                || Float.class.equals(type) || Short.class.equals(type) || Byte.class.equals(type)
+                || BigDecimal.class.equals(type) || BigInteger.class.equals(type);
+    }
+
+    /**
+     * 数值类型之间的转换，超出目标类型的范围或者转换为整数类型时有小数部分抛出{@link ArithmeticException}
+     *
+     * @param value      数值
+     * @param targetType 目标数值类型（包装类型）
+     * @return 转换后的数值
+     * @author :loulan
+     */
+    private static Object toNumber(Number value, Class<?> targetType) {
+        if (Double.class.equals(targetType)) {
+            double number = value.doubleValue();
+            if (Double.isInfinite(number) && !isInfinite(value)) {
+                throw new ArithmeticException("double overflow: " + value);
+            }
+            return number;
+        } else if (Float.class.equals(targetType)) {
+            float number = value.floatValue();
+            if (Float.isInfinite(number) && !isInfinite(value)) {
+                throw new ArithmeticException("float overflow: " + value);
+            }
+            return number;
+        } else if (BigDecimal.class.equals(targetType)) {
+            return toBigDecimal(value);
+        }
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            long number = value.longValue();
+            if (Integer.class.equals(targetType)) {
+                return Math.toIntExact(number);
+            } else if (Long.class.equals(targetType)) {
+                return number;
+            } else if (Short.class.equals(targetType)) {
+                if (number != (short) number) {
+                    throw new ArithmeticException("short overflow: " + value);
+                }
+                return (short) number;
+            } else if (Byte.class.equals(targetType)) {
+                if (number != (byte) number) {
+                    throw new ArithmeticException("byte overflow: " + value);
+                }
+                return (byte) number;
+            }
+            return BigInteger.valueOf(number);
+        }
+
+        BigDecimal number = toBigDecimal(value);
+        if (Integer.class.equals(targetType)) {
+            return number.intValueExact();
+        } else if (Long.class.equals(targetType)) {
+            return number.longValueExact();
+        } else if (Short.class.equals(targetType)) {
+            return number.shortValueExact();
+        } else if (Byte.class.equals(targetType)) {
+            return number.byteValueExact();
+        }
+        return number.toBigIntegerExact();
+    }
+
+    /**
+     * 数值转换为{@link BigDecimal}
+     *
+     * @param value 数值
+     * @return BigDecimal
+     * @author :loulan
+     */
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(value.longValue());
+        }
+        // 浮点数使用字符串的形式构造，避免二进制精度问题（NaN和无穷大抛出NumberFormatException）
+        return new BigDecimal(value.toString());
+    }
+
+    /**
+     * 判断数值本身是否是无穷大
+     *
+     * @param value 数值
+     * @return 是否是无穷大
+     * @author :loulan
+     */
+    private static boolean isInfinite(Number value) {
+        return (value instanceof Double && ((Double) value).isInfinite()) || (value instanceof Float && ((Float) value).isInfinite());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValueOf(Class<?> enumType, String name) {
+        return Enum.valueOf((Class) enumType, name);
+    }
+
+    /**
+     * 获取基本类型对应的包装类型
+     *
+     * @param type 类型
+     * @return 包装类型
+     * @author :loulan
+     */
+    private static Class<?> wrap(Class<?> type) {
+        return BeanAccessorFactory.wrap(type);
+    }
+
+    /**
+     * 内置的转换器，属性复制时转换失败会跳过属性而不是抛出异常
+     *
+     * @author :loulan
+     */
+    private static final class BuiltInConverter implements TypeConverter<Object, Object> {
+
+        private final TypeConverter<Object, Object> converter;
+
+        private BuiltInConverter(TypeConverter<Object, Object> converter) {
+            this.converter = converter;
+        }
+
+        @Override
+        public Object convert(Object value) {
+            return converter.convert(value);
+        }
+    }
+}
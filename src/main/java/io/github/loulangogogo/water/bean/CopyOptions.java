@@ -0,0 +1,271 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.tool.ObjectTool;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/*********************************************************
+ ** 属性复制的配置（不可变对象），通过{@link CopyOptionsBuilder}构建。
+ ** <p>
+ ** 属性的忽略、重命名、命名风格转换以及{@link CopyProperty}注解都只在生成复制计划的时候解析一次，
+ ** 复制计划缓存在当前配置对象上，所以同一个配置应该复用，而不是每次复制都重新构建。
+ ** 名称匹配的规则：
+ ** <pre>
+ **     1.属性的名称优先使用{@link CopyProperty#value()}，没有注解时使用属性名称；
+ **     2.源属性名称在重命名配置中存在时使用重命名后的名称；
+ **     3.没有注解和重命名的属性按照命名风格进行转换；
+ **     4.转换后的名称和目标属性的名称（同样优先使用注解的名称）相同的属性进行复制。
+ ** </pre>
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class CopyOptions {
+
+    /**
+     * 默认配置（只处理{@link CopyProperty}注解，使用默认的类型转换器注册中心）
+     *
+     * @author :loulan
+     */
+    private static final CopyOptions DEFAULT = CopyOptionsBuilder.builder().build();
+
+    /**
+     * 忽略的属性名称（源属性和目标属性都生效）
+     *
+     * @author :loulan
+     */
+    private final Set<String> ignoreProperties;
+
+    /**
+     * 属性的重命名（源属性名称到目标属性名称）
+     *
+     * @author :loulan
+     */
+    private final Map<String, String> renames;
+
+    /**
+     * 属性的反向重命名（目标属性名称到源属性名称）
+     *
+     * @author :loulan
+     */
+    private final Map<String, String> reverseRenames;
+
+    /**
+     * 命名风格转换，为{@code null}时不进行转换
+     *
+     * @author :loulan
+     */
+    private final NamingStyleEnum namingStyle;
+
+    /**
+     * 类型转换器注册中心
+     *
+     * @author :loulan
+     */
+    private final ConverterRegistry converterRegistry;
+
+    /**
+     * 是否忽略值为null的属性
+     *
+     * @author :loulan
+     */
+    private final boolean ignoreNull;
+
+    /**
+     * 使用当前配置生成的复制器缓存，按照（源类，目标类）缓存
+     *
+     * @author :loulan
+     */
+    final ClassPairCache<BeanCopier> copiers = new ClassPairCache<>((sourceClass, targetClass) -> new BeanCopier(sourceClass, targetClass, this));
+
+    /**
+     * 使用当前配置生成的bean到map的属性写入器缓存
+     *
+     * @author :loulan
+     */
+    private final ClassValue<BeanMapWriter> mapWriters = new ClassValue<BeanMapWriter>() {
+        @Override
+        protected BeanMapWriter computeValue(Class<?> type) {
+            return new BeanMapWriter(BeanDescriptor.of(type), CopyOptions.this);
+        }
+    };
+
+    /**
+     * 使用当前配置生成的map到bean的属性读取器缓存
+     *
+     * @author :loulan
+     */
+    private final ClassValue<BeanMapReader> mapReaders = new ClassValue<BeanMapReader>() {
+        @Override
+        protected BeanMapReader computeValue(Class<?> type) {
+            return new BeanMapReader(BeanDescriptor.of(type), CopyOptions.this);
+        }
+    };
+
+    /**
+     * 构建属性复制配置
+     *
+     * @param ignoreProperties  忽略的属性名称
+     * @param renames           属性的重命名（源属性名称到目标属性名称）
+     * @param namingStyle       命名风格转换
+     * @param converterRegistry 类型转换器注册中心
+     * @param ignoreNull        是否忽略值为null的属性
+     * @author :loulan
+     */
+    CopyOptions(Set<String> ignoreProperties, Map<String, String> renames, NamingStyleEnum namingStyle,
+                ConverterRegistry converterRegistry, boolean ignoreNull) {
+        this.ignoreProperties = Collections.unmodifiableSet(new HashSet<>(ignoreProperties));
+        this.renames = Collections.unmodifiableMap(new LinkedHashMap<>(renames));
+        Map<String, String> reverse = new HashMap<>(renames.size() * 4 / 3 + 1);
+        renames.forEach((sourceName, targetName) -> reverse.put(targetName, sourceName));
+        this.reverseRenames = Collections.unmodifiableMap(reverse);
+        this.namingStyle = namingStyle;
+        this.converterRegistry = converterRegistry;
+        this.ignoreNull = ignoreNull;
+    }
+
+    /**
+     * 获取默认的属性复制配置，{@link BeanTool}的属性复制使用的就是默认配置
+     *
+     * @return 默认配置
+     * @author :loulan
+     */
+    public static CopyOptions getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 创建属性复制配置的建造者
+     *
+     * @return 属性复制配置的建造者
+     * @author :loulan
+     */
+    public static CopyOptionsBuilder builder() {
+        return CopyOptionsBuilder.builder();
+    }
+
+    public Set<String> getIgnoreProperties() {
+        return ignoreProperties;
+    }
+
+    public Map<String, String> getRenames() {
+        return renames;
+    }
+
+    public NamingStyleEnum getNamingStyle() {
+        return namingStyle;
+    }
+
+    public ConverterRegistry getConverterRegistry() {
+        return converterRegistry;
+    }
+
+    public boolean isIgnoreNull() {
+        return ignoreNull;
+    }
+
+    /**
+     * 判断属性是否被忽略（注解忽略或者配置忽略）
+     *
+     * @param property 属性
+     * @return 是否忽略
+     * @author :loulan
+     */
+    boolean isIgnored(BeanProperty property) {
+        return property.isIgnored() || ignoreProperties.contains(property.getName());
+    }
+
+    /**
+     * 获取目标属性用于匹配的名称（优先使用注解的名称）
+     *
+     * @param targetProperty 目标属性
+     * @return 匹配的名称
+     * @author :loulan
+     */
+    String targetKey(BeanProperty targetProperty) {
+        return ObjectTool.isNotNull(targetProperty.getAlias()) ? targetProperty.getAlias() : targetProperty.getName();
+    }
+
+    /**
+     * 获取源属性在目标端对应的名称（重命名 &gt; 注解名称 &gt; 命名风格转换）
+     *
+     * @param sourceProperty 源属性
+     * @return 目标端的名称
+     * @author :loulan
+     */
+    String targetName(BeanProperty sourceProperty) {
+        String renamed = renames.get(sourceProperty.getName());
+        if (ObjectTool.isNull(renamed) && ObjectTool.isNotNull(sourceProperty.getAlias())) {
+            renamed = renames.get(sourceProperty.getAlias());
+        }
+        if (ObjectTool.isNotNull(renamed)) {
+            return renamed;
+        }
+        if (ObjectTool.isNotNull(sourceProperty.getAlias())) {
+            return sourceProperty.getAlias();
+        }
+        return ObjectTool.isNull(namingStyle) ? sourceProperty.getName() : namingStyle.toTarget(sourceProperty.getName());
+    }
+
+    /**
+     * 获取目标属性在源端（Map集合）对应的名称，和{@link #targetName(BeanProperty)}互为逆向
+     *
+     * @param targetProperty 目标属性
+     * @return 源端的名称
+     * @author :loulan
+     */
+    String sourceName(BeanProperty targetProperty) {
+        String renamed = reverseRenames.get(targetKey(targetProperty));
+        if (ObjectTool.isNotNull(renamed)) {
+            return renamed;
+        }
+        if (ObjectTool.isNotNull(targetProperty.getAlias())) {
+            return targetProperty.getAlias();
+        }
+        return ObjectTool.isNull(namingStyle) ? targetProperty.getName() : namingStyle.toSource(targetProperty.getName());
+    }
+
+    /**
+     * 生成源类的属性索引（目标端名称到可读源属性的映射），被忽略的属性不包括在内
+     *
+     * @param sourceDescriptor 源类的属性描述信息
+     * @return 属性索引
+     * @author :loulan
+     */
+    Map<String, BeanProperty> sourceIndex(BeanDescriptor sourceDescriptor) {
+        Map<String, BeanProperty> index = new HashMap<>(sourceDescriptor.getProperties().size() * 4 / 3 + 1);
+        for (BeanProperty property : sourceDescriptor.getProperties()) {
+            if (property.isReadable() && !isIgnored(property)) {
+                index.put(targetName(property), property);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 获取指定类的bean到map的属性写入器（写入器会被缓存）
+     *
+     * @param beanClass bean的类对象
+     * @return 属性写入器
+     * @author :loulan
+     */
+    BeanMapWriter getMapWriter(Class<?> beanClass) {
+        return mapWriters.get(beanClass);
+    }
+
+    /**
+     * 获取指定类的map到bean的属性读取器（读取器会被缓存）
+     *
+     * @param beanClass bean的类对象
+     * @return 属性读取器
+     * @author :loulan
+     */
+    BeanMapReader getMapReader(Class<?> beanClass) {
+        return mapReaders.get(beanClass);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.interfaces.Builder;
+import io.github.loulangogogo.water.tool.AssertTool;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/*********************************************************
+ ** {@link CopyOptions} 建造者
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public class CopyOptionsBuilder implements Builder<CopyOptions> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 忽略的属性名称
+     *
+     * @author :loulan
+     */
+    private final Set<String> ignoreProperties = new HashSet<>();
+
+    /**
+     * 属性的重命名（源属性名称到目标属性名称）
+     *
+     * @author :loulan
+     */
+    private final Map<String, String> renames = new LinkedHashMap<>();
+
+    /**
+     * 命名风格转换
+     *
+     * @author :loulan
+     */
+    private NamingStyleEnum namingStyle;
+
+    /**
+     * 类型转换器注册中心
+     *
+     * @author :loulan
+     */
+    private transient ConverterRegistry converterRegistry;
+
+    /**
+     * 是否忽略值为null的属性
+     *
+     * @author :loulan
+     */
+    private boolean ignoreNull;
+
+    /**
+     * 私有化构造器
+     *
+     * @author :loulan
+     */
+    private CopyOptionsBuilder() {
+
+    }
+
+    /**
+     * 构建建造者
+     *
+     * @return {@link CopyOptions} 建造者
+     * @author :loulan
+     */
+    public static CopyOptionsBuilder builder() {
+        return new CopyOptionsBuilder();
+    }
+
+    /**
+     * 设置忽略的属性名称（源属性和目标属性都生效）
+     *
+     * @param propertyNames 属性名称
+     * @return {@link CopyOptions} 建造者
+     * @author :loulan
+     */
+    public CopyOptionsBuilder setIgnoreProperties(String... propertyNames) {
+        AssertTool.notNull(propertyNames, "propertyNames cannot be null!");
+        Collections.addAll(this.ignoreProperties, propertyNames);
+        return this;
+    }
+
+    /**
+     * 添加属性的重命名
+     *
+     * @param sourceName 源属性名称
+     * @param targetName 目标属性名称
+     * @return {@link CopyOptions} 建造者
+     * @author :loulan
+     */
+    public CopyOptionsBuilder addRename(String sourceName, String targetName) {
+        AssertTool.notNull(sourceName, "sourceName cannot be null!");
+        AssertTool.notNull(targetName, "targetName cannot be null!");
+        this.renames.put(sourceName, targetName);
+        return this;
+    }
+
+    /**
+     * 设置命名风格转换（没有注解和重命名的属性按照该风格转换名称）
+     *
+     * @param namingStyle 命名风格
+     * @return {@link CopyOptions} 建造者
+     * @author :loulan
+     */
+    public CopyOptionsBuilder setNamingStyle(NamingStyleEnum namingStyle) {
+        this.namingStyle = namingStyle;
+        return this;
+    }
+
+    /**
+     * 设置类型转换器注册中心，不设置时使用{@link ConverterRegistry#getDefault()}
+     *
+     * @param converterRegistry 类型转换器注册中心
+     * @return {@link CopyOptions} 建造者
+     * @author :loulan
+     */
+    public CopyOptionsBuilder setConverterRegistry(ConverterRegistry converterRegistry) {
+        this.converterRegistry = converterRegistry;
+        return this;
+    }
+
+    /**
+     * 设置是否忽略值为null的属性
+     *
+     * @param ignoreNull 是否忽略值为null的属性
+     * @return {@link CopyOptions} 建造者
+     * @author :loulan
+     */
+    public CopyOptionsBuilder setIgnoreNull(boolean ignoreNull) {
+        this.ignoreNull = ignoreNull;
+        return this;
+    }
+
+    /**
+     * 构建属性复制配置
+     *
+     * @return 属性复制配置
+     * @author :loulan
+     */
+    @Override
+    public CopyOptions build() {
+        ConverterRegistry registry = converterRegistry == null ? ConverterRegistry.getDefault() : converterRegistry;
+        return new CopyOptions(ignoreProperties, renames, namingStyle, registry, ignoreNull);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.loulangogogo.water.bean;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*********************************************************
+ ** 属性复制的配置注解，可以标注在属性字段、读方法或者写方法上（优先级依次降低）。
+ ** <p>
+ ** 注解只在生成复制计划的时候读取一次，之后的复制不会再读取注解。
+ ** <pre>
+ **     1.{@link #value()}：属性复制时使用的名称（bean之间按照名称匹配，和Map之间作为key）；
+ **     2.{@link #ignore()}：是否忽略该属性，作为源属性时不读取，作为目标属性时不写入；
+ **     3.{@link #format()}：日期和字符串之间转换时使用的格式。
+ ** </pre>
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface CopyProperty {
+
+    /**
+     * 属性复制时使用的名称，为空时使用属性名称
+     *
+     * @return 属性复制时使用的名称
+     * @author :loulan
+     */
+    String value() default "";
+
+    /**
+     * 是否忽略该属性
+     *
+     * @return 是否忽略
+     * @author :loulan
+     */
+    boolean ignore() default false;
+
+    /**
+     * 日期（{@link java.util.Date}、{@link java.time.LocalDateTime}、{@link java.time.LocalDate}、{@link java.time.LocalTime}）
+     * 和字符串之间转换时使用的格式，为空时使用{@link ConverterRegistry}中的转换器；
+     * 和其它内置的转换一样，格式不匹配的值不复制
+     *
+     * @return 日期格式
+     * @author :loulan
+     */
+    String format() default "";
+}
@@ -0,0 +1,68 @@
+package io.github.loulangogogo.water.bean;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/*********************************************************
+ ** java原生的序列化器，内部使用apache的lang3包{@link SerializationUtils}，
+ ** 序列化的对象必须实现{@link Serializable}接口。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class JdkSerializer implements Serializer {
+
+    /**
+     * 单例对象
+     *
+     * @author :loulan
+     */
+    private static final JdkSerializer INSTANCE = new JdkSerializer();
+
+    /**
+     * 私有化构造器
+     *
+     * @author :loulan
+     */
+    private JdkSerializer() {
+    }
+
+    /**
+     * 获取java原生的序列化器
+     *
+     * @return 序列化器
+     * @author :loulan
+     */
+    public static JdkSerializer getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public byte[] serialize(Object obj) {
+        return SerializationUtils.serialize((Serializable) obj);
+    }
+
+    @Override
+    public void serialize(Object obj, OutputStream outputStream) {
+        SerializationUtils.serialize((Serializable) obj, outputStream);
+    }
+
+    @Override
+    public <T> T deserialize(byte[] objectData) {
+        return SerializationUtils.deserialize(objectData);
+    }
+
+    @Override
+    public <T> T deserialize(InputStream inputStream) {
+        return SerializationUtils.deserialize(inputStream);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T clone(T obj) {
+        return (T) SerializationUtils.clone((Serializable) obj);
+    }
+}
@@ -2,7 +2,6 @@ package io.github.loulangogogo.water.bean;
 
 import io.github.loulangogogo.water.exception.CopyPropertieException;
 import io.github.loulangogogo.water.json.JSON;
-import io.github.loulangogogo.water.json.JsonTool;
 
 import java.util.Map;
 
@@ -17,7 +16,7 @@ public class JsonBeanTool {
     /**
      * Map到对象的属性复制，<br>
      * 替换了{@link BeanTool#copy(Map, Object)},因为直接的转换存在类型上的问题比较多。
-     * 目前使用的方式效率上可能低些，内部方式采用的是json数据转换。
+     * 内部通过jackson的token缓冲直接绑定数据，不会生成中间的json字节数组。
      *
      * @param source 复制的源对象（只能是{@link Map}集合）
      * @param target 复制的目标对象(只能是bean对象)
@@ -32,7 +31,7 @@ public class JsonBeanTool {
      * 将Map集合数据复制到指定类的对象里，<br>
      * 功能等同于{@link JsonBeanTool#mapToBean(Map, Class)}<br>
      * 替换了{@link BeanTool#copy(Map, Class)},因为直接的转换存在类型上的问题比较多。
-     * 目前使用的方式效率上可能低些，内部方式采用的是json数据转换。
+     * 内部通过jackson的token缓冲直接绑定数据，不会生成中间的json字节数组。
      *
      * @param <T>    泛型
      * @param source 复制的源对象
@@ -47,20 +46,24 @@ public class JsonBeanTool {
     /**
      * 将map集合数据复制到对象属性里面.<br>
      * 替换了{@link BeanTool#mapToBean(Map, Object)},因为直接的转换存在类型上的问题比较多。
-     * 目前使用的方式效率上可能低些，内部方式采用的是json数据转换。
+     * 内部通过jackson的token缓冲直接更新对象，不会生成中间的json字节数组，map中不存在的属性保持原值。
      *
      * @param sourceMap 源map对象数据
      * @param targetObj 要整合数据的对象（只能是bean对象）
      * @author :loulan
      */
     public static void mapToBean(Map<String, ? extends Object> sourceMap, Object targetObj) {
-        BeanTool.copy(mapToBean(sourceMap, targetObj.getClass()), targetObj);
+        try {
+            JSON.update(targetObj, sourceMap);
+        } catch (Exception ex) {
+            throw new CopyPropertieException(ex);
+        }
     }
 
     /**
      * 将map集合数据复制到对象属性里面.<br>
      * 替换了{@link BeanTool#mapToBean(Map, Class)},因为直接的转换存在类型上的问题比较多。
-     * 目前使用的方式效率上可能低些，内部方式采用的是json数据转换。
+     * 内部通过jackson的token缓冲直接绑定数据，不会生成中间的json字节数组。
      *
      * @param <T>       泛型
      * @param sourceMap 复制的源对象
@@ -70,7 +73,7 @@ public class JsonBeanTool {
      */
     public static <T> T mapToBean(Map<String, ? extends Object> sourceMap, Class<T> clzz) {
         try {
-            return JSON.parseObj(JsonTool.toJsonBytes(sourceMap), clzz);
+            return JSON.convert(sourceMap, clzz);
         } catch (Exception ex) {
             throw new CopyPropertieException(ex);
         }
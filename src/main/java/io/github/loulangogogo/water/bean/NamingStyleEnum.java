@@ -0,0 +1,58 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.tool.StrTool;
+
+import java.util.function.Function;
+
+/*********************************************************
+ ** 属性复制时的命名转换风格（源属性名称到目标属性名称）
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public enum NamingStyleEnum {
+
+    /**
+     * 驼峰转下划线，例如源属性userName对应目标属性user_name
+     *
+     * @author :loulan
+     */
+    CAMEL_TO_UNDERLINE(StrTool::camelToUnderline, StrTool::underlineToCamel),
+
+    /**
+     * 下划线转驼峰，例如源属性user_name对应目标属性userName
+     *
+     * @author :loulan
+     */
+    UNDERLINE_TO_CAMEL(StrTool::underlineToCamel, StrTool::camelToUnderline);
+
+    private final Function<String, String> toTarget;
+    private final Function<String, String> toSource;
+
+    NamingStyleEnum(Function<String, String> toTarget, Function<String, String> toSource) {
+        this.toTarget = toTarget;
+        this.toSource = toSource;
+    }
+
+    /**
+     * 将源属性名称转换为目标属性名称
+     *
+     * @param sourceName 源属性名称
+     * @return 目标属性名称
+     * @author :loulan
+     */
+    public String toTarget(String sourceName) {
+        return toTarget.apply(sourceName);
+    }
+
+    /**
+     * 将目标属性名称转换为源属性名称
+     *
+     * @param targetName 目标属性名称
+     * @return 源属性名称
+     * @author :loulan
+     */
+    public String toSource(String targetName) {
+        return toSource.apply(targetName);
+    }
+}
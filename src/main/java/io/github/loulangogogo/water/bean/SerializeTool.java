@@ -1,14 +1,19 @@
 package io.github.loulangogogo.water.bean;
 
+import io.github.loulangogogo.water.tool.AssertTool;
 import org.apache.commons.lang3.SerializationUtils;
 
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 
 /*********************************************************
  ** Description: 序列化工具,该工具主要来自apache的lang3包{@link SerializationUtils}
- ** 
+ ** <p>
+ ** 每个方法都有指定{@link Serializer}的重载，可以使用更快的{@link CompactSerializer}，
+ ** 不指定时使用java原生的序列化（{@link JdkSerializer}）。
+ **
  ** @author 楼兰
  ** @since 8
  *********************************************************/
@@ -71,4 +76,124 @@ public class SerializeTool {
     public static <T> T deserialize(InputStream inputStream) {
         return SerializationUtils.deserialize(inputStream);
     }
+
+    /**
+     * Description :将一个对象序列化到缓冲区中，写入之后缓冲区的位置移动到数据的末尾，剩余空间不足时抛出异常
+     *
+     * @param obj    要进行序列化的对象
+     * @param buffer 缓冲区
+     * @author :loulan
+     */
+    public static void serialize(Serializable obj, ByteBuffer buffer) {
+        serialize(obj, buffer, JdkSerializer.getInstance());
+    }
+
+    /**
+     * Description :从缓冲区当前的位置反序列化一个对象，读取之后缓冲区的位置移动到已经读取的数据的末尾
+     *
+     * @param <T>    泛型
+     * @param buffer 缓冲区
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    public static <T> T deserialize(ByteBuffer buffer) {
+        return deserialize(buffer, JdkSerializer.getInstance());
+    }
+
+    /**
+     * Description :使用指定的序列化器进行克隆，该方法必须要实现{@link Serializable}接口
+     *
+     * @param <T>        泛型
+     * @param obj        要进行克隆的对象
+     * @param serializer 序列化器
+     * @return 克隆之后的对象
+     * @author :loulan
+     */
+    public static <T extends Serializable> T clone(T obj, Serializer serializer) {
+        AssertTool.notNull(serializer, "serializer cannot be null!");
+        return serializer.clone(obj);
+    }
+
+    /**
+     * Description :使用指定的序列化器将一个对象序列化为一个byte数组
+     *
+     * @param obj        要进行序列化的对象
+     * @param serializer 序列化器
+     * @return 序列化之后的byte数组
+     * @author :loulan
+     */
+    public static byte[] serialize(Serializable obj, Serializer serializer) {
+        AssertTool.notNull(serializer, "serializer cannot be null!");
+        return serializer.serialize(obj);
+    }
+
+    /**
+     * Description :使用指定的序列化器将一个对象序列化到一个输出流中
+     *
+     * @param obj          要进行序列化的对象
+     * @param outputStream 输出流
+     * @param serializer   序列化器
+     * @author :loulan
+     */
+    public static void serialize(Serializable obj, OutputStream outputStream, Serializer serializer) {
+        AssertTool.notNull(serializer, "serializer cannot be null!");
+        serializer.serialize(obj, outputStream);
+    }
+
+    /**
+     * Description :使用指定的序列化器将byte数组进行反序列化为一个对象
+     *
+     * @param <T>        泛型
+     * @param objectData 要进行反序列化的byte数组
+     * @param serializer 序列化器
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    public static <T> T deserialize(byte[] objectData, Serializer serializer) {
+        AssertTool.notNull(serializer, "serializer cannot be null!");
+        return serializer.deserialize(objectData);
+    }
+
+    /**
+     * Description :使用指定的序列化器将一个输入流反序列化为一个对象
+     *
+     * @param <T>         泛型
+     * @param inputStream 要进行反序列化的输入流
+     * @param serializer  序列化器
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    public static <T> T deserialize(InputStream inputStream, Serializer serializer) {
+        AssertTool.notNull(serializer, "serializer cannot be null!");
+        return serializer.deserialize(inputStream);
+    }
+
+    /**
+     * Description :使用指定的序列化器将一个对象序列化到缓冲区中，写入之后缓冲区的位置移动到数据的末尾，剩余空间不足时抛出异常
+     *
+     * @param obj        要进行序列化的对象
+     * @param buffer     缓冲区
+     * @param serializer 序列化器
+     * @author :loulan
+     */
+    public static void serialize(Serializable obj, ByteBuffer buffer, Serializer serializer) {
+        AssertTool.notNull(buffer, "buffer cannot be null!");
+        AssertTool.notNull(serializer, "serializer cannot be null!");
+        serializer.serialize(obj, buffer);
+    }
+
+    /**
+     * Description :使用指定的序列化器从缓冲区当前的位置反序列化一个对象，读取之后缓冲区的位置移动到已经读取的数据的末尾
+     *
+     * @param <T>        泛型
+     * @param buffer     缓冲区
+     * @param serializer 序列化器
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    public static <T> T deserialize(ByteBuffer buffer, Serializer serializer) {
+        AssertTool.notNull(buffer, "buffer cannot be null!");
+        AssertTool.notNull(serializer, "serializer cannot be null!");
+        return serializer.deserialize(buffer);
+    }
 }
@@ -0,0 +1,105 @@
+package io.github.loulangogogo.water.bean;
+
+import io.github.loulangogogo.water.exception.SerializeException;
+import io.github.loulangogogo.water.io.ByteBufferInputStream;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/*********************************************************
+ ** 序列化器的扩展接口，{@link SerializeTool}和{@link io.github.loulangogogo.water.tool.ObjectTool#deepClone(java.io.Serializable, Serializer)}
+ ** 可以指定使用的序列化器。
+ ** <pre>
+ **     1.{@link JdkSerializer}：java原生的序列化（默认）；
+ **     2.{@link CompactSerializer}：紧凑的二进制序列化，速度更快，序列化结果更小。
+ ** </pre>
+ ** 实现类必须是线程安全的。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public interface Serializer {
+
+    /**
+     * 将对象序列化为一个byte数组
+     *
+     * @param obj 要进行序列化的对象
+     * @return 序列化之后的byte数组
+     * @author :loulan
+     */
+    byte[] serialize(Object obj);
+
+    /**
+     * 将对象序列化到一个输出流中（是否关闭输出流由具体的实现决定）
+     *
+     * @param obj          要进行序列化的对象
+     * @param outputStream 输出流
+     * @author :loulan
+     */
+    void serialize(Object obj, OutputStream outputStream);
+
+    /**
+     * 将byte数组反序列化为一个对象
+     *
+     * @param <T>        泛型
+     * @param objectData 要进行反序列化的byte数组
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    <T> T deserialize(byte[] objectData);
+
+    /**
+     * 从输入流中反序列化一个对象（是否关闭输入流由具体的实现决定）
+     *
+     * @param <T>         泛型
+     * @param inputStream 要进行反序列化的输入流
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    <T> T deserialize(InputStream inputStream);
+
+    /**
+     * 将对象序列化到缓冲区中，数据从缓冲区当前的位置开始写入，写入之后缓冲区的位置移动到数据的末尾；
+     * 缓冲区剩余空间不足时抛出{@link SerializeException}，缓冲区保持不变。
+     *
+     * @param obj    要进行序列化的对象
+     * @param buffer 缓冲区
+     * @author :loulan
+     */
+    default void serialize(Object obj, ByteBuffer buffer) {
+        byte[] bytes = serialize(obj);
+        if (buffer.remaining() < bytes.length) {
+            throw new SerializeException("缓冲区剩余空间不足，需要" + bytes.length + "个字节，剩余" + buffer.remaining() + "个字节");
+        }
+        buffer.put(bytes);
+    }
+
+    /**
+     * 从缓冲区当前的位置反序列化一个对象，读取之后缓冲区的位置移动到已经读取的数据的末尾
+     *
+     * @param <T>    泛型
+     * @param buffer 缓冲区
+     * @return 反序列化后的对象
+     * @author :loulan
+     */
+    default <T> T deserialize(ByteBuffer buffer) {
+        return deserialize(new ByteBufferInputStream(buffer));
+    }
+
+    /**
+     * 通过序列化再反序列化的方式克隆对象
+     *
+     * @param <T> 泛型
+     * @param obj 要进行克隆的对象
+     * @return 克隆之后的对象
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    default <T> T clone(T obj) {
+        if (obj == null) {
+            return null;
+        }
+        return (T) deserialize(serialize(obj));
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.loulangogogo.water.bean;
+
+/*********************************************************
+ ** 类型转换器，将源类型的值转换为目标类型的值，
+ ** 通过{@link ConverterRegistry#register(Class, Class, TypeConverter)}注册后在属性复制时使用。
+ ** <p>
+ ** 转换器不会接收到{@code null}值，{@code null}值由属性复制器直接处理。
+ **
+ ** @param <S> 源类型
+ ** @param <T> 目标类型
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+@FunctionalInterface
+public interface TypeConverter<S, T> {
+
+    /**
+     * 进行类型转换
+     *
+     * @param value 源类型的值（不会为{@code null}）
+     * @return 转换后的目标类型的值
+     * @author :loulan
+     */
+    T convert(S value);
+}
@@ -0,0 +1,109 @@
+package io.github.loulangogogo.water.bean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*********************************************************
+ ** 缓存预热的结果报告（见{@link BeanTool#warmUp(java.util.Collection)}），
+ ** 记录每个类预热花费的时间以及预热失败的类和异常。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class WarmUpReport {
+
+    /**
+     * 每个类预热花费的时间（纳秒），顺序和预热的类的顺序一致
+     *
+     * @author :loulan
+     */
+    private final Map<Class<?>, Long> elapsedNanos;
+
+    /**
+     * 预热失败的类和异常
+     *
+     * @author :loulan
+     */
+    private final Map<Class<?>, Throwable> failures;
+
+    /**
+     * 整个预热过程花费的时间（纳秒，并行预热时小于每个类的时间之和）
+     *
+     * @author :loulan
+     */
+    private final long totalNanos;
+
+    /**
+     * 创建预热报告
+     *
+     * @param elapsedNanos 每个类预热花费的时间
+     * @param failures     预热失败的类和异常
+     * @param totalNanos   整个预热过程花费的时间
+     * @author :loulan
+     */
+    WarmUpReport(Map<Class<?>, Long> elapsedNanos, Map<Class<?>, Throwable> failures, long totalNanos) {
+        this.elapsedNanos = Collections.unmodifiableMap(elapsedNanos);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.totalNanos = totalNanos;
+    }
+
+    public Map<Class<?>, Long> getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public Map<Class<?>, Throwable> getFailures() {
+        return failures;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 获取预热的类的个数（包括预热失败的类）
+     *
+     * @return 类的个数
+     * @author :loulan
+     */
+    public int getClassCount() {
+        return elapsedNanos.size();
+    }
+
+    /**
+     * 获取预热花费时间最长的几个类
+     *
+     * @param limit 最多获取的个数
+     * @return 类和花费的时间（纳秒），按花费的时间从大到小排序
+     * @author :loulan
+     */
+    public Map<Class<?>, Long> getSlowest(int limit) {
+        List<Map.Entry<Class<?>, Long>> entries = new ArrayList<>(elapsedNanos.entrySet());
+        entries.sort(Map.Entry.<Class<?>, Long>comparingByValue().reversed());
+        Map<Class<?>, Long> slowest = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(limit, entries.size()); i++) {
+            slowest.put(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+        return slowest;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+                .append("warm up ").append(getClassCount()).append(" classes in ")
+                .append(TimeUnit.NANOSECONDS.toMillis(totalNanos)).append(" ms, ")
+                .append(failures.size()).append(" failed");
+        for (Map.Entry<Class<?>, Long> entry : elapsedNanos.entrySet()) {
+            builder.append(System.lineSeparator()).append("  ").append(entry.getKey().getName()).append(": ")
+                    .append(TimeUnit.NANOSECONDS.toMicros(entry.getValue())).append(" us");
+            Throwable failure = failures.get(entry.getKey());
+            if (failure != null) {
+                builder.append(" (failed: ").append(failure).append(")");
+            }
+        }
+        return builder.toString();
+    }
+}
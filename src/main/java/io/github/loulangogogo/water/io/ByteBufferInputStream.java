@@ -0,0 +1,60 @@
+package io.github.loulangogogo.water.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/*********************************************************
+ ** 读取{@link ByteBuffer}剩余数据的输入流，读取时直接移动缓冲区的位置，不复制缓冲区的数据。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class ByteBufferInputStream extends InputStream {
+
+    /**
+     * 读取的缓冲区
+     *
+     * @author :loulan
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * 创建输入流，读取时会移动缓冲区的位置，不需要移动时传入{@link ByteBuffer#duplicate()}
+     *
+     * @param buffer 读取的缓冲区
+     * @author :loulan
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.loulangogogo.water.io;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/*********************************************************
+ ** 写入{@link ByteBuffer}剩余空间的输出流，写入时直接移动缓冲区的位置，缓冲区不会自动扩容，
+ ** 剩余空间不足时抛出{@link BufferOverflowException}。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class ByteBufferOutputStream extends OutputStream {
+
+    /**
+     * 写入的缓冲区
+     *
+     * @author :loulan
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * 创建输出流
+     *
+     * @param buffer 写入的缓冲区
+     * @author :loulan
+     */
+    public ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        buffer.put(bytes, offset, length);
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.loulangogogo.water.json;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import io.github.loulangogogo.water.exception.JsonException;
+import io.github.loulangogogo.water.tool.AssertTool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*********************************************************
+ ** json数组的流式迭代器（见{@link JsonHandler#iterateArray(java.io.InputStream, Class)}），
+ ** 每次只解析数组中的一个元素，内存中不会保存整个数组，适合处理非常大的json数组。
+ ** 输入的根节点不是数组时，依次解析根节点下的多个值（例如换行分隔的多个json对象）。
+ ** <p>
+ ** 迭代器不是线程安全的；迭代结束、调用{@link #close()}或者消费方法（{@link #forEach(Consumer)}等）结束时会关闭输入。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * jackson的迭代器
+     *
+     * @author :loulan
+     */
+    private final MappingIterator<T> iterator;
+
+    /**
+     * 根据jackson的迭代器创建
+     *
+     * @param iterator jackson的迭代器
+     * @author :loulan
+     */
+    JsonArrayIterator(MappingIterator<T> iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return iterator.hasNextValue();
+        } catch (IOException ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    @Override
+    public T next() {
+        try {
+            if (!iterator.hasNextValue()) {
+                throw new NoSuchElementException();
+            }
+            return iterator.nextValue();
+        } catch (IOException ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 转换为顺序流，流关闭时关闭当前迭代器
+     *
+     * @return 元素的顺序流
+     * @author :loulan
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 在当前线程中依次处理剩余的所有元素，处理完成后关闭迭代器
+     *
+     * @param action 元素的处理操作
+     * @return 处理的元素个数
+     * @author :loulan
+     */
+    public long forEach(Consumer<? super T> action) {
+        try {
+            long count = 0;
+            while (hasNext()) {
+                action.accept(next());
+                count++;
+            }
+            return count;
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * 分批并行处理剩余的所有元素，处理完成后关闭迭代器。
+     * 当前线程负责解析，每解析够一批元素就交给执行器处理，同时处理中的批次不超过执行器的并行度，
+     * 解析速度超过处理速度时当前线程会等待，所以内存中最多保存（并行度 + 1）批元素。
+     * 元素的处理顺序不确定；某个元素处理失败后不再解析新的元素，等待已经提交的批次结束后抛出第一个异常。
+     *
+     * @param action    元素的处理操作，需要是线程安全的
+     * @param batchSize 每批元素的个数，必须大于0
+     * @param executor  执行器，为{@code null}时在当前线程中处理
+     * @return 处理的元素个数
+     * @author :loulan
+     */
+    public long forEach(Consumer<? super T> action, int batchSize, Executor executor) {
+        AssertTool.isTrue(batchSize > 0, "每批元素的个数必须大于0");
+        if (executor == null) {
+            return forEach(action);
+        }
+        int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long count = 0;
+        try {
+            while (failure.get() == null && hasNext()) {
+                List<T> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && hasNext()) {
+                    batch.add(next());
+                }
+                count += batch.size();
+                permits.acquire();
+                Runnable task = () -> {
+                    try {
+                        batch.forEach(action);
+                    } catch (Throwable ex) {
+                        failure.compareAndSet(null, ex);
+                    } finally {
+                        permits.release();
+                    }
+                };
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException ex) {
+                    // 执行器拒绝执行的时候由当前线程执行
+                    task.run();
+                }
+            }
+            // 等待所有已经提交的批次处理完成
+            permits.acquire(parallelism);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new JsonException("json数组处理被中断", ex);
+        } finally {
+            close();
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else if (cause != null) {
+            throw new JsonException("json数组处理异常", cause);
+        }
+        return count;
+    }
+
+    /**
+     * 关闭迭代器和输入
+     *
+     * @author :loulan
+     */
+    @Override
+    public void close() {
+        try {
+            iterator.close();
+        } catch (IOException ex) {
+            throw new JsonException("json迭代器关闭异常", ex);
+        }
+    }
+}
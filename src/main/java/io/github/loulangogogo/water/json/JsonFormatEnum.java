@@ -0,0 +1,82 @@
+package io.github.loulangogogo.water.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.github.loulangogogo.water.exception.JsonException;
+
+/*********************************************************
+ ** json处理器的数据格式（见{@link JsonHandlerBuilder#setFormat(JsonFormatEnum)}）。
+ ** <p>
+ ** 二进制格式和json使用相同的注解和配置（包括日期格式），数据更紧凑，适合服务之间的内部传输；
+ ** 二进制格式只能使用字节数组、字节流相关的方法，字符串相关的方法（例如{@link JsonHandler#toJsonString(Object)}）
+ ** 以及NDJSON相关的方法只支持json格式。
+ ** <p>
+ ** 二进制格式依赖的jackson-dataformat-smile、jackson-dataformat-cbor是可选依赖，使用时需要自行引入，
+ ** 工厂类在创建工厂的时候才按类名加载，没有引入依赖时不影响json格式的使用。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public enum JsonFormatEnum {
+
+    /**
+     * 文本json
+     *
+     * @author :loulan
+     */
+    JSON("com.fasterxml.jackson.core.JsonFactory", "com.fasterxml.jackson.core:jackson-core", false),
+
+    /**
+     * Smile二进制json，jackson定义的和json一一对应的二进制格式，重复的属性名只写入一次
+     *
+     * @author :loulan
+     */
+    SMILE("com.fasterxml.jackson.dataformat.smile.SmileFactory", "com.fasterxml.jackson.dataformat:jackson-dataformat-smile", true),
+
+    /**
+     * CBOR二进制格式（RFC 8949），其他语言通用
+     *
+     * @author :loulan
+     */
+    CBOR("com.fasterxml.jackson.dataformat.cbor.CBORFactory", "com.fasterxml.jackson.dataformat:jackson-dataformat-cbor", true);
+
+    private final String factoryClassName;
+    private final String artifact;
+    private final boolean binary;
+
+    JsonFormatEnum(String factoryClassName, String artifact, boolean binary) {
+        this.factoryClassName = factoryClassName;
+        this.artifact = artifact;
+        this.binary = binary;
+    }
+
+    /**
+     * 创建这个格式的jackson工厂
+     *
+     * @return jackson工厂
+     * @throws JsonException 没有引入这个格式需要的依赖
+     * @author :loulan
+     */
+    public JsonFactory createFactory() {
+        Class<?> factoryClass;
+        try {
+            factoryClass = Class.forName(factoryClassName, true, JsonFormatEnum.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError ex) {
+            throw new JsonException(name() + "格式需要引入依赖" + artifact, ex);
+        }
+        try {
+            return (JsonFactory) factoryClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new JsonException("创建" + name() + "格式的jackson工厂异常", ex);
+        }
+    }
+
+    /**
+     * 是否是二进制格式
+     *
+     * @return 是否是二进制格式
+     * @author :loulan
+     */
+    public boolean isBinary() {
+        return binary;
+    }
+}
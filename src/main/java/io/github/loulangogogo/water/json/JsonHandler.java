@@ -0,0 +1,1295 @@
+package io.github.loulangogogo.water.json;
+
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.loulangogogo.water.exception.JsonException;
+import io.github.loulangogogo.water.io.ByteBufferInputStream;
+import io.github.loulangogogo.water.io.ByteBufferOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/*********************************************************
+ ** json处理器，每个处理器持有一份独立的配置（例如不同的属性命名策略、日期格式），
+ ** 处理器之间互不影响。处理器创建之后配置不能再修改，内部的{@link ObjectReader}和{@link ObjectWriter}
+ ** 在创建时生成，多线程共享使用。解析时使用的类型（{@link JavaType}）和对应的读取器按类型缓存，
+ ** 重复解析同一种类型时不再构建类型和查找反序列化器。
+ ** <p>
+ ** 默认处理器（见{@link #getDefault()}）使用{@link JsonTool}的配置，{@link JsonTool}的静态方法都通过默认处理器完成；
+ ** 需要其他配置时通过{@link #builder()}构建新的处理器，构建时可以预热常用的类型（见{@link JsonHandlerBuilder#addWarmUpType(Class[])}）。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class JsonHandler {
+
+    /**
+     * 默认处理器，使用{@link JsonToolObjectMapper}中的配置
+     *
+     * @author :loulan
+     */
+    private static final JsonHandler DEFAULT = new JsonHandler(JsonToolObjectMapper.objectMapper, JsonFormatEnum.JSON);
+
+    /**
+     * 二进制格式的默认处理器，第一次使用时创建
+     *
+     * @author :loulan
+     */
+    private static final Map<JsonFormatEnum, JsonHandler> FORMAT_DEFAULTS = new ConcurrentHashMap<>();
+
+    /**
+     * 数据格式
+     *
+     * @author :loulan
+     */
+    private final JsonFormatEnum format;
+
+    /**
+     * 处理器使用的ObjectMapper，只用于类型构建和对象转换，不对外暴露
+     *
+     * @author :loulan
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * json解析使用的读取器
+     *
+     * @author :loulan
+     */
+    private final ObjectReader reader;
+
+    /**
+     * json生成使用的写入器
+     *
+     * @author :loulan
+     */
+    private final ObjectWriter writer;
+
+    /**
+     * 流式写入json数组使用的写入器，写入完成后不关闭输出
+     *
+     * @author :loulan
+     */
+    private final ObjectWriter arrayWriter;
+
+    /**
+     * 流式写入NDJSON（每行一个json）使用的写入器，写入完成后不关闭输出，不进行换行缩进
+     *
+     * @author :loulan
+     */
+    private final ObjectWriter linesWriter;
+
+    /**
+     * 流式写入时每写入多少个元素刷新一次输出
+     *
+     * @author :loulan
+     */
+    private static final int FLUSH_SIZE = 1000;
+
+    /**
+     * 按类型缓存的对象读取器
+     *
+     * @author :loulan
+     */
+    private final ClassValue<ObjectReader> objReaders = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return reader.forType(type);
+        }
+    };
+
+    /**
+     * 按元素类型缓存的List集合读取器
+     *
+     * @author :loulan
+     */
+    private final ClassValue<ObjectReader> listReaders = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return reader.forType(getTypeFactory().constructCollectionType(ArrayList.class, type));
+        }
+    };
+
+    /**
+     * 按值类型缓存的Map读取器
+     *
+     * @author :loulan
+     */
+    private final ClassValue<ObjectReader> mapReaders = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return reader.forType(getTypeFactory().constructMapType(LinkedHashMap.class, String.class, type));
+        }
+    };
+
+    /**
+     * 按{@link JavaType}缓存的读取器
+     *
+     * @author :loulan
+     */
+    private final Map<JavaType, ObjectReader> typeReaders = new ConcurrentHashMap<>();
+
+    /**
+     * {@link JsonMap}的读取器
+     *
+     * @author :loulan
+     */
+    private final ObjectReader jsonMapReader;
+
+    /**
+     * {@link JsonMap}的list集合的读取器
+     *
+     * @author :loulan
+     */
+    private final ObjectReader listJsonMapReader;
+
+    /**
+     * 根据配置好的ObjectMapper创建处理器，创建之后不能再修改ObjectMapper的配置
+     *
+     * @param objectMapper 配置好的ObjectMapper
+     * @param format       数据格式，和ObjectMapper使用的工厂一致
+     * @author :loulan
+     */
+    JsonHandler(ObjectMapper objectMapper, JsonFormatEnum format) {
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.reader = objectMapper.reader();
+        this.writer = objectMapper.writer();
+        this.arrayWriter = writer.without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+        this.linesWriter = arrayWriter.without(SerializationFeature.INDENT_OUTPUT).withRootValueSeparator("\n");
+        MapType jsonMapType = getTypeFactory().constructMapType(JsonMap.class, String.class, Object.class);
+        this.jsonMapReader = reader.forType(jsonMapType);
+        this.listJsonMapReader = reader.forType(getTypeFactory().constructCollectionType(ArrayList.class, jsonMapType));
+    }
+
+    /**
+     * 获取默认处理器（和{@link JsonTool}的静态方法使用同一份配置）
+     *
+     * @return 默认处理器
+     * @author :loulan
+     */
+    public static JsonHandler getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 获取指定数据格式的默认处理器，配置（包括日期格式）和{@link JsonTool}一致
+     *
+     * @param format 数据格式
+     * @return 默认处理器
+     * @author :loulan
+     */
+    public static JsonHandler getDefault(JsonFormatEnum format) {
+        if (format == JsonFormatEnum.JSON) {
+            return DEFAULT;
+        }
+        return FORMAT_DEFAULTS.computeIfAbsent(format, key -> builder().setFormat(key).build());
+    }
+
+    /**
+     * 构建处理器的建造者，默认配置和{@link JsonTool}一致
+     *
+     * @return 处理器建造者
+     * @author :loulan
+     */
+    public static JsonHandlerBuilder builder() {
+        return JsonHandlerBuilder.builder();
+    }
+
+    /**
+     * 预热指定的类型，提前生成这些类型的序列化器和反序列化器，避免第一次使用时生成
+     *
+     * @param types 要预热的类型
+     * @return 当前处理器
+     * @author :loulan
+     */
+    public JsonHandler warmUp(Class<?>... types) {
+        for (Class<?> type : types) {
+            try {
+                writer.forType(type);
+                objReaders.get(type);
+            } catch (Exception ex) {
+                throw new JsonException("json类型预热异常：" + type.getName(), ex);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 获取数据格式
+     *
+     * @return 数据格式
+     * @author :loulan
+     */
+    public JsonFormatEnum getFormat() {
+        return format;
+    }
+
+    /**
+     * 获取json解析使用的读取器（不可变对象，可以通过with系列方法派生新的读取器）
+     *
+     * @return 读取器
+     * @author :loulan
+     */
+    public ObjectReader getReader() {
+        return reader;
+    }
+
+    /**
+     * 获取json生成使用的写入器（不可变对象，可以通过with系列方法派生新的写入器）
+     *
+     * @return 写入器
+     * @author :loulan
+     */
+    public ObjectWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * 将对象转化为json字符串
+     *
+     * @param obj 要进行json转化的对象
+     * @return 转化完成的对象
+     * @author :loulan
+     */
+    public String toJson(Object obj) {
+        return toJsonString(obj);
+    }
+
+    /**
+     * 将对象转化为json字节数组
+     *
+     * @param obj 要进行json转化的对象
+     * @return 转化完成的字节数组
+     * @author :loulan
+     */
+    public byte[] toJsonBytes(Object obj) {
+        try {
+            return writer.writeValueAsBytes(obj);
+        } catch (Exception ex) {
+            throw new JsonException("obj转json异常", ex);
+        }
+    }
+
+    /**
+     * 将对象转化为json字符串
+     *
+     * @param obj 要进行json转化的对象
+     * @return 转化完成的对象
+     * @author :loulan
+     */
+    public String toJsonString(Object obj) {
+        try {
+            return writer.writeValueAsString(obj);
+        } catch (Exception ex) {
+            throw new JsonException("obj转json异常", ex);
+        }
+    }
+
+    /**
+     * 将对象转化为json写入缓冲区的剩余空间，不分配中间的字节数组
+     *
+     * @param obj    要进行json转化的对象
+     * @param buffer 写入的缓冲区，写入完成后位置移动到json的末尾；剩余空间不足时抛出异常并且位置不变
+     * @return 写入的字节数
+     * @author :loulan
+     */
+    public int writeTo(Object obj, ByteBuffer buffer) {
+        int position = buffer.position();
+        try {
+            arrayWriter.writeValue(new ByteBufferOutputStream(buffer), obj);
+            return buffer.position() - position;
+        } catch (BufferOverflowException ex) {
+            buffer.position(position);
+            throw new JsonException("缓冲区剩余空间不足，剩余：" + buffer.remaining(), ex);
+        } catch (Exception ex) {
+            buffer.position(position);
+            throw new JsonException("obj转json异常", ex);
+        }
+    }
+
+    /**
+     * 将对象转化为json写入输出流，写入完成后不会关闭输出流
+     *
+     * @param obj 要进行json转化的对象
+     * @param out 输出流
+     * @author :loulan
+     */
+    public void writeTo(Object obj, OutputStream out) {
+        try {
+            arrayWriter.writeValue(out, obj);
+        } catch (Exception ex) {
+            throw new JsonException("obj转json异常", ex);
+        }
+    }
+
+    /**
+     * 将对象转化为json，写入当前线程复用的缓冲区，返回缓冲区中json数据的视图，不复制数据。
+     * 返回的数据只在当前线程下一次调用这个方法之前有效，需要保留时自行复制，适合马上写出的场景（例如写入响应）
+     *
+     * @param obj 要进行json转化的对象
+     * @return json数据的视图，位置为0，限制为json的长度
+     * @author :loulan
+     */
+    public ByteBuffer toJsonBuffer(Object obj) {
+        JsonOutputBuffer output = JsonOutputBuffer.acquire();
+        try {
+            arrayWriter.writeValue(output, obj);
+            return output.slice();
+        } catch (Exception ex) {
+            throw new JsonException("obj转json异常", ex);
+        } finally {
+            JsonOutputBuffer.release(output);
+        }
+    }
+
+    /**
+     * 解析json为指定的对象
+     *
+     * @param <T>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 指定类型的class对象
+     * @return 解析后的指定类型
+     * @author :loulan
+     */
+    public <T> T parseObj(String json, Class<T> clzz) {
+        try {
+            return objReaders.get(clzz).readValue(json);
+        } catch (Exception ex) {
+            throw new JsonException("json转obj异常", ex);
+        }
+    }
+
+    /**
+     * 解析json为指定的对象
+     *
+     * @param <T>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 指定类型的class对象
+     * @return 解析后的指定类型
+     * @author :loulan
+     */
+    public <T> T parseObj(byte[] json, Class<T> clzz) {
+        try {
+            return objReaders.get(clzz).readValue(json);
+        } catch (Exception ex) {
+            throw new JsonException("json转obj异常", ex);
+        }
+    }
+
+    /**
+     * 解析json为指定类型的List集合
+     *
+     * @param <T>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 指定类型的class对象
+     * @return 指定类型的List集合
+     * @author :loulan
+     */
+    public <T> List<T> parseList(String json, Class<T> clzz) {
+        return read(listReaders.get(clzz), json);
+    }
+
+    /**
+     * 解析json为指定类型的List集合
+     *
+     * @param <T>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 指定类型的class对象
+     * @return 指定类型的List集合
+     * @author :loulan
+     */
+    public <T> List<T> parseList(byte[] json, Class<T> clzz) {
+        return read(listReaders.get(clzz), json);
+    }
+
+    /**
+     * 解析json为Map对象
+     *
+     * @param json 要进行解析的json数据
+     * @return 解析后的Map对象
+     * @author :loulan
+     */
+    public Map<String, Object> parseMap(String json) {
+        return parseMap(json, Object.class);
+    }
+
+    /**
+     * 解析json为Map对象
+     *
+     * @param json 要进行解析的json数据
+     * @return 解析后的Map对象
+     * @author :loulan
+     */
+    public Map<String, Object> parseMap(byte[] json) {
+        return parseMap(json, Object.class);
+    }
+
+    /**
+     * 解析json为指定类型的Map对象
+     *
+     * @param <V>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 指定类型的class对象
+     * @return 解析后指定类型的Map对象
+     * @author :loulan
+     */
+    public <V> Map<String, V> parseMap(String json, Class<V> clzz) {
+        return read(mapReaders.get(clzz), json);
+    }
+
+    /**
+     * 解析json为指定类型的Map对象
+     *
+     * @param <V>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 指定类型的class对象
+     * @return 解析后指定类型的Map对象
+     * @author :loulan
+     */
+    public <V> Map<String, V> parseMap(byte[] json, Class<V> clzz) {
+        return read(mapReaders.get(clzz), json);
+    }
+
+    /**
+     * 解析json为{@link JsonMap}对象
+     *
+     * @param json 要进行解析的json数据
+     * @return 解析后JsonMap对象
+     * @author :loulan
+     */
+    public JsonMap parseJsonMap(String json) {
+        return read(jsonMapReader, json);
+    }
+
+    /**
+     * 解析json为{@link JsonMap}对象
+     *
+     * @param json 要进行解析的json数据
+     * @return 解析后JsonMap对象
+     * @author :loulan
+     */
+    public JsonMap parseJsonMap(byte[] json) {
+        return read(jsonMapReader, json);
+    }
+
+    /**
+     * 解析json为延迟转换的{@link JsonMap}对象（见{@link JsonMap#lazy(ObjectNode)}），
+     * 只有读取到某个属性的时候才把这个属性转换为java对象；读取属性也会修改对象，只读的时候也不能在多个线程中共享
+     *
+     * @param json 要进行解析的json数据，根节点必须是json对象
+     * @return 解析后JsonMap对象
+     * @author :loulan
+     */
+    public JsonMap parseLazyJsonMap(String json) {
+        try {
+            return lazy(reader.readTree(json));
+        } catch (JsonException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 解析json为延迟转换的{@link JsonMap}对象（见{@link JsonMap#lazy(ObjectNode)}），
+     * 只有读取到某个属性的时候才把这个属性转换为java对象；读取属性也会修改对象，只读的时候也不能在多个线程中共享
+     *
+     * @param json 要进行解析的json数据，根节点必须是json对象
+     * @return 解析后JsonMap对象
+     * @author :loulan
+     */
+    public JsonMap parseLazyJsonMap(byte[] json) {
+        try {
+            return lazy(reader.readTree(json));
+        } catch (JsonException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 解析json为{@link JsonMap}对象得list集合
+     *
+     * @param json 要进行解析的json数据
+     * @return 解析后JsonMap对象的list集合
+     * @author :loulan
+     */
+    public List<JsonMap> parseListJsonMap(String json) {
+        return read(listJsonMapReader, json);
+    }
+
+    /**
+     * 解析json为{@link JsonMap}对象得list集合
+     *
+     * @param json 要进行解析的json数据
+     * @return 解析后JsonMap对象的list集合
+     * @author :loulan
+     */
+    public List<JsonMap> parseListJsonMap(byte[] json) {
+        return read(listJsonMapReader, json);
+    }
+
+    /**
+     * 将json解析为指定的类型
+     *
+     * @param <T>          泛型
+     * @param json         要进行解析的json数据
+     * @param valueTypeRef 类型指引
+     * @return 解析后的指定类型
+     * @author :loulan
+     */
+    public <T> T parse(String json, TypeReference<T> valueTypeRef) {
+        return parse(json, objectMapper.constructType(valueTypeRef));
+    }
+
+    /**
+     * 将json解析为指定的类型
+     *
+     * @param <T>          泛型
+     * @param json         要进行解析的json数据
+     * @param valueTypeRef 类型指引
+     * @return 解析后的指定类型
+     * @author :loulan
+     */
+    public <T> T parse(byte[] json, TypeReference<T> valueTypeRef) {
+        return parse(json, objectMapper.constructType(valueTypeRef));
+    }
+
+    /**
+     * 将json解析为指定的类型
+     *
+     * @param <T>      泛型
+     * @param json     要进行解析的json数据
+     * @param javaType 要解析成的类型对象
+     * @return 解析后的指定类型
+     * @author :loulan
+     */
+    public <T> T parse(String json, JavaType javaType) {
+        try {
+            return readerFor(javaType).readValue(json);
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 将json解析为指定的类型
+     *
+     * @param <T>      泛型
+     * @param json     要进行解析的json数据
+     * @param javaType 要解析成的类型对象
+     * @return 解析后的指定类型
+     * @author :loulan
+     */
+    public <T> T parse(byte[] json, JavaType javaType) {
+        try {
+            return readerFor(javaType).readValue(json);
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 流式解析json数组，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json json数据的输入流，迭代结束或者关闭时关闭
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public <T> JsonArrayIterator<T> iterateArray(InputStream json, Class<T> clzz) {
+        try {
+            return new JsonArrayIterator<>(objReaders.get(clzz).readValues(json));
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 流式解析json数组，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json json数据的字符输入流，迭代结束或者关闭时关闭
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public <T> JsonArrayIterator<T> iterateArray(Reader json, Class<T> clzz) {
+        try {
+            return new JsonArrayIterator<>(objReaders.get(clzz).readValues(json));
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 流式解析json数组，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public <T> JsonArrayIterator<T> iterateArray(byte[] json, Class<T> clzz) {
+        try {
+            return new JsonArrayIterator<>(objReaders.get(clzz).readValues(json));
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 流式解析缓冲区中的NDJSON（每行一个json）数据，直接从缓冲区中解析，不会为每一行生成字符串
+     *
+     * @param <T>    泛型
+     * @param buffer NDJSON数据的缓冲区（例如内存映射的文件），解析的是缓冲区的剩余数据，缓冲区的位置不会改变
+     * @param clzz   每一行的类型的class对象
+     * @return 每一行解析出来的对象的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public <T> JsonArrayIterator<T> iterateLines(ByteBuffer buffer, Class<T> clzz) {
+        checkLines();
+        try {
+            return new JsonArrayIterator<>(readValues(clzz, buffer));
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 流式解析NDJSON（每行一个json）文件，文件通过内存映射读取，不会为每一行生成字符串
+     *
+     * @param <T>  泛型
+     * @param file NDJSON文件的路径
+     * @param clzz 每一行的类型的class对象
+     * @return 每一行解析出来的对象的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public <T> JsonArrayIterator<T> iterateLines(Path file, Class<T> clzz) {
+        checkLines();
+        List<ByteBuffer> regions = JsonLines.map(file);
+        if (regions.size() <= 1) {
+            return iterateLines(regions.isEmpty() ? ByteBuffer.allocate(0) : regions.get(0), clzz);
+        }
+        List<InputStream> inputs = new ArrayList<>(regions.size());
+        for (ByteBuffer region : regions) {
+            inputs.add(new ByteBufferInputStream(region));
+        }
+        return iterateArray(new SequenceInputStream(Collections.enumeration(inputs)), clzz);
+    }
+
+    /**
+     * 解析缓冲区中的NDJSON（每行一个json）数据并逐个处理，不会为每一行生成字符串。
+     * 指定执行器时按换行符把数据切分成多个分块，多个分块并行解析：
+     * 有序处理时在当前线程中按行的顺序处理解析出来的对象，同时解析的分块不超过执行器的并行度；
+     * 无序处理时在执行器的线程中直接处理解析出来的对象，处理操作需要是线程安全的。
+     * 解析或者处理失败时其它分块停止解析，等待已经提交的分块结束之后抛出异常。
+     *
+     * @param <T>      泛型
+     * @param buffer   NDJSON数据的缓冲区（例如内存映射的文件），解析的是缓冲区的剩余数据，缓冲区的位置不会改变
+     * @param clzz     每一行的类型的class对象
+     * @param action   解析出来的对象的处理操作
+     * @param executor 执行器，为{@code null}时在当前线程中解析和处理
+     * @param ordered  是否按行的顺序处理
+     * @return 处理的对象个数
+     * @author :loulan
+     */
+    public <T> long forEachLine(ByteBuffer buffer, Class<T> clzz, Consumer<? super T> action, Executor executor, boolean ordered) {
+        return forEachLine(Collections.singletonList(buffer), clzz, action, executor, ordered);
+    }
+
+    /**
+     * 解析NDJSON（每行一个json）文件并逐个处理，文件通过内存映射读取，不会为每一行生成字符串。
+     * 指定执行器时按换行符把文件切分成多个分块，多个分块并行解析：
+     * 有序处理时在当前线程中按行的顺序处理解析出来的对象，同时解析的分块不超过执行器的并行度；
+     * 无序处理时在执行器的线程中直接处理解析出来的对象，处理操作需要是线程安全的。
+     * 解析或者处理失败时其它分块停止解析，等待已经提交的分块结束之后抛出异常。
+     *
+     * @param <T>      泛型
+     * @param file     NDJSON文件的路径
+     * @param clzz     每一行的类型的class对象
+     * @param action   解析出来的对象的处理操作
+     * @param executor 执行器，为{@code null}时在当前线程中解析和处理
+     * @param ordered  是否按行的顺序处理
+     * @return 处理的对象个数
+     * @author :loulan
+     */
+    public <T> long forEachLine(Path file, Class<T> clzz, Consumer<? super T> action, Executor executor, boolean ordered) {
+        return forEachLine(JsonLines.map(file), clzz, action, executor, ordered);
+    }
+
+    /**
+     * 流式解析json数组为顺序流，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json json数据的输入流，迭代结束或者关闭时关闭
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的顺序流，使用完成后需要关闭
+     * @author :loulan
+     */
+    public <T> Stream<T> streamArray(InputStream json, Class<T> clzz) {
+        return iterateArray(json, clzz).stream();
+    }
+
+    /**
+     * 流式解析json数组为顺序流，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json json数据的字符输入流，迭代结束或者关闭时关闭
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的顺序流，使用完成后需要关闭
+     * @author :loulan
+     */
+    public <T> Stream<T> streamArray(Reader json, Class<T> clzz) {
+        return iterateArray(json, clzz).stream();
+    }
+
+    /**
+     * 流式解析json数组为顺序流，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的顺序流，使用完成后需要关闭
+     * @author :loulan
+     */
+    public <T> Stream<T> streamArray(byte[] json, Class<T> clzz) {
+        return iterateArray(json, clzz).stream();
+    }
+
+    /**
+     * 将元素逐个序列化为json数组写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param out 输出流，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public long writeArray(Iterator<?> values, OutputStream out) {
+        return write(values, out, false);
+    }
+
+    /**
+     * 将元素逐个序列化为json数组写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param channel 输出通道，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public long writeArray(Iterator<?> values, WritableByteChannel channel) {
+        return write(values, Channels.newOutputStream(channel), false);
+    }
+
+    /**
+     * 将元素逐个序列化为json数组写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的流（不会关闭这个流）
+     * @param out 输出流，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public long writeArray(Stream<?> values, OutputStream out) {
+        return write(values.iterator(), out, false);
+    }
+
+    /**
+     * 将元素逐个序列化为json数组写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的流（不会关闭这个流）
+     * @param channel 输出通道，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public long writeArray(Stream<?> values, WritableByteChannel channel) {
+        return write(values.iterator(), Channels.newOutputStream(channel), false);
+    }
+
+    /**
+     * 将元素逐个序列化为NDJSON（每行一个json）写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param out 输出流，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public long writeLines(Iterator<?> values, OutputStream out) {
+        return write(values, out, true);
+    }
+
+    /**
+     * 将元素逐个序列化为NDJSON（每行一个json）写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param channel 输出通道，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public long writeLines(Iterator<?> values, WritableByteChannel channel) {
+        return write(values, Channels.newOutputStream(channel), true);
+    }
+
+    /**
+     * 将元素逐个序列化为NDJSON（每行一个json）写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的流（不会关闭这个流）
+     * @param out 输出流，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public long writeLines(Stream<?> values, OutputStream out) {
+        return write(values.iterator(), out, true);
+    }
+
+    /**
+     * 将元素逐个序列化为NDJSON（每行一个json）写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的流（不会关闭这个流）
+     * @param channel 输出通道，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public long writeLines(Stream<?> values, WritableByteChannel channel) {
+        return write(values.iterator(), Channels.newOutputStream(channel), true);
+    }
+
+    /**
+     * 根据json节点创建延迟转换的{@link JsonMap}对象
+     *
+     * @param node json节点
+     * @return JsonMap对象
+     * @author :loulan
+     */
+    private static JsonMap lazy(JsonNode node) {
+        if (!(node instanceof ObjectNode)) {
+            throw new JsonException("json解析异常：根节点不是json对象");
+        }
+        return JsonMap.lazy((ObjectNode) node);
+    }
+
+    /**
+     * 解析多个区域中的NDJSON数据并逐个处理
+     *
+     * @param <T>      泛型
+     * @param regions  NDJSON数据的区域，按顺序排列
+     * @param clzz     每一行的类型的class对象
+     * @param action   解析出来的对象的处理操作
+     * @param executor 执行器，为{@code null}时在当前线程中解析和处理
+     * @param ordered  是否按行的顺序处理
+     * @return 处理的对象个数
+     * @author :loulan
+     */
+    private <T> long forEachLine(List<ByteBuffer> regions, Class<T> clzz, Consumer<? super T> action, Executor executor, boolean ordered) {
+        checkLines();
+        long count = 0;
+        if (executor == null) {
+            for (ByteBuffer region : regions) {
+                count += iterateLines(region, clzz).forEach(action);
+            }
+            return count;
+        }
+
+        int parallelism = JsonLines.parallelism(executor);
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (ByteBuffer region : regions) {
+            chunks.addAll(JsonLines.split(region, parallelism));
+        }
+        // 某个分块失败后通知其它分块停止解析，等待已经提交的分块结束之后再抛出异常
+        AtomicBoolean stopped = new AtomicBoolean();
+        List<CompletableFuture<?>> submitted = new ArrayList<>(chunks.size());
+        try {
+            if (ordered) {
+                // 按顺序提交分块，同时解析的分块超过并行度时先在当前线程中处理最早的分块
+                Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+                for (ByteBuffer chunk : chunks) {
+                    CompletableFuture<List<T>> future = supply(() -> {
+                        List<T> values = new ArrayList<>();
+                        forEachChunk(chunk, clzz, values::add, stopped);
+                        return values;
+                    }, executor);
+                    submitted.add(future);
+                    pending.add(future);
+                    if (pending.size() > parallelism) {
+                        count += accept(pending.poll().join(), action);
+                    }
+                }
+                while (!pending.isEmpty()) {
+                    count += accept(pending.poll().join(), action);
+                }
+            } else {
+                List<CompletableFuture<Long>> futures = new ArrayList<>(chunks.size());
+                for (ByteBuffer chunk : chunks) {
+                    CompletableFuture<Long> future = supply(() -> forEachChunk(chunk, clzz, action, stopped), executor);
+                    submitted.add(future);
+                    futures.add(future);
+                }
+                for (CompletableFuture<Long> future : futures) {
+                    count += future.join();
+                }
+            }
+        } catch (RuntimeException | Error ex) {
+            stopped.set(true);
+            CompletableFuture.allOf(submitted.toArray(new CompletableFuture<?>[0])).handle((result, error) -> null).join();
+            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new JsonException("NDJSON处理异常", cause);
+        }
+        return count;
+    }
+
+    /**
+     * 解析一个分块中的NDJSON数据并逐个处理，其它分块失败（停止标记被设置）后不再解析剩余的行
+     *
+     * @param <T>     泛型
+     * @param chunk   分块
+     * @param clzz    每一行的类型的class对象
+     * @param action  解析出来的对象的处理操作
+     * @param stopped 停止标记
+     * @return 处理的对象个数
+     * @author :loulan
+     */
+    private <T> long forEachChunk(ByteBuffer chunk, Class<T> clzz, Consumer<? super T> action, AtomicBoolean stopped) {
+        long count = 0;
+        try (JsonArrayIterator<T> iterator = iterateLines(chunk, clzz)) {
+            while (!stopped.get() && iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 在当前线程中依次处理对象
+     *
+     * @param <T>    泛型
+     * @param values 要处理的对象
+     * @param action 处理操作
+     * @return 处理的对象个数
+     * @author :loulan
+     */
+    private static <T> long accept(List<T> values, Consumer<? super T> action) {
+        values.forEach(action);
+        return values.size();
+    }
+
+    /**
+     * 使用执行器异步执行任务，执行器拒绝执行的时候由当前线程执行
+     *
+     * @param <R>      泛型
+     * @param task     任务
+     * @param executor 执行器
+     * @return 任务的结果
+     * @author :loulan
+     */
+    private static <R> CompletableFuture<R> supply(Supplier<R> task, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    /**
+     * 创建读取缓冲区剩余数据的jackson迭代器，堆缓冲区直接读取底层数组，其他缓冲区通过输入流读取
+     *
+     * @param <T>    泛型
+     * @param clzz   元素类型的class对象
+     * @param buffer 缓冲区，位置不会改变
+     * @return jackson的迭代器
+     * @throws IOException 读取异常
+     * @author :loulan
+     */
+    private <T> MappingIterator<T> readValues(Class<T> clzz, ByteBuffer buffer) throws IOException {
+        ObjectReader objectReader = objReaders.get(clzz);
+        if (buffer.hasArray()) {
+            return objectReader.readValues(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return objectReader.readValues(new ByteBufferInputStream(buffer.duplicate()));
+    }
+
+    /**
+     * 检查当前格式是否支持NDJSON，二进制格式的数据中可能包含换行符，不能按行切分
+     *
+     * @author :loulan
+     */
+    private void checkLines() {
+        if (format.isBinary()) {
+            throw new JsonException("NDJSON只支持json格式：" + format);
+        }
+    }
+
+    /**
+     * 将元素逐个序列化写入输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param out    输出流，写入完成后不会关闭
+     * @param lines  是否写入为NDJSON，否则写入为json数组
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    private long write(Iterator<?> values, OutputStream out, boolean lines) {
+        if (lines) {
+            checkLines();
+        }
+        long count = 0;
+        try (SequenceWriter sequenceWriter = lines ? linesWriter.writeValues(out) : arrayWriter.writeValuesAsArray(out)) {
+            while (values.hasNext()) {
+                sequenceWriter.write(values.next());
+                if (++count % FLUSH_SIZE == 0) {
+                    sequenceWriter.flush();
+                }
+            }
+        } catch (Exception ex) {
+            throw new JsonException("obj转json异常", ex);
+        }
+        try {
+            if (lines && count > 0) {
+                // 最后一行也以换行符结尾
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException ex) {
+            throw new JsonException("obj转json异常", ex);
+        }
+        return count;
+    }
+
+    /**
+     * 获取指定类型的读取器，读取器按类型缓存
+     *
+     * @param javaType 要解析成的类型对象
+     * @return 读取器
+     * @author :loulan
+     */
+    private ObjectReader readerFor(JavaType javaType) {
+        return typeReaders.computeIfAbsent(javaType, reader::forType);
+    }
+
+    /**
+     * 使用指定的读取器解析json
+     *
+     * @param <T>          泛型
+     * @param objectReader 读取器
+     * @param json         要进行解析的json数据
+     * @return 解析后的对象
+     * @author :loulan
+     */
+    private static <T> T read(ObjectReader objectReader, String json) {
+        try {
+            return objectReader.readValue(json);
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 使用指定的读取器解析json
+     *
+     * @param <T>          泛型
+     * @param objectReader 读取器
+     * @param json         要进行解析的json数据
+     * @return 解析后的对象
+     * @author :loulan
+     */
+    private static <T> T read(ObjectReader objectReader, byte[] json) {
+        try {
+            return objectReader.readValue(json);
+        } catch (Exception ex) {
+            throw new JsonException("json解析异常", ex);
+        }
+    }
+
+    /**
+     * 读取json中指定路径的值（例如{@code $.a.b[3].c}），流式读取json并跳过无关的子树，找到之后立刻停止解析。
+     * 需要读取多个路径时使用{@link #compilePaths(String...)}
+     *
+     * @param <T>  泛型
+     * @param json 要进行读取的json数据
+     * @param path json路径，格式见{@link JsonPathExtractor}
+     * @return 路径指向的值（对象为Map，数组为List），路径不存在时返回{@code null}
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(byte[] json, String path) {
+        return (T) new JsonPathExtractor(objReaders.get(Object.class), path).extract(json).get(path);
+    }
+
+    /**
+     * 读取json中指定路径的值并解析为指定的类型，流式读取json并跳过无关的子树，找到之后立刻停止解析
+     *
+     * @param <T>  泛型
+     * @param json 要进行读取的json数据
+     * @param path json路径，格式见{@link JsonPathExtractor}
+     * @param clzz 指定类型的class对象
+     * @return 路径指向的值，路径不存在时返回{@code null}
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(byte[] json, String path, Class<T> clzz) {
+        return (T) new JsonPathExtractor(objReaders.get(clzz), path).extract(json).get(path);
+    }
+
+    /**
+     * 读取json中指定路径的值（例如{@code $.a.b[3].c}），流式读取json并跳过无关的子树，找到之后立刻停止解析。
+     * 需要读取多个路径时使用{@link #compilePaths(String...)}
+     *
+     * @param <T>  泛型
+     * @param json 要进行读取的json数据
+     * @param path json路径，格式见{@link JsonPathExtractor}
+     * @return 路径指向的值（对象为Map，数组为List），路径不存在时返回{@code null}
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String json, String path) {
+        return (T) new JsonPathExtractor(objReaders.get(Object.class), path).extract(json).get(path);
+    }
+
+    /**
+     * 读取json中指定路径的值并解析为指定的类型，流式读取json并跳过无关的子树，找到之后立刻停止解析
+     *
+     * @param <T>  泛型
+     * @param json 要进行读取的json数据
+     * @param path json路径，格式见{@link JsonPathExtractor}
+     * @param clzz 指定类型的class对象
+     * @return 路径指向的值，路径不存在时返回{@code null}
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String json, String path, Class<T> clzz) {
+        return (T) new JsonPathExtractor(objReaders.get(clzz), path).extract(json).get(path);
+    }
+
+    /**
+     * 编译多个json路径，编译后的提取器可以重复使用，一次解析中提取所有路径的值
+     *
+     * @param paths json路径，格式见{@link JsonPathExtractor}
+     * @return 路径提取器
+     * @author :loulan
+     */
+    public JsonPathExtractor compilePaths(String... paths) {
+        return new JsonPathExtractor(objReaders.get(Object.class), paths);
+    }
+
+    /**
+     * 将对象直接转换为指定的类型（比如Map转换为bean），
+     * 转换过程通过jackson的token缓冲完成，不会生成中间的json字符串或者字节数组，日期等格式配置和json解析一致
+     *
+     * @param <T>       泛型
+     * @param fromValue 要进行转换的对象
+     * @param clzz      指定类型的class对象
+     * @return 转换后的指定类型
+     * @author :loulan
+     */
+    public <T> T convert(Object fromValue, Class<T> clzz) {
+        try {
+            return objectMapper.convertValue(fromValue, clzz);
+        } catch (Exception ex) {
+            throw new JsonException("obj类型转换异常", ex);
+        }
+    }
+
+    /**
+     * 将对象直接转换为指定的类型（比如Map转换为bean），
+     * 转换过程通过jackson的token缓冲完成，不会生成中间的json字符串或者字节数组，日期等格式配置和json解析一致
+     *
+     * @param <T>          泛型
+     * @param fromValue    要进行转换的对象
+     * @param valueTypeRef 类型指引
+     * @return 转换后的指定类型
+     * @author :loulan
+     */
+    public <T> T convert(Object fromValue, TypeReference<T> valueTypeRef) {
+        return convert(fromValue, objectMapper.constructType(valueTypeRef));
+    }
+
+    /**
+     * 将对象直接转换为指定的类型（比如Map转换为bean），
+     * 转换过程通过jackson的token缓冲完成，不会生成中间的json字符串或者字节数组，日期等格式配置和json解析一致
+     *
+     * @param <T>       泛型
+     * @param fromValue 要进行转换的对象
+     * @param javaType  要转换成的类型对象
+     * @return 转换后的指定类型
+     * @author :loulan
+     */
+    public <T> T convert(Object fromValue, JavaType javaType) {
+        try {
+            return objectMapper.convertValue(fromValue, javaType);
+        } catch (Exception ex) {
+            throw new JsonException("obj类型转换异常", ex);
+        }
+    }
+
+    /**
+     * 使用源对象（比如Map）中的数据更新目标对象的属性，只有源对象中存在的属性才会被更新，
+     * 转换过程通过jackson的token缓冲完成，不会生成中间的json字符串或者字节数组
+     *
+     * @param <T>    泛型
+     * @param target 要被更新的目标对象
+     * @param source 提供数据的源对象
+     * @return 更新后的目标对象（和传入的目标对象是同一个对象）
+     * @author :loulan
+     */
+    public <T> T update(T target, Object source) {
+        try {
+            return objectMapper.updateValue(target, source);
+        } catch (Exception ex) {
+            throw new JsonException("obj更新异常", ex);
+        }
+    }
+
+    /**
+     * 获取类型工厂{@link TypeFactory}，通过类型工厂可以更好的生成JavaType
+     *
+     * @return 类型工厂
+     * @author :loulan
+     */
+    public TypeFactory getTypeFactory() {
+        return objectMapper.getTypeFactory();
+    }
+}
@@ -0,0 +1,345 @@
+package io.github.loulangogogo.water.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.loulangogogo.water.interfaces.Builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/*********************************************************
+ ** {@link JsonHandler} 建造者，没有设置的配置和{@link JsonTool}的默认配置一致，
+ ** 每次构建都会创建一个新的{@link ObjectMapper}，构建出来的处理器之间互不影响。
+ **
+ ** <pre>
+ **     JsonHandler snakeCase = JsonTool.builder()
+ **             .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+ **             .addWarmUpType(User.class)
+ **             .build();
+ ** </pre>
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public class JsonHandlerBuilder implements Builder<JsonHandler> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 数据格式
+     *
+     * @author :loulan
+     */
+    private JsonFormatEnum format = JsonFormatEnum.JSON;
+
+    /**
+     * 属性命名策略，为{@code null}时使用属性原本的名字
+     *
+     * @author :loulan
+     */
+    private PropertyNamingStrategy propertyNamingStrategy;
+
+    /**
+     * 序列化时属性的包含规则
+     *
+     * @author :loulan
+     */
+    private JsonInclude.Include serializationInclusion = JsonInclude.Include.NON_NULL;
+
+    /**
+     * 遇到未知属性是否抛出异常
+     *
+     * @author :loulan
+     */
+    private boolean failOnUnknownProperties;
+
+    /**
+     * json是否进行换行缩进
+     *
+     * @author :loulan
+     */
+    private boolean indentOutput;
+
+    /**
+     * 位置
+     *
+     * @author :loulan
+     */
+    private Locale locale = Locale.CHINESE;
+
+    /**
+     * 时区
+     *
+     * @author :loulan
+     */
+    private TimeZone timeZone = TimeZone.getTimeZone(JsonToolObjectMapper.DEFAULT_TIME_ZONE);
+
+    /**
+     * {@link java.time.LocalDateTime}的格式
+     *
+     * @author :loulan
+     */
+    private String dateTimePattern = JsonToolObjectMapper.DEFAULT_DATE_TIME_PATTERN;
+
+    /**
+     * {@link java.time.LocalDate}的格式
+     *
+     * @author :loulan
+     */
+    private String datePattern = JsonToolObjectMapper.DEFAULT_DATE_PATTERN;
+
+    /**
+     * {@link java.time.LocalTime}的格式
+     *
+     * @author :loulan
+     */
+    private String timePattern = JsonToolObjectMapper.DEFAULT_TIME_PATTERN;
+
+    /**
+     * 其他的序列化特性
+     *
+     * @author :loulan
+     */
+    private final Map<SerializationFeature, Boolean> serializationFeatures = new LinkedHashMap<>();
+
+    /**
+     * 其他的反序列化特性
+     *
+     * @author :loulan
+     */
+    private final Map<DeserializationFeature, Boolean> deserializationFeatures = new LinkedHashMap<>();
+
+    /**
+     * 要注册的模块
+     *
+     * @author :loulan
+     */
+    private final List<Module> modules = new ArrayList<>();
+
+    /**
+     * 构建时要预热的类型
+     *
+     * @author :loulan
+     */
+    private final List<Class<?>> warmUpTypes = new ArrayList<>();
+
+    /**
+     * 私有化构造器
+     *
+     * @author :loulan
+     */
+    private JsonHandlerBuilder() {
+
+    }
+
+    /**
+     * 构建建造者
+     *
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public static JsonHandlerBuilder builder() {
+        return new JsonHandlerBuilder();
+    }
+
+    /**
+     * 设置数据格式，默认为json，二进制格式使用相同的注解和配置
+     *
+     * @param format 数据格式
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setFormat(JsonFormatEnum format) {
+        this.format = format;
+        return this;
+    }
+
+    /**
+     * 设置属性命名策略（例如{@link com.fasterxml.jackson.databind.PropertyNamingStrategies#SNAKE_CASE}）
+     *
+     * @param propertyNamingStrategy 属性命名策略
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setPropertyNamingStrategy(PropertyNamingStrategy propertyNamingStrategy) {
+        this.propertyNamingStrategy = propertyNamingStrategy;
+        return this;
+    }
+
+    /**
+     * 设置序列化时属性的包含规则，默认属性为Null的不进行序列化
+     *
+     * @param serializationInclusion 属性的包含规则
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setSerializationInclusion(JsonInclude.Include serializationInclusion) {
+        this.serializationInclusion = serializationInclusion;
+        return this;
+    }
+
+    /**
+     * 设置遇到未知属性是否抛出异常，默认不抛出
+     *
+     * @param failOnUnknownProperties 是否抛出异常
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setFailOnUnknownProperties(boolean failOnUnknownProperties) {
+        this.failOnUnknownProperties = failOnUnknownProperties;
+        return this;
+    }
+
+    /**
+     * 设置json是否进行换行缩进，默认不进行
+     *
+     * @param indentOutput 是否换行缩进
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setIndentOutput(boolean indentOutput) {
+        this.indentOutput = indentOutput;
+        return this;
+    }
+
+    /**
+     * 设置位置，默认为中国
+     *
+     * @param locale 位置
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setLocale(Locale locale) {
+        this.locale = locale;
+        return this;
+    }
+
+    /**
+     * 设置时区，默认为亚洲上海
+     *
+     * @param timeZone 时区
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setTimeZone(TimeZone timeZone) {
+        this.timeZone = timeZone;
+        return this;
+    }
+
+    /**
+     * 设置{@link java.time.LocalDateTime}的格式，默认为yyyy-MM-dd HH:mm:ss
+     *
+     * @param dateTimePattern 日期时间格式
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setDateTimePattern(String dateTimePattern) {
+        this.dateTimePattern = dateTimePattern;
+        return this;
+    }
+
+    /**
+     * 设置{@link java.time.LocalDate}的格式，默认为yyyy-MM-dd
+     *
+     * @param datePattern 日期格式
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setDatePattern(String datePattern) {
+        this.datePattern = datePattern;
+        return this;
+    }
+
+    /**
+     * 设置{@link java.time.LocalTime}的格式，默认为HH:mm:ss
+     *
+     * @param timePattern 时间格式
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setTimePattern(String timePattern) {
+        this.timePattern = timePattern;
+        return this;
+    }
+
+    /**
+     * 设置序列化特性
+     *
+     * @param feature 序列化特性
+     * @param state   是否开启
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setFeature(SerializationFeature feature, boolean state) {
+        this.serializationFeatures.put(feature, state);
+        return this;
+    }
+
+    /**
+     * 设置反序列化特性
+     *
+     * @param feature 反序列化特性
+     * @param state   是否开启
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder setFeature(DeserializationFeature feature, boolean state) {
+        this.deserializationFeatures.put(feature, state);
+        return this;
+    }
+
+    /**
+     * 添加要注册的模块
+     *
+     * @param modules 模块
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder addModule(Module... modules) {
+        Collections.addAll(this.modules, modules);
+        return this;
+    }
+
+    /**
+     * 添加构建时要预热的类型，构建时会提前生成这些类型的序列化器和反序列化器
+     *
+     * @param types 要预热的类型
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public JsonHandlerBuilder addWarmUpType(Class<?>... types) {
+        Collections.addAll(this.warmUpTypes, types);
+        return this;
+    }
+
+    /**
+     * 构建{@link JsonHandler}
+     *
+     * @return {@link JsonHandler}
+     * @author :loulan
+     */
+    @Override
+    public JsonHandler build() {
+        ObjectMapper objectMapper = new ObjectMapper(format.createFactory());
+        JsonToolObjectMapper.objectMapperConfiguration(objectMapper);
+        JsonToolObjectMapper.objectMapperDateConfiguration(objectMapper, locale, timeZone,
+                dateTimePattern, datePattern, timePattern);
+        objectMapper.setSerializationInclusion(serializationInclusion);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknownProperties);
+        objectMapper.configure(SerializationFeature.INDENT_OUTPUT, indentOutput);
+        if (propertyNamingStrategy != null) {
+            objectMapper.setPropertyNamingStrategy(propertyNamingStrategy);
+        }
+        serializationFeatures.forEach(objectMapper::configure);
+        deserializationFeatures.forEach(objectMapper::configure);
+        modules.forEach(objectMapper::registerModule);
+        return new JsonHandler(objectMapper, format).warmUp(warmUpTypes.toArray(new Class<?>[0]));
+    }
+}
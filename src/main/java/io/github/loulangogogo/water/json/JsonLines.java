@@ -0,0 +1,154 @@
+package io.github.loulangogogo.water.json;
+
+import io.github.loulangogogo.water.exception.JsonException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/*********************************************************
+ ** NDJSON（每行一个json）数据的分块工具，按换行符把缓冲区或者文件切分成多个分块，
+ ** 每个分块都是完整的若干行，分块只是原缓冲区的视图，不复制数据。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class JsonLines {
+
+    /**
+     * 并行解析时分块的最小字节数
+     *
+     * @author :loulan
+     */
+    static final int MIN_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * 并行解析时分块的最大字节数，有序处理时内存中最多保存（并行度 + 1）个分块解析出来的元素
+     *
+     * @author :loulan
+     */
+    static final int MAX_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * 换行符
+     *
+     * @author :loulan
+     */
+    private static final byte NEW_LINE = '\n';
+
+    /**
+     * 私有化构造器
+     *
+     * @author :loulan
+     */
+    private JsonLines() {
+
+    }
+
+    /**
+     * 获取执行器的并行度
+     *
+     * @param executor 执行器
+     * @return 并行度
+     * @author :loulan
+     */
+    static int parallelism(Executor executor) {
+        return executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 以只读方式映射文件，文件超过{@link Integer#MAX_VALUE}个字节时按换行符映射成多个区域
+     *
+     * @param file 文件路径
+     * @return 映射的区域，按文件中的顺序排列
+     * @author :loulan
+     */
+    static List<ByteBuffer> map(Path file) {
+        List<ByteBuffer> regions = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, Integer.MAX_VALUE));
+                if (position + region.limit() < size) {
+                    // 不是最后一个区域时在最后一个换行符之后截断，剩余的数据放到下一个区域
+                    int end = lastLineEnd(region);
+                    if (end <= 0) {
+                        throw new JsonException("NDJSON单行数据过大：" + file);
+                    }
+                    region.limit(end);
+                }
+                regions.add(region);
+                position += region.limit();
+            }
+        } catch (IOException ex) {
+            throw new JsonException("NDJSON文件映射异常：" + file, ex);
+        }
+        return regions;
+    }
+
+    /**
+     * 按换行符把缓冲区的剩余数据切分成多个分块，分块的大小根据并行度计算
+     *
+     * @param buffer      缓冲区，位置不会改变
+     * @param parallelism 并行度
+     * @return 分块，按缓冲区中的顺序排列
+     * @author :loulan
+     */
+    static List<ByteBuffer> split(ByteBuffer buffer, int parallelism) {
+        int size = buffer.remaining();
+        int chunkSize = (int) Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, (long) size / (parallelism * 4L)));
+        List<ByteBuffer> chunks = new ArrayList<>(size / chunkSize + 1);
+        int limit = buffer.limit();
+        int start = buffer.position();
+        while (start < limit) {
+            int end = nextLineEnd(buffer, (int) Math.min(limit, (long) start + chunkSize), limit);
+            ByteBuffer chunk = buffer.duplicate();
+            chunk.limit(end);
+            chunk.position(start);
+            chunks.add(chunk.slice());
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * 从指定位置开始查找下一行的结束位置（换行符之后的位置）
+     *
+     * @param buffer 缓冲区
+     * @param from   开始查找的位置
+     * @param limit  缓冲区的限制
+     * @return 下一行的结束位置，没有换行符时返回缓冲区的限制
+     * @author :loulan
+     */
+    private static int nextLineEnd(ByteBuffer buffer, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == NEW_LINE) {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * 查找缓冲区中最后一行的结束位置（最后一个换行符之后的位置）
+     *
+     * @param buffer 缓冲区
+     * @return 最后一行的结束位置，没有换行符时返回0
+     * @author :loulan
+     */
+    private static int lastLineEnd(ByteBuffer buffer) {
+        for (int i = buffer.limit() - 1; i >= 0; i--) {
+            if (buffer.get(i) == NEW_LINE) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+}
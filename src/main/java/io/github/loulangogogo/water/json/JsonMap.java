@@ -1,14 +1,18 @@
 package io.github.loulangogogo.water.json;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.loulangogogo.water.tool.ObjectTool;
 import io.github.loulangogogo.water.tool.StrTool;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /*********************************************************
- ** Json解析后的对象，继承自{@link LinkedHashMap}
+ ** Json解析后的对象，继承自{@link LinkedHashMap}。
+ ** 数值类型的获取方法在数据值已经是对应的数值类型时直接返回，不再经过字符串转换；
+ ** 通过{@link #lazy(ObjectNode)}可以创建基于jackson树模型的延迟转换的对象
  **
  ** @author loulan
  ** @since 8
@@ -54,6 +58,20 @@ public class JsonMap extends LinkedHashMap<String, Object> {
         return new JsonMap();
     }
 
+    /**
+     * 创建基于jackson树模型的JsonMap，只有读取到某个属性的时候才把这个属性转换为java对象，
+     * 嵌套的对象同样是延迟转换的，遍历或者修改的时候才转换全部的属性。
+     * 适合只读取大json中少量属性的场景。
+     * 读取属性也会修改对象内部的数据，和{@link LinkedHashMap}一样不是线程安全的，只读的时候也不能在多个线程中共享
+     *
+     * @param node json对象节点，创建之后不要再修改这个节点
+     * @return JsonMap对象
+     * @author :loulan
+     */
+    public static JsonMap lazy(ObjectNode node) {
+        return new LazyJsonMap(node);
+    }
+
     /**
      * h获取数据并且数据为json字符串
      *
@@ -121,7 +139,13 @@ public class JsonMap extends LinkedHashMap<String, Object> {
      * @author :loulan
      */
     public Integer getInt(String key) {
-        String value = getString(key);
+        Object obj = get(key);
+        if (obj instanceof Integer) {
+            return (Integer) obj;
+        } else if (isIntegral(obj) && ((Number) obj).longValue() == ((Number) obj).intValue()) {
+            return ((Number) obj).intValue();
+        }
+        String value = ObjectTool.isNull(obj) ? null : String.valueOf(obj);
         if (StrTool.isEmpty(value)) {
             return null;
         } else {
@@ -137,7 +161,13 @@ public class JsonMap extends LinkedHashMap<String, Object> {
      * @author :loulan
      */
     public Long getLong(String key) {
-        String value = getString(key);
+        Object obj = get(key);
+        if (obj instanceof Long) {
+            return (Long) obj;
+        } else if (isIntegral(obj)) {
+            return ((Number) obj).longValue();
+        }
+        String value = ObjectTool.isNull(obj) ? null : String.valueOf(obj);
         if (StrTool.isEmpty(value)) {
             return null;
         } else {
@@ -153,7 +183,13 @@ public class JsonMap extends LinkedHashMap<String, Object> {
      * @author :loulan
      */
     public Float getFloat(String key) {
-        String value = getString(key);
+        Object obj = get(key);
+        if (obj instanceof Float) {
+            return (Float) obj;
+        } else if (isIntegral(obj)) {
+            return ((Number) obj).floatValue();
+        }
+        String value = ObjectTool.isNull(obj) ? null : String.valueOf(obj);
         if (StrTool.isEmpty(value)) {
             return null;
         } else {
@@ -169,7 +205,13 @@ public class JsonMap extends LinkedHashMap<String, Object> {
      * @author :loulan
      */
     public Double getDouble(String key) {
-        String value = getString(key);
+        Object obj = get(key);
+        if (obj instanceof Double) {
+            return (Double) obj;
+        } else if (isIntegral(obj)) {
+            return ((Number) obj).doubleValue();
+        }
+        String value = ObjectTool.isNull(obj) ? null : String.valueOf(obj);
         if (StrTool.isEmpty(value)) {
             return null;
         } else {
@@ -185,11 +227,32 @@ public class JsonMap extends LinkedHashMap<String, Object> {
      * @author :loulan
      */
     public BigDecimal getBigDecimal(String key) {
-        String value = getString(key);
+        Object obj = get(key);
+        if (obj instanceof BigDecimal) {
+            return (BigDecimal) obj;
+        } else if (isIntegral(obj)) {
+            return BigDecimal.valueOf(((Number) obj).longValue());
+        } else if (obj instanceof BigInteger) {
+            return new BigDecimal((BigInteger) obj);
+        } else if (obj instanceof Double) {
+            return BigDecimal.valueOf((Double) obj);
+        }
+        String value = ObjectTool.isNull(obj) ? null : String.valueOf(obj);
         if (StrTool.isEmpty(value)) {
             return null;
         } else {
             return new BigDecimal(value);
         }
     }
+
+    /**
+     * 判断数据值是否是long范围内的整数类型（{@link Integer}、{@link Long}、{@link Short}、{@link Byte}）
+     *
+     * @param obj 数据值
+     * @return 是否是整数类型
+     * @author :loulan
+     */
+    private static boolean isIntegral(Object obj) {
+        return obj instanceof Integer || obj instanceof Long || obj instanceof Short || obj instanceof Byte;
+    }
 }
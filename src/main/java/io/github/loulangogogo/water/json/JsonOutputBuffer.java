@@ -0,0 +1,135 @@
+package io.github.loulangogogo.water.json;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/*********************************************************
+ ** json生成使用的线程复用的输出缓冲区（见{@link JsonHandler#toJsonBuffer(Object)}），
+ ** 每个线程复用同一个可以自动扩容的byte数组，生成json时不再为每次调用分配新的缓冲区。
+ ** <p>
+ ** 缓冲区被占用时（例如在自定义序列化器中又调用了json生成）会临时创建新的缓冲区；
+ ** 超过{@link #MAX_POOLED_SIZE}的缓冲区用完之后不再保留，避免一次大对象的生成长期占用内存。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class JsonOutputBuffer extends OutputStream {
+
+    /**
+     * 缓冲区的初始大小
+     *
+     * @author :loulan
+     */
+    static final int INITIAL_SIZE = 512;
+
+    /**
+     * 可以保留在线程中的缓冲区的最大大小
+     *
+     * @author :loulan
+     */
+    static final int MAX_POOLED_SIZE = 1 << 20;
+
+    /**
+     * 每个线程的缓冲区
+     *
+     * @author :loulan
+     */
+    private static final ThreadLocal<JsonOutputBuffer> BUFFERS = ThreadLocal.withInitial(JsonOutputBuffer::new);
+
+    /**
+     * 数据数组
+     *
+     * @author :loulan
+     */
+    private byte[] buffer = new byte[INITIAL_SIZE];
+
+    /**
+     * 已经写入的字节数
+     *
+     * @author :loulan
+     */
+    private int count;
+
+    /**
+     * 缓冲区是否正在使用
+     *
+     * @author :loulan
+     */
+    private boolean inUse;
+
+    /**
+     * 私有化构造器
+     *
+     * @author :loulan
+     */
+    private JsonOutputBuffer() {
+    }
+
+    /**
+     * 获取当前线程的缓冲区（之前写入的数据会被清空），使用完之后必须调用{@link #release(JsonOutputBuffer)}归还
+     *
+     * @return 缓冲区
+     * @author :loulan
+     */
+    static JsonOutputBuffer acquire() {
+        JsonOutputBuffer output = BUFFERS.get();
+        if (output.inUse) {
+            return new JsonOutputBuffer();
+        }
+        output.inUse = true;
+        output.count = 0;
+        return output;
+    }
+
+    /**
+     * 归还缓冲区，已经写入的数据在下一次获取之前仍然有效
+     *
+     * @param output 缓冲区
+     * @author :loulan
+     */
+    static void release(JsonOutputBuffer output) {
+        JsonOutputBuffer pooled = BUFFERS.get();
+        if (pooled == output) {
+            if (output.buffer.length > MAX_POOLED_SIZE) {
+                BUFFERS.set(new JsonOutputBuffer());
+            }
+            output.inUse = false;
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(count + length);
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    /**
+     * 获取已经写入的数据的视图，不复制数据
+     *
+     * @return 已经写入的数据
+     * @author :loulan
+     */
+    ByteBuffer slice() {
+        return ByteBuffer.wrap(buffer, 0, count).slice();
+    }
+
+    /**
+     * 保证缓冲区的容量，不足时按两倍扩容
+     *
+     * @param capacity 需要的容量
+     * @author :loulan
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+        }
+    }
+}
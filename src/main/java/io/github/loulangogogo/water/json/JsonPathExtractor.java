@@ -0,0 +1,378 @@
+package io.github.loulangogogo.water.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.loulangogogo.water.exception.JsonException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*********************************************************
+ ** 编译好的json路径提取器（见{@link JsonHandler#compilePaths(String...)}），一次解析中提取多个路径的值。
+ ** <p>
+ ** 提取时使用{@link JsonParser}流式读取json，只绑定路径指向的值，和路径无关的子树直接跳过，
+ ** 所有路径的值都找到之后立刻停止解析，不会把整个json转换为对象。
+ ** <p>
+ ** 路径格式：以{@code $}表示根节点，{@code .name}或者{@code ['name']}表示对象的属性，{@code [n]}表示数组的下标，
+ ** 例如{@code $.a.b[3].c}、{@code $['a.b'][0]}；不支持通配符和过滤表达式。
+ ** 提取器是不可变的，可以在多线程中共享使用。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class JsonPathExtractor {
+
+    /**
+     * 要提取的路径，和路径树中的目标下标对应
+     *
+     * @author :loulan
+     */
+    private final String[] paths;
+
+    /**
+     * 路径树的根节点
+     *
+     * @author :loulan
+     */
+    private final PathNode root = new PathNode();
+
+    /**
+     * 绑定路径指向的值使用的读取器
+     *
+     * @author :loulan
+     */
+    private final ObjectReader valueReader;
+
+    /**
+     * 编译路径
+     *
+     * @param valueReader 绑定路径指向的值使用的读取器
+     * @param paths       要提取的路径
+     * @author :loulan
+     */
+    JsonPathExtractor(ObjectReader valueReader, String... paths) {
+        this.valueReader = valueReader;
+        this.paths = paths.clone();
+        for (int i = 0; i < paths.length; i++) {
+            PathNode node = root;
+            for (Object segment : parsePath(paths[i])) {
+                node = node.child(segment);
+            }
+            node.targets.add(i);
+        }
+    }
+
+    /**
+     * 获取要提取的路径
+     *
+     * @return 路径
+     * @author :loulan
+     */
+    public List<String> getPaths() {
+        return Collections.unmodifiableList(Arrays.asList(paths));
+    }
+
+    /**
+     * 从json中提取所有路径的值
+     *
+     * @param json 要进行提取的json数据
+     * @return 路径和对应的值，按编译时路径的顺序排列，json中不存在的路径不会出现在结果中
+     * @author :loulan
+     */
+    public Map<String, Object> extract(byte[] json) {
+        try {
+            return extract(valueReader.createParser(json));
+        } catch (IOException ex) {
+            throw new JsonException("json路径提取异常", ex);
+        }
+    }
+
+    /**
+     * 从json中提取所有路径的值
+     *
+     * @param json 要进行提取的json数据
+     * @return 路径和对应的值，按编译时路径的顺序排列，json中不存在的路径不会出现在结果中
+     * @author :loulan
+     */
+    public Map<String, Object> extract(String json) {
+        try {
+            return extract(valueReader.createParser(json));
+        } catch (IOException | UnsupportedOperationException ex) {
+            // 二进制格式不支持从字符串创建解析器
+            throw new JsonException("json路径提取异常", ex);
+        }
+    }
+
+    /**
+     * 从json中提取所有路径的值，提取完成后关闭输入流
+     *
+     * @param json json数据的输入流
+     * @return 路径和对应的值，按编译时路径的顺序排列，json中不存在的路径不会出现在结果中
+     * @author :loulan
+     */
+    public Map<String, Object> extract(InputStream json) {
+        try {
+            return extract(valueReader.createParser(json));
+        } catch (IOException ex) {
+            throw new JsonException("json路径提取异常", ex);
+        }
+    }
+
+    /**
+     * 使用解析器提取所有路径的值，提取完成后关闭解析器
+     *
+     * @param parser json解析器
+     * @return 路径和对应的值
+     * @author :loulan
+     */
+    private Map<String, Object> extract(JsonParser parser) {
+        Extraction extraction = new Extraction(paths.length);
+        try (JsonParser p = parser) {
+            if (p.nextToken() != null) {
+                match(p, root, extraction);
+            }
+        } catch (IOException ex) {
+            throw new JsonException("json路径提取异常", ex);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < paths.length; i++) {
+            if (extraction.found[i]) {
+                result.put(paths[i], extraction.values[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 匹配解析器当前位置的值，解析器位于值的第一个token，匹配完成后位于值的最后一个token
+     *
+     * @param p          json解析器
+     * @param node       当前值对应的路径节点
+     * @param extraction 提取的结果
+     * @return 是否所有路径都已经找到
+     * @throws IOException 解析异常
+     * @author :loulan
+     */
+    private boolean match(JsonParser p, PathNode node, Extraction extraction) throws IOException {
+        if (!node.targets.isEmpty()) {
+            if (node.children.isEmpty()) {
+                extraction.set(node, valueReader.readValue(p));
+            } else {
+                // 路径和子路径都需要提取时读取为树，再从树中查找子路径
+                collect(valueReader.readTree(p), node, extraction);
+            }
+            return extraction.isComplete();
+        }
+
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                PathNode child = node.children.get(p.currentName());
+                p.nextToken();
+                if (child == null || extraction.isDone(child)) {
+                    p.skipChildren();
+                } else if (match(p, child, extraction)) {
+                    return true;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                PathNode child = node.children.get(index++);
+                if (child == null || extraction.isDone(child)) {
+                    p.skipChildren();
+                } else if (match(p, child, extraction)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 从json树中提取路径节点及其子节点的值
+     *
+     * @param tree       json树
+     * @param node       路径节点
+     * @param extraction 提取的结果
+     * @throws IOException 转换异常
+     * @author :loulan
+     */
+    private void collect(JsonNode tree, PathNode node, Extraction extraction) throws IOException {
+        if (!node.targets.isEmpty()) {
+            extraction.set(node, valueReader.readValue(tree));
+        }
+        for (Map.Entry<Object, PathNode> entry : node.children.entrySet()) {
+            Object segment = entry.getKey();
+            JsonNode child = segment instanceof Integer ? tree.get((Integer) segment) : tree.get((String) segment);
+            if (child != null) {
+                collect(child, entry.getValue(), extraction);
+            }
+        }
+    }
+
+    /**
+     * 解析路径为路径段，对象属性为字符串，数组下标为整数
+     *
+     * @param path 路径
+     * @return 路径段
+     * @author :loulan
+     */
+    static List<Object> parsePath(String path) {
+        if (path == null || !path.startsWith("$")) {
+            throw new JsonException("json路径格式错误：" + path);
+        }
+        List<Object> segments = new ArrayList<>();
+        int i = 1;
+        int length = path.length();
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < length && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+                if (i == start) {
+                    throw new JsonException("json路径格式错误：" + path);
+                }
+                segments.add(path.substring(start, i));
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new JsonException("json路径格式错误：" + path);
+                }
+                String content = path.substring(i + 1, end).trim();
+                if (content.length() >= 2 && (content.charAt(0) == '\'' || content.charAt(0) == '"')
+                        && content.charAt(content.length() - 1) == content.charAt(0)) {
+                    segments.add(content.substring(1, content.length() - 1));
+                } else {
+                    try {
+                        segments.add(Integer.parseInt(content));
+                    } catch (NumberFormatException ex) {
+                        throw new JsonException("json路径格式错误：" + path, ex);
+                    }
+                }
+                i = end + 1;
+            } else {
+                throw new JsonException("json路径格式错误：" + path);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 路径树的节点
+     *
+     * @author :loulan
+     */
+    private static final class PathNode {
+
+        /**
+         * 子节点，对象属性的key为字符串，数组下标的key为整数
+         *
+         * @author :loulan
+         */
+        private final Map<Object, PathNode> children = new HashMap<>();
+
+        /**
+         * 以当前节点结束的路径的下标
+         *
+         * @author :loulan
+         */
+        private final List<Integer> targets = new ArrayList<>(1);
+
+        /**
+         * 获取或者创建子节点
+         *
+         * @param segment 路径段
+         * @return 子节点
+         * @author :loulan
+         */
+        private PathNode child(Object segment) {
+            return children.computeIfAbsent(segment, key -> new PathNode());
+        }
+    }
+
+    /**
+     * 一次提取的结果
+     *
+     * @author :loulan
+     */
+    private static final class Extraction {
+
+        /**
+         * 每个路径的值
+         *
+         * @author :loulan
+         */
+        private final Object[] values;
+
+        /**
+         * 每个路径是否已经找到
+         *
+         * @author :loulan
+         */
+        private final boolean[] found;
+
+        /**
+         * 还没有找到的路径个数
+         *
+         * @author :loulan
+         */
+        private int remaining;
+
+        private Extraction(int size) {
+            this.values = new Object[size];
+            this.found = new boolean[size];
+            this.remaining = size;
+        }
+
+        /**
+         * 设置路径节点的值，已经找到的路径不再覆盖（json中有重复的key时使用第一个）
+         *
+         * @param node  路径节点
+         * @param value 值
+         * @author :loulan
+         */
+        private void set(PathNode node, Object value) {
+            for (int target : node.targets) {
+                if (!found[target]) {
+                    found[target] = true;
+                    values[target] = value;
+                    remaining--;
+                }
+            }
+        }
+
+        /**
+         * 判断路径节点是否已经提取完成（节点本身的路径已经找到，并且没有子路径）
+         *
+         * @param node 路径节点
+         * @return 是否提取完成
+         * @author :loulan
+         */
+        private boolean isDone(PathNode node) {
+            return node.children.isEmpty() && !node.targets.isEmpty() && found[node.targets.get(0)];
+        }
+
+        /**
+         * 判断是否所有路径都已经找到
+         *
+         * @return 是否全部找到
+         * @author :loulan
+         */
+        private boolean isComplete() {
+            return remaining == 0;
+        }
+    }
+}
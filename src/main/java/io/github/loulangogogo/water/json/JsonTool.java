@@ -2,23 +2,51 @@ package io.github.loulangogogo.water.json;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.type.CollectionType;
-import com.fasterxml.jackson.databind.type.MapType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
-import io.github.loulangogogo.water.exception.JsonException;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /*********************************************************
- ** json工具类
+ ** json工具类，静态方法都通过默认的{@link JsonHandler}完成，
+ ** 需要其他配置（例如属性名使用snake_case）时通过{@link #builder()}构建独立的处理器
  **
  ** @author loulan
  ** @since 8
  *********************************************************/
 public class JsonTool extends JsonToolObjectMapper {
+    /**
+     * 构建json处理器的建造者，默认配置和当前工具类一致，构建出来的处理器和当前工具类互不影响
+     *
+     * @return {@link JsonHandler} 建造者
+     * @author :loulan
+     */
+    public static JsonHandlerBuilder builder() {
+        return JsonHandlerBuilder.builder();
+    }
+
+    /**
+     * 获取指定数据格式（例如Smile、CBOR二进制格式）的处理器，注解和配置（包括日期格式）和当前工具类一致，
+     * 二进制格式使用{@link JsonHandler#toJsonBytes(Object)}、{@link JsonHandler#parseObj(byte[], Class)}等字节数组相关的方法
+     *
+     * @param format 数据格式
+     * @return 处理器
+     * @author :loulan
+     */
+    public static JsonHandler getHandler(JsonFormatEnum format) {
+        return JsonHandler.getDefault(format);
+    }
+
     /**
      * 将对象转化为json字符串
      *
@@ -27,7 +55,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static String toJson(Object obj) {
-        return toJsonString(obj);
+        return JsonHandler.getDefault().toJson(obj);
     }
 
     /**
@@ -38,11 +66,42 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static byte[] toJsonBytes(Object obj) {
-        try {
-            return objectMapper.writeValueAsBytes(obj);
-        } catch (Exception ex) {
-            throw new JsonException("obj转json异常", ex);
-        }
+        return JsonHandler.getDefault().toJsonBytes(obj);
+    }
+
+    /**
+     * 将对象转化为json写入缓冲区的剩余空间，不分配中间的字节数组
+     *
+     * @param obj    要进行json转化的对象
+     * @param buffer 写入的缓冲区，写入完成后位置移动到json的末尾；剩余空间不足时抛出异常并且位置不变
+     * @return 写入的字节数
+     * @author :loulan
+     */
+    public static int writeTo(Object obj, ByteBuffer buffer) {
+        return JsonHandler.getDefault().writeTo(obj, buffer);
+    }
+
+    /**
+     * 将对象转化为json写入输出流，写入完成后不会关闭输出流
+     *
+     * @param obj 要进行json转化的对象
+     * @param out 输出流
+     * @author :loulan
+     */
+    public static void writeTo(Object obj, OutputStream out) {
+        JsonHandler.getDefault().writeTo(obj, out);
+    }
+
+    /**
+     * 将对象转化为json，写入当前线程复用的缓冲区，返回缓冲区中json数据的视图，不复制数据。
+     * 返回的数据只在当前线程下一次调用这个方法之前有效，需要保留时自行复制
+     *
+     * @param obj 要进行json转化的对象
+     * @return json数据的视图，位置为0，限制为json的长度
+     * @author :loulan
+     */
+    public static ByteBuffer toJsonBuffer(Object obj) {
+        return JsonHandler.getDefault().toJsonBuffer(obj);
     }
 
     /**
@@ -53,11 +112,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static String toJsonString(Object obj) {
-        try {
-            return objectMapper.writeValueAsString(obj);
-        } catch (Exception ex) {
-            throw new JsonException("obj转json异常", ex);
-        }
+        return JsonHandler.getDefault().toJsonString(obj);
     }
 
     /**
@@ -70,12 +125,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <T> T parseObj(String json, Class<T> clzz) {
-        try {
-            T t = objectMapper.readValue(json, clzz);
-            return t;
-        } catch (Exception ex) {
-            throw new JsonException("json转obj异常", ex);
-        }
+        return JsonHandler.getDefault().parseObj(json, clzz);
     }
 
     /**
@@ -88,12 +138,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <T> T parseObj(byte[] json, Class<T> clzz) {
-        try {
-            T t = objectMapper.readValue(json, clzz);
-            return t;
-        } catch (Exception ex) {
-            throw new JsonException("json转obj异常", ex);
-        }
+        return JsonHandler.getDefault().parseObj(json, clzz);
     }
 
     /**
@@ -106,8 +151,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <T> List<T> parseList(String json, Class<T> clzz) {
-        CollectionType collectionType = objectMapper.getTypeFactory().constructCollectionType(ArrayList.class, clzz);
-        return parse(json, collectionType);
+        return JsonHandler.getDefault().parseList(json, clzz);
     }
 
     /**
@@ -120,8 +164,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <T> List<T> parseList(byte[] json, Class<T> clzz) {
-        CollectionType collectionType = objectMapper.getTypeFactory().constructCollectionType(ArrayList.class, clzz);
-        return parse(json, collectionType);
+        return JsonHandler.getDefault().parseList(json, clzz);
     }
 
     /**
@@ -132,7 +175,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static Map<String, Object> parseMap(String json) {
-        return parseMap(json, Object.class);
+        return JsonHandler.getDefault().parseMap(json);
     }
 
     /**
@@ -143,7 +186,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static Map<String, Object> parseMap(byte[] json) {
-        return parseMap(json, Object.class);
+        return JsonHandler.getDefault().parseMap(json);
     }
 
     /**
@@ -156,8 +199,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <V> Map<String, V> parseMap(String json, Class<V> clzz) {
-        MapType mapType = objectMapper.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, clzz);
-        return parse(json, mapType);
+        return JsonHandler.getDefault().parseMap(json, clzz);
     }
 
     /**
@@ -170,8 +212,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <V> Map<String, V> parseMap(byte[] json, Class<V> clzz) {
-        MapType mapType = objectMapper.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, clzz);
-        return parse(json, mapType);
+        return JsonHandler.getDefault().parseMap(json, clzz);
     }
 
     /**
@@ -182,8 +223,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static JsonMap parseJsonMap(String json) {
-        MapType mapType = objectMapper.getTypeFactory().constructMapType(JsonMap.class, String.class, Object.class);
-        return parse(json, mapType);
+        return JsonHandler.getDefault().parseJsonMap(json);
     }
 
     /**
@@ -194,8 +234,31 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static JsonMap parseJsonMap(byte[] json) {
-        MapType mapType = objectMapper.getTypeFactory().constructMapType(JsonMap.class, String.class, Object.class);
-        return parse(json, mapType);
+        return JsonHandler.getDefault().parseJsonMap(json);
+    }
+
+    /**
+     * 解析json为延迟转换的{@link JsonMap}对象，只有读取到某个属性的时候才把这个属性转换为java对象；
+     * 读取属性也会修改对象，只读的时候也不能在多个线程中共享
+     *
+     * @param json 要进行解析的json数据，根节点必须是json对象
+     * @return 解析后JsonMap对象
+     * @author :loulan
+     */
+    public static JsonMap parseLazyJsonMap(String json) {
+        return JsonHandler.getDefault().parseLazyJsonMap(json);
+    }
+
+    /**
+     * 解析json为延迟转换的{@link JsonMap}对象，只有读取到某个属性的时候才把这个属性转换为java对象；
+     * 读取属性也会修改对象，只读的时候也不能在多个线程中共享
+     *
+     * @param json 要进行解析的json数据，根节点必须是json对象
+     * @return 解析后JsonMap对象
+     * @author :loulan
+     */
+    public static JsonMap parseLazyJsonMap(byte[] json) {
+        return JsonHandler.getDefault().parseLazyJsonMap(json);
     }
 
     /**
@@ -206,9 +269,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static List<JsonMap> parseListJsonMap(String json) {
-        MapType mapType = objectMapper.getTypeFactory().constructMapType(JsonMap.class, String.class, Object.class);
-        CollectionType collectionType = objectMapper.getTypeFactory().constructCollectionType(ArrayList.class, mapType);
-        return parse(json, collectionType);
+        return JsonHandler.getDefault().parseListJsonMap(json);
     }
 
     /**
@@ -219,9 +280,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static List<JsonMap> parseListJsonMap(byte[] json) {
-        MapType mapType = objectMapper.getTypeFactory().constructMapType(JsonMap.class, String.class, Object.class);
-        CollectionType collectionType = objectMapper.getTypeFactory().constructCollectionType(ArrayList.class, mapType);
-        return parse(json, collectionType);
+        return JsonHandler.getDefault().parseListJsonMap(json);
     }
 
     /**
@@ -234,7 +293,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <T> T parse(String json, TypeReference<T> valueTypeRef) {
-        return parse(json, objectMapper.constructType(valueTypeRef));
+        return JsonHandler.getDefault().parse(json, valueTypeRef);
     }
 
     /**
@@ -247,7 +306,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <T> T parse(byte[] json, TypeReference<T> valueTypeRef) {
-        return parse(json, objectMapper.constructType(valueTypeRef));
+        return JsonHandler.getDefault().parse(json, valueTypeRef);
     }
 
     /**
@@ -260,11 +319,7 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <T> T parse(String json, JavaType javaType) {
-        try {
-            return objectMapper.readValue(json, javaType);
-        } catch (Exception ex) {
-            throw new JsonException("json解析异常", ex);
-        }
+        return JsonHandler.getDefault().parse(json, javaType);
     }
 
     /**
@@ -277,11 +332,360 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static <T> T parse(byte[] json, JavaType javaType) {
-        try {
-            return objectMapper.readValue(json, javaType);
-        } catch (Exception ex) {
-            throw new JsonException("json解析异常", ex);
-        }
+        return JsonHandler.getDefault().parse(json, javaType);
+    }
+
+    /**
+     * 流式解析json数组，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json json数据的输入流，迭代结束或者关闭时关闭
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(InputStream json, Class<T> clzz) {
+        return JsonHandler.getDefault().iterateArray(json, clzz);
+    }
+
+    /**
+     * 流式解析json数组，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json json数据的字符输入流，迭代结束或者关闭时关闭
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(Reader json, Class<T> clzz) {
+        return JsonHandler.getDefault().iterateArray(json, clzz);
+    }
+
+    /**
+     * 流式解析json数组，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public static <T> JsonArrayIterator<T> iterateArray(byte[] json, Class<T> clzz) {
+        return JsonHandler.getDefault().iterateArray(json, clzz);
+    }
+
+    /**
+     * 流式解析缓冲区中的NDJSON（每行一个json）数据，直接从缓冲区中解析，不会为每一行生成字符串
+     *
+     * @param <T>    泛型
+     * @param buffer NDJSON数据的缓冲区（例如内存映射的文件），解析的是缓冲区的剩余数据，缓冲区的位置不会改变
+     * @param clzz   每一行的类型的class对象
+     * @return 每一行解析出来的对象的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public static <T> JsonArrayIterator<T> iterateLines(ByteBuffer buffer, Class<T> clzz) {
+        return JsonHandler.getDefault().iterateLines(buffer, clzz);
+    }
+
+    /**
+     * 流式解析NDJSON（每行一个json）文件，文件通过内存映射读取，不会为每一行生成字符串
+     *
+     * @param <T>  泛型
+     * @param file NDJSON文件的路径
+     * @param clzz 每一行的类型的class对象
+     * @return 每一行解析出来的对象的迭代器，使用完成后需要关闭
+     * @author :loulan
+     */
+    public static <T> JsonArrayIterator<T> iterateLines(Path file, Class<T> clzz) {
+        return JsonHandler.getDefault().iterateLines(file, clzz);
+    }
+
+    /**
+     * 解析缓冲区中的NDJSON（每行一个json）数据并逐个处理，不会为每一行生成字符串（见{@link JsonHandler#forEachLine(ByteBuffer, Class, Consumer, Executor, boolean)}）
+     *
+     * @param <T>      泛型
+     * @param buffer   NDJSON数据的缓冲区（例如内存映射的文件），解析的是缓冲区的剩余数据，缓冲区的位置不会改变
+     * @param clzz     每一行的类型的class对象
+     * @param action   解析出来的对象的处理操作
+     * @param executor 执行器，为{@code null}时在当前线程中解析和处理
+     * @param ordered  是否按行的顺序处理
+     * @return 处理的对象个数
+     * @author :loulan
+     */
+    public static <T> long forEachLine(ByteBuffer buffer, Class<T> clzz, Consumer<? super T> action, Executor executor, boolean ordered) {
+        return JsonHandler.getDefault().forEachLine(buffer, clzz, action, executor, ordered);
+    }
+
+    /**
+     * 解析NDJSON（每行一个json）文件并逐个处理，文件通过内存映射读取（见{@link JsonHandler#forEachLine(Path, Class, Consumer, Executor, boolean)}）
+     *
+     * @param <T>      泛型
+     * @param file     NDJSON文件的路径
+     * @param clzz     每一行的类型的class对象
+     * @param action   解析出来的对象的处理操作
+     * @param executor 执行器，为{@code null}时在当前线程中解析和处理
+     * @param ordered  是否按行的顺序处理
+     * @return 处理的对象个数
+     * @author :loulan
+     */
+    public static <T> long forEachLine(Path file, Class<T> clzz, Consumer<? super T> action, Executor executor, boolean ordered) {
+        return JsonHandler.getDefault().forEachLine(file, clzz, action, executor, ordered);
+    }
+
+    /**
+     * 流式解析json数组为顺序流，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json json数据的输入流，迭代结束或者关闭时关闭
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的顺序流，使用完成后需要关闭
+     * @author :loulan
+     */
+    public static <T> Stream<T> streamArray(InputStream json, Class<T> clzz) {
+        return JsonHandler.getDefault().streamArray(json, clzz);
+    }
+
+    /**
+     * 流式解析json数组为顺序流，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json json数据的字符输入流，迭代结束或者关闭时关闭
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的顺序流，使用完成后需要关闭
+     * @author :loulan
+     */
+    public static <T> Stream<T> streamArray(Reader json, Class<T> clzz) {
+        return JsonHandler.getDefault().streamArray(json, clzz);
+    }
+
+    /**
+     * 流式解析json数组为顺序流，每次只解析数组中的一个元素，适合处理非常大的json数组
+     *
+     * @param <T>  泛型
+     * @param json 要进行解析的json数据
+     * @param clzz 数组元素类型的class对象
+     * @return 数组元素的顺序流，使用完成后需要关闭
+     * @author :loulan
+     */
+    public static <T> Stream<T> streamArray(byte[] json, Class<T> clzz) {
+        return JsonHandler.getDefault().streamArray(json, clzz);
+    }
+
+    /**
+     * 将元素逐个序列化为json数组写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param out 输出流，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public static long writeArray(Iterator<?> values, OutputStream out) {
+        return JsonHandler.getDefault().writeArray(values, out);
+    }
+
+    /**
+     * 将元素逐个序列化为json数组写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param channel 输出通道，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public static long writeArray(Iterator<?> values, WritableByteChannel channel) {
+        return JsonHandler.getDefault().writeArray(values, channel);
+    }
+
+    /**
+     * 将元素逐个序列化为json数组写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的流（不会关闭这个流）
+     * @param out 输出流，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public static long writeArray(Stream<?> values, OutputStream out) {
+        return JsonHandler.getDefault().writeArray(values, out);
+    }
+
+    /**
+     * 将元素逐个序列化为json数组写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的流（不会关闭这个流）
+     * @param channel 输出通道，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public static long writeArray(Stream<?> values, WritableByteChannel channel) {
+        return JsonHandler.getDefault().writeArray(values, channel);
+    }
+
+    /**
+     * 将元素逐个序列化为NDJSON（每行一个json）写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param out 输出流，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public static long writeLines(Iterator<?> values, OutputStream out) {
+        return JsonHandler.getDefault().writeLines(values, out);
+    }
+
+    /**
+     * 将元素逐个序列化为NDJSON（每行一个json）写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的迭代器
+     * @param channel 输出通道，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public static long writeLines(Iterator<?> values, WritableByteChannel channel) {
+        return JsonHandler.getDefault().writeLines(values, channel);
+    }
+
+    /**
+     * 将元素逐个序列化为NDJSON（每行一个json）写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的流（不会关闭这个流）
+     * @param out 输出流，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public static long writeLines(Stream<?> values, OutputStream out) {
+        return JsonHandler.getDefault().writeLines(values, out);
+    }
+
+    /**
+     * 将元素逐个序列化为NDJSON（每行一个json）写入输出，不需要先把所有元素放到内存中，每写入1000个元素刷新一次输出
+     *
+     * @param values 要写入的元素的流（不会关闭这个流）
+     * @param channel 输出通道，写入完成后不会关闭
+     * @return 写入的元素个数
+     * @author :loulan
+     */
+    public static long writeLines(Stream<?> values, WritableByteChannel channel) {
+        return JsonHandler.getDefault().writeLines(values, channel);
+    }
+
+    /**
+     * 读取json中指定路径的值（例如{@code $.a.b[3].c}），流式读取json并跳过无关的子树，找到之后立刻停止解析
+     *
+     * @param <T>  泛型
+     * @param json 要进行读取的json数据
+     * @param path json路径，格式见{@link JsonPathExtractor}
+     * @return 路径指向的值（对象为Map，数组为List），路径不存在时返回{@code null}
+     * @author :loulan
+     */
+    public static <T> T read(byte[] json, String path) {
+        return JsonHandler.getDefault().read(json, path);
+    }
+
+    /**
+     * 读取json中指定路径的值并解析为指定的类型，流式读取json并跳过无关的子树，找到之后立刻停止解析
+     *
+     * @param <T>  泛型
+     * @param json 要进行读取的json数据
+     * @param path json路径，格式见{@link JsonPathExtractor}
+     * @param clzz 指定类型的class对象
+     * @return 路径指向的值，路径不存在时返回{@code null}
+     * @author :loulan
+     */
+    public static <T> T read(byte[] json, String path, Class<T> clzz) {
+        return JsonHandler.getDefault().read(json, path, clzz);
+    }
+
+    /**
+     * 读取json中指定路径的值（例如{@code $.a.b[3].c}），流式读取json并跳过无关的子树，找到之后立刻停止解析
+     *
+     * @param <T>  泛型
+     * @param json 要进行读取的json数据
+     * @param path json路径，格式见{@link JsonPathExtractor}
+     * @return 路径指向的值（对象为Map，数组为List），路径不存在时返回{@code null}
+     * @author :loulan
+     */
+    public static <T> T read(String json, String path) {
+        return JsonHandler.getDefault().read(json, path);
+    }
+
+    /**
+     * 读取json中指定路径的值并解析为指定的类型，流式读取json并跳过无关的子树，找到之后立刻停止解析
+     *
+     * @param <T>  泛型
+     * @param json 要进行读取的json数据
+     * @param path json路径，格式见{@link JsonPathExtractor}
+     * @param clzz 指定类型的class对象
+     * @return 路径指向的值，路径不存在时返回{@code null}
+     * @author :loulan
+     */
+    public static <T> T read(String json, String path, Class<T> clzz) {
+        return JsonHandler.getDefault().read(json, path, clzz);
+    }
+
+    /**
+     * 编译多个json路径，编译后的提取器可以重复使用，一次解析中提取所有路径的值
+     *
+     * @param paths json路径，格式见{@link JsonPathExtractor}
+     * @return 路径提取器
+     * @author :loulan
+     */
+    public static JsonPathExtractor compilePaths(String... paths) {
+        return JsonHandler.getDefault().compilePaths(paths);
+    }
+
+    /**
+     * 将对象直接转换为指定的类型（比如Map转换为bean），
+     * 转换过程通过jackson的token缓冲完成，不会生成中间的json字符串或者字节数组，日期等格式配置和json解析一致
+     *
+     * @param <T>       泛型
+     * @param fromValue 要进行转换的对象
+     * @param clzz      指定类型的class对象
+     * @return 转换后的指定类型
+     * @author :loulan
+     */
+    public static <T> T convert(Object fromValue, Class<T> clzz) {
+        return JsonHandler.getDefault().convert(fromValue, clzz);
+    }
+
+    /**
+     * 将对象直接转换为指定的类型（比如Map转换为bean），
+     * 转换过程通过jackson的token缓冲完成，不会生成中间的json字符串或者字节数组，日期等格式配置和json解析一致
+     *
+     * @param <T>          泛型
+     * @param fromValue    要进行转换的对象
+     * @param valueTypeRef 类型指引
+     * @return 转换后的指定类型
+     * @author :loulan
+     */
+    public static <T> T convert(Object fromValue, TypeReference<T> valueTypeRef) {
+        return JsonHandler.getDefault().convert(fromValue, valueTypeRef);
+    }
+
+    /**
+     * 将对象直接转换为指定的类型（比如Map转换为bean），
+     * 转换过程通过jackson的token缓冲完成，不会生成中间的json字符串或者字节数组，日期等格式配置和json解析一致
+     *
+     * @param <T>       泛型
+     * @param fromValue 要进行转换的对象
+     * @param javaType  要转换成的类型对象
+     * @return 转换后的指定类型
+     * @author :loulan
+     */
+    public static <T> T convert(Object fromValue, JavaType javaType) {
+        return JsonHandler.getDefault().convert(fromValue, javaType);
+    }
+
+    /**
+     * 使用源对象（比如Map）中的数据更新目标对象的属性，只有源对象中存在的属性才会被更新，
+     * 转换过程通过jackson的token缓冲完成，不会生成中间的json字符串或者字节数组
+     *
+     * @param <T>    泛型
+     * @param target 要被更新的目标对象
+     * @param source 提供数据的源对象
+     * @return 更新后的目标对象（和传入的目标对象是同一个对象）
+     * @author :loulan
+     */
+    public static <T> T update(T target, Object source) {
+        return JsonHandler.getDefault().update(target, source);
     }
 
     /**
@@ -291,6 +695,6 @@ public class JsonTool extends JsonToolObjectMapper {
      * @author :loulan
      */
     public static TypeFactory getTypeFactory() {
-        return objectMapper.getTypeFactory();
+        return JsonHandler.getDefault().getTypeFactory();
     }
 }
@@ -33,21 +33,51 @@ abstract class JsonToolObjectMapper {
      */
     protected final static ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * 默认的日期时间格式
+     *
+     * @author :loulan
+     */
+    public static final String DEFAULT_DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    /**
+     * 默认的日期格式
+     *
+     * @author :loulan
+     */
+    public static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd";
+
+    /**
+     * 默认的时间格式
+     *
+     * @author :loulan
+     */
+    public static final String DEFAULT_TIME_PATTERN = "HH:mm:ss";
+
+    /**
+     * 默认的时区（上海和北京是一个时区的，所以也是北京时间）
+     *
+     * @author :loulan
+     */
+    public static final String DEFAULT_TIME_ZONE = "Asia/Shanghai";
+
     /**
      * 静态块执行模块
      * @author     :loulan
      * */
     static {
-        objectMapperConfiguration();
-        objectMapperDateConfiguration();
+        objectMapperConfiguration(objectMapper);
+        objectMapperDateConfiguration(objectMapper, Locale.CHINESE, TimeZone.getTimeZone(DEFAULT_TIME_ZONE),
+                DEFAULT_DATE_TIME_PATTERN, DEFAULT_DATE_PATTERN, DEFAULT_TIME_PATTERN);
     }
 
     /**
-     * {@link ObjectMapper}对象的属性配置
+     * {@link ObjectMapper}对象的属性配置（{@link JsonHandlerBuilder}创建的对象也使用这个配置作为默认配置）
      *
+     * @param objectMapper 要进行配置的对象
      * @author :loulan
      */
-     static void objectMapperConfiguration() {
+     static void objectMapperConfiguration(ObjectMapper objectMapper) {
         // 属性为Null的不进行序列化，只对pojo起作用，可能对map和list不起作用
         objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         // json进行换行缩进等操作
@@ -77,30 +107,37 @@ abstract class JsonToolObjectMapper {
     /**
      * {@link ObjectMapper}对象的日期配置
      *
+     * @param objectMapper    要进行配置的对象
+     * @param locale          位置
+     * @param timeZone        时区
+     * @param dateTimePattern {@link LocalDateTime}的格式
+     * @param datePattern     {@link LocalDate}的格式
+     * @param timePattern     {@link LocalTime}的格式
      * @author :loulan
      */
-    private static void objectMapperDateConfiguration() {
-        // 位置设置为中国
-        objectMapper.setLocale(Locale.CHINESE);
-        // 时区设置为亚洲上海（上海和北京是一个时区的，所以也是北京时间）
-        objectMapper.setTimeZone(TimeZone.getTimeZone("Asia/Shanghai"));
+    static void objectMapperDateConfiguration(ObjectMapper objectMapper, Locale locale, TimeZone timeZone,
+                                              String dateTimePattern, String datePattern, String timePattern) {
+        // 位置，默认设置为中国
+        objectMapper.setLocale(locale);
+        // 时区，默认设置为亚洲上海
+        objectMapper.setTimeZone(timeZone);
 
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         JavaTimeModule javaTimeModule = new JavaTimeModule();
         //日期序列化
-        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
+        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(dateTimePattern)));
+        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(DateTimeFormatter.ofPattern(datePattern)));
+        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(DateTimeFormatter.ofPattern(timePattern)));
 
         //日期反序列化
-        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(dateTimePattern)));
         //javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")));
         //javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX")));
 
-        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(DateTimeFormatter.ofPattern(datePattern)));
         //javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(DateTimeFormatter.ofPattern("yyyy/MM/dd")));
 
-        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
+        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer(DateTimeFormatter.ofPattern(timePattern)));
 
         objectMapper.registerModule(javaTimeModule);
     }
@@ -0,0 +1,266 @@
+package io.github.loulangogogo.water.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/*********************************************************
+ ** 基于jackson树模型的延迟转换的{@link JsonMap}（见{@link JsonMap#lazy(ObjectNode)}）。
+ ** <p>
+ ** 读取单个属性（{@link #get(Object)}以及各种类型的获取方法）时只转换这个属性，嵌套的对象同样是延迟转换的；
+ ** 遍历、修改、序列化等需要全部属性的操作会先按json中的顺序转换全部的属性，之后和普通的{@link JsonMap}一样。
+ ** 数值按照jackson解析为{@link Object}时的规则转换（整数为Integer、Long或者BigInteger，小数为Double）。
+ ** 读取属性时会把转换结果保存到{@link LinkedHashMap}中，所以只读的时候也不是线程安全的，不能在多个线程中共享。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class LazyJsonMap extends JsonMap {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 还没有全部转换的json对象节点，全部转换之后为{@code null}
+     *
+     * @author :loulan
+     */
+    private transient ObjectNode node;
+
+    /**
+     * 根据json对象节点创建
+     *
+     * @param node json对象节点
+     * @author :loulan
+     */
+    LazyJsonMap(ObjectNode node) {
+        this.node = node;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (node != null && key instanceof String && !super.containsKey(key)) {
+            JsonNode value = node.get((String) key);
+            if (value == null) {
+                return null;
+            }
+            Object converted = convert(value);
+            super.put((String) key, converted);
+            return converted;
+        }
+        return super.get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (node != null) {
+            return key instanceof String && node.has((String) key);
+        }
+        return super.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return node != null ? node.size() : super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materialize();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        materialize();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        materialize();
+        super.putAll(m);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        materialize();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        node = null;
+        super.clear();
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        materialize();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        materialize();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        materialize();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        materialize();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        materialize();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        materialize();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        materialize();
+        super.forEach(action);
+    }
+
+    @Override
+    public Object clone() {
+        materialize();
+        return super.clone();
+    }
+
+    /**
+     * 按json中的顺序转换全部的属性，已经转换过的属性不再重新转换
+     *
+     * @author :loulan
+     */
+    private void materialize() {
+        ObjectNode source = node;
+        if (source == null) {
+            return;
+        }
+        Map<String, Object> ordered = new LinkedHashMap<>(source.size() * 4 / 3 + 1);
+        for (Map.Entry<String, JsonNode> entry : source.properties()) {
+            String key = entry.getKey();
+            ordered.put(key, super.containsKey(key) ? super.get(key) : convert(entry.getValue()));
+        }
+        node = null;
+        super.clear();
+        super.putAll(ordered);
+    }
+
+    /**
+     * 序列化之前转换全部的属性，保证序列化的数据是完整的
+     *
+     * @return 当前对象
+     * @author :loulan
+     */
+    private Object writeReplace() {
+        materialize();
+        return this;
+    }
+
+    /**
+     * 把json节点转换为java对象，嵌套的对象转换为延迟转换的JsonMap
+     *
+     * @param value json节点
+     * @return java对象
+     * @author :loulan
+     */
+    private static Object convert(JsonNode value) {
+        switch (value.getNodeType()) {
+            case OBJECT:
+                return new LazyJsonMap((ObjectNode) value);
+            case ARRAY:
+                List<Object> list = new ArrayList<>(value.size());
+                for (JsonNode element : value) {
+                    list.add(convert(element));
+                }
+                return list;
+            case STRING:
+                return value.textValue();
+            case NUMBER:
+                return value.numberValue();
+            case BOOLEAN:
+                return value.booleanValue();
+            case BINARY:
+                try {
+                    return value.binaryValue();
+                } catch (IOException ex) {
+                    return value.asText();
+                }
+            case POJO:
+                return ((POJONode) value).getPojo();
+            default:
+                return null;
+        }
+    }
+}
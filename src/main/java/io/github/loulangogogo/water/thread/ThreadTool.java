@@ -1,12 +1,24 @@
 package io.github.loulangogogo.water.thread;
 
 import io.github.loulangogogo.water.exception.ThreadException;
+import io.github.loulangogogo.water.tool.AssertTool;
+import io.github.loulangogogo.water.tool.ObjectTool;
 import org.apache.commons.lang3.ThreadUtils;
 import org.apache.commons.lang3.time.DurationUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /*********************************************************
  ** 线程的工具类
@@ -74,4 +86,83 @@ public class ThreadTool {
             throw new ThreadException(e);
         }
     }
+
+    /**
+     * 对集合中的每个元素进行转换，结果顺序和源集合的迭代顺序一致。
+     * <p>
+     * 当元素个数小于{@code parallelThreshold}或者{@code executor}为{@code null}时在当前线程顺序执行；
+     * 否则将集合拆分为多个连续的分块交给{@code executor}并行执行（当前线程也会执行其中一个分块），
+     * 每个分块直接写入预先分配好大小的结果集合中，所以不需要再进行合并和排序。
+     *
+     * @param <T>               源元素泛型
+     * @param <R>               结果元素泛型
+     * @param datas             源集合
+     * @param mapper            元素转换函数
+     * @param parallelThreshold 并行执行的元素个数阈值
+     * @param executor          并行执行使用的执行器
+     * @return 转换后的结果集合（{@link ArrayList}）
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> parallelMap(Collection<? extends T> datas, Function<? super T, ? extends R> mapper, int parallelThreshold, Executor executor) {
+        AssertTool.notNull(mapper, "mapper cannot be null!");
+        if (ObjectTool.isNull(datas) || datas.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+
+        Object[] sources = datas.toArray();
+        int size = sources.length;
+        List<R> results = new ArrayList<>(Collections.nCopies(size, null));
+        if (size < parallelThreshold || ObjectTool.isNull(executor)) {
+            for (int i = 0; i < size; i++) {
+                results.set(i, mapper.apply((T) sources[i]));
+            }
+            return results;
+        }
+
+        // 分块的个数为并行度的4倍，这样分块之间执行时间不均匀的时候也能比较好的利用线程
+        int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        int chunkCount = Math.max(1, Math.min(parallelism * 4, size));
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunkCount);
+        try {
+            for (int start = chunkSize; start < size; start += chunkSize) {
+                int from = start;
+                int to = Math.min(start + chunkSize, size);
+                Runnable chunk = () -> {
+                    for (int i = from; i < to; i++) {
+                        results.set(i, mapper.apply((T) sources[i]));
+                    }
+                };
+                try {
+                    futures.add(CompletableFuture.runAsync(chunk, executor));
+                } catch (RejectedExecutionException ex) {
+                    // 执行器拒绝执行的时候由当前线程执行
+                    chunk.run();
+                }
+            }
+            // 第一个分块由当前线程执行
+            for (int i = 0, to = Math.min(chunkSize, size); i < to; i++) {
+                results.set(i, mapper.apply((T) sources[i]));
+            }
+        } catch (RuntimeException | Error ex) {
+            // 当前线程执行失败时先等待已经提交的分块结束，保证方法抛出异常之后不会再有分块在执行
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((result, error) -> null).join();
+            throw ex;
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ThreadException(cause);
+        }
+        return results;
+    }
 }
@@ -0,0 +1,397 @@
+package io.github.loulangogogo.water.tool;
+
+import io.github.loulangogogo.water.exception.ReflectException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/*********************************************************
+ ** 字段访问器，通过{@link MethodHandle}读写字段的值，不再每次都经过{@link Field#get(Object)}的访问检查。
+ ** <p>
+ ** 每个字段只生成一次访问器（见{@link ReflectTool#getFieldAccessor(Field)}），访问器是线程安全的，
+ ** 适合在循环中反复读写同一个字段。静态字段读写时忽略目标对象参数。
+ ** <p>
+ ** 基本类型的字段可以通过{@link #getInt(Object)}、{@link #setLong(Object, long)}等方法读写，不会产生装箱对象；
+ ** 和{@link Field#getInt(Object)}等方法一样支持基本类型的拓宽转换（例如short字段可以通过getInt读取，
+ ** int值可以通过setInt写入long字段），类型不兼容时抛出{@link ReflectException}。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class FieldAccessor {
+
+    /**
+     * 当前类的查找对象
+     *
+     * @author :loulan
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 访问的字段
+     *
+     * @author :loulan
+     */
+    private final Field field;
+
+    /**
+     * 读取字段的句柄，类型为(Object)Object
+     *
+     * @author :loulan
+     */
+    private final MethodHandle getter;
+
+    /**
+     * 写入字段的句柄，类型为(Object, Object)void，字段不可写入（例如静态常量）时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle setter;
+
+    /**
+     * 读取int值的句柄，类型为(Object)int，字段类型不兼容时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle intGetter;
+
+    /**
+     * 读取long值的句柄，类型为(Object)long，字段类型不兼容时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle longGetter;
+
+    /**
+     * 读取double值的句柄，类型为(Object)double，字段类型不兼容时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle doubleGetter;
+
+    /**
+     * 读取boolean值的句柄，类型为(Object)boolean，字段类型不兼容时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle booleanGetter;
+
+    /**
+     * 写入int值的句柄，类型为(Object, int)void，字段类型不兼容或者不可写入时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle intSetter;
+
+    /**
+     * 写入long值的句柄，类型为(Object, long)void，字段类型不兼容或者不可写入时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle longSetter;
+
+    /**
+     * 写入double值的句柄，类型为(Object, double)void，字段类型不兼容或者不可写入时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle doubleSetter;
+
+    /**
+     * 写入boolean值的句柄，类型为(Object, boolean)void，字段类型不兼容或者不可写入时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final MethodHandle booleanSetter;
+
+    /**
+     * 根据字段生成访问器
+     *
+     * @param field 字段
+     * @author :loulan
+     */
+    FieldAccessor(Field field) {
+        this.field = field;
+        Class<?> type = field.getType();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        Field accessibleField = ReflectMetadata.accessible(field);
+        MethodHandle getterHandle;
+        try {
+            getterHandle = LOOKUP.unreflectGetter(accessibleField);
+            if (isStatic) {
+                getterHandle = MethodHandles.dropArguments(getterHandle, 0, Object.class);
+            }
+            getterHandle = getterHandle.asType(MethodType.methodType(type, Object.class));
+        } catch (IllegalAccessException ex) {
+            throw new ReflectException("生成字段读取器失败：" + field, ex);
+        }
+
+        MethodHandle setterHandle;
+        try {
+            setterHandle = LOOKUP.unreflectSetter(accessibleField);
+            if (isStatic) {
+                setterHandle = MethodHandles.dropArguments(setterHandle, 0, Object.class);
+            }
+            setterHandle = setterHandle.asType(MethodType.methodType(void.class, Object.class, type));
+        } catch (IllegalAccessException ex) {
+            // final字段在部分环境下无法生成写入句柄，此时只支持读取
+            setterHandle = null;
+        }
+
+        this.getter = getterHandle.asType(MethodType.methodType(Object.class, Object.class));
+        this.setter = setterHandle == null ? null : setterHandle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        this.intGetter = primitiveGetter(getterHandle, type, int.class);
+        this.longGetter = primitiveGetter(getterHandle, type, long.class);
+        this.doubleGetter = primitiveGetter(getterHandle, type, double.class);
+        this.booleanGetter = primitiveGetter(getterHandle, type, boolean.class);
+        this.intSetter = primitiveSetter(setterHandle, type, int.class);
+        this.longSetter = primitiveSetter(setterHandle, type, long.class);
+        this.doubleSetter = primitiveSetter(setterHandle, type, double.class);
+        this.booleanSetter = primitiveSetter(setterHandle, type, boolean.class);
+    }
+
+    /**
+     * 获取访问的字段
+     *
+     * @return 字段
+     * @author :loulan
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * 获取字段的类型
+     *
+     * @return 字段类型
+     * @author :loulan
+     */
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    /**
+     * 读取字段的值（基本类型的字段返回包装类型）
+     *
+     * @param <V>    泛型
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @return 字段的值
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(Object target) {
+        try {
+            return (V) (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 写入字段的值
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @param value  字段的值
+     * @author :loulan
+     */
+    public void set(Object target, Object value) {
+        if (setter == null) {
+            throw new ReflectException("field cannot be written: " + field);
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 读取int类型（或者可以拓宽转换为int的byte、short、char类型）字段的值，不会产生装箱对象
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @return 字段的值
+     * @author :loulan
+     */
+    public int getInt(Object target) {
+        try {
+            return (int) checkType(intGetter, int.class).invokeExact(target);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 读取long类型（或者可以拓宽转换为long的基本类型）字段的值，不会产生装箱对象
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @return 字段的值
+     * @author :loulan
+     */
+    public long getLong(Object target) {
+        try {
+            return (long) checkType(longGetter, long.class).invokeExact(target);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 读取double类型（或者可以拓宽转换为double的基本类型）字段的值，不会产生装箱对象
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @return 字段的值
+     * @author :loulan
+     */
+    public double getDouble(Object target) {
+        try {
+            return (double) checkType(doubleGetter, double.class).invokeExact(target);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 读取boolean类型字段的值，不会产生装箱对象
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @return 字段的值
+     * @author :loulan
+     */
+    public boolean getBoolean(Object target) {
+        try {
+            return (boolean) checkType(booleanGetter, boolean.class).invokeExact(target);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 写入int类型（或者可以接收int值的long、float、double类型）字段的值，不会产生装箱对象
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @param value  字段的值
+     * @author :loulan
+     */
+    public void setInt(Object target, int value) {
+        try {
+            checkType(intSetter, int.class).invokeExact(target, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 写入long类型（或者可以接收long值的float、double类型）字段的值，不会产生装箱对象
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @param value  字段的值
+     * @author :loulan
+     */
+    public void setLong(Object target, long value) {
+        try {
+            checkType(longSetter, long.class).invokeExact(target, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 写入double类型字段的值，不会产生装箱对象
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @param value  字段的值
+     * @author :loulan
+     */
+    public void setDouble(Object target, double value) {
+        try {
+            checkType(doubleSetter, double.class).invokeExact(target, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 写入boolean类型字段的值，不会产生装箱对象
+     *
+     * @param target 目标对象，静态字段可以为{@code null}
+     * @param value  字段的值
+     * @author :loulan
+     */
+    public void setBoolean(Object target, boolean value) {
+        try {
+            checkType(booleanSetter, boolean.class).invokeExact(target, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 检查基本类型的读写句柄是否存在，不存在说明字段类型不兼容（或者字段不可写入）
+     *
+     * @param handle 读写句柄
+     * @param type   读写的基本类型
+     * @return 读写句柄
+     * @author :loulan
+     */
+    private MethodHandle checkType(MethodHandle handle, Class<?> type) {
+        if (handle == null) {
+            throw new ReflectException("field type is not compatible with " + type.getName() + " or field cannot be written: " + field);
+        }
+        return handle;
+    }
+
+    /**
+     * 生成读取基本类型值的句柄，字段类型可以拓宽转换为读取的类型时才生成
+     *
+     * @param getter    字段类型的读取句柄，类型为(Object)字段类型
+     * @param fieldType 字段类型
+     * @param type      读取的基本类型
+     * @return 读取句柄，类型不兼容时返回{@code null}
+     * @author :loulan
+     */
+    private static MethodHandle primitiveGetter(MethodHandle getter, Class<?> fieldType, Class<?> type) {
+        if (!fieldType.isPrimitive() || !ReflectMetadata.isConvertible(fieldType, type)) {
+            return null;
+        }
+        return getter.asType(MethodType.methodType(type, Object.class));
+    }
+
+    /**
+     * 生成写入基本类型值的句柄，写入的类型可以拓宽转换为字段类型时才生成
+     *
+     * @param setter    字段类型的写入句柄，类型为(Object, 字段类型)void，字段不可写入时为{@code null}
+     * @param fieldType 字段类型
+     * @param type      写入的基本类型
+     * @return 写入句柄，类型不兼容或者字段不可写入时返回{@code null}
+     * @author :loulan
+     */
+    private static MethodHandle primitiveSetter(MethodHandle setter, Class<?> fieldType, Class<?> type) {
+        if (setter == null || !fieldType.isPrimitive() || !ReflectMetadata.isConvertible(type, fieldType)) {
+            return null;
+        }
+        return setter.asType(MethodType.methodType(void.class, Object.class, type));
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.loulangogogo.water.tool;
+
+import io.github.loulangogogo.water.exception.ReflectException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/*********************************************************
+ ** 方法调用器，每个方法只生成一次（见{@link ReflectTool#getMethodInvoker(Method)}），调用时不再经过
+ ** {@link Method#invoke(Object, Object...)}的访问检查和参数复制。
+ ** <p>
+ ** public类的public无参实例方法（例如getter）通过{@link LambdaMetafactory}生成直接调用的函数对象，
+ ** 其他方法使用{@link MethodHandle}调用。方法抛出的运行时异常原样抛出，受检异常包装为{@link ReflectException}。
+ ** 静态方法调用时忽略目标对象参数。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+public final class MethodInvoker {
+
+    /**
+     * 当前类的查找对象
+     *
+     * @author :loulan
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 调用的方法
+     *
+     * @author :loulan
+     */
+    private final Method method;
+
+    /**
+     * 调用方法的句柄，类型为(Object, Object[])Object
+     *
+     * @author :loulan
+     */
+    private final MethodHandle handle;
+
+    /**
+     * 无参实例方法直接调用的函数对象，不能生成时为{@code null}
+     *
+     * @author :loulan
+     */
+    private final Function<Object, Object> function;
+
+    /**
+     * 根据方法生成调用器
+     *
+     * @param method 方法
+     * @author :loulan
+     */
+    MethodInvoker(Method method) {
+        this.method = method;
+        int parameterCount = method.getParameterCount();
+        try {
+            MethodHandle methodHandle = LOOKUP.unreflect(ReflectMetadata.accessible(method));
+            if (Modifier.isStatic(method.getModifiers())) {
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+            }
+            this.handle = methodHandle
+                    .asType(MethodType.genericMethodType(parameterCount + 1))
+                    .asSpreader(Object[].class, parameterCount);
+            this.function = parameterCount == 0 ? lambda(method) : null;
+        } catch (IllegalAccessException ex) {
+            throw new ReflectException("生成方法调用器失败：" + method, ex);
+        }
+    }
+
+    /**
+     * 获取调用的方法
+     *
+     * @return 方法
+     * @author :loulan
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * 调用方法
+     *
+     * @param <T>    泛型
+     * @param target 目标对象，静态方法可以为{@code null}
+     * @param args   方法参数
+     * @return 方法返回值，void方法返回{@code null}
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object target, Object... args) {
+        try {
+            if (function != null && (args == null || args.length == 0)) {
+                return (T) function.apply(target);
+            }
+            return (T) (Object) handle.invokeExact(target, args);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectException(ex);
+        }
+    }
+
+    /**
+     * 为public类的public无参实例方法生成直接调用的函数对象
+     *
+     * @param method 方法
+     * @return 函数对象，不满足条件时返回{@code null}
+     * @author :loulan
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> lambda(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (Modifier.isStatic(method.getModifiers()) || void.class == method.getReturnType()
+                || !Modifier.isPublic(method.getModifiers()) || !isLambdaAccessible(declaringClass)) {
+            return null;
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    LOOKUP.unreflect(method),
+                    MethodType.methodType(MethodType.methodType(method.getReturnType()).wrap().returnType(), declaringClass));
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable ex) {
+            // 无法生成时使用方法句柄调用
+            return null;
+        }
+    }
+
+    /**
+     * 判断类是否可以被{@link LambdaMetafactory}生成的函数直接访问，
+     * 要求类是public的，并且对当前类加载器可见
+     *
+     * @param declaringClass 类对象
+     * @return 是否可以直接访问
+     * @author :loulan
+     */
+    private static boolean isLambdaAccessible(Class<?> declaringClass) {
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(declaringClass.getName(), false, MethodInvoker.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.loulangogogo.water.tool;
 
+import io.github.loulangogogo.water.bean.Serializer;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.SerializationUtils;
 
@@ -121,4 +122,18 @@ public class ObjectTool {
         T clone = (T) SerializationUtils.clone(obj);
         return clone;
     }
+
+    /**
+     * 使用指定的序列化器进行对象深度克隆，例如使用{@link io.github.loulangogogo.water.bean.CompactSerializer}
+     *
+     * @param <T>        继承{@link Serializable}的泛型
+     * @param obj        要进行深度克隆的对象
+     * @param serializer 序列化器
+     * @return 克隆出来额对象
+     * @author :loulan
+     */
+    public static <T extends Serializable> T deepClone(T obj, Serializer serializer) {
+        AssertTool.notNull(serializer, "serializer cannot be null!");
+        return serializer.clone(obj);
+    }
 }
@@ -0,0 +1,610 @@
+package io.github.loulangogogo.water.tool;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*********************************************************
+ ** {@link ReflectTool}使用的类的反射元数据（字段、方法、构造方法）。
+ ** <p>
+ ** 每个类只沿着继承链收集一次，结果通过{@link ClassValue}缓存在类上，类被卸载的时候缓存也会跟着释放。
+ ** 按名称查找字段和方法都是一次map查询，查找不存在的字段或方法同样直接返回{@code null}，不再通过捕获异常逐级向父类查找。
+ ** 缓存的数组不能被修改，对外返回时需要复制。
+ ** <p>
+ ** 缓存的字段、方法和构造方法对象会返回给调用者，为了不改变它们的访问权限，工具内部访问字段、调用方法以及
+ ** {@link ReflectTool#getConstructor(Class, Class[])}返回的构造方法使用单独获取并设置了可访问的副本（每个成员只获取一次）。
+ **
+ ** @author loulan
+ ** @since 8
+ *********************************************************/
+final class ReflectMetadata {
+
+    /**
+     * 类的反射元数据缓存
+     *
+     * @author :loulan
+     */
+    private static final ClassValue<ReflectMetadata> CACHE = new ClassValue<ReflectMetadata>() {
+        @Override
+        protected ReflectMetadata computeValue(Class<?> type) {
+            return new ReflectMetadata(type);
+        }
+    };
+
+    /**
+     * 空的方法数组
+     *
+     * @author :loulan
+     */
+    private static final Method[] EMPTY_METHODS = new Method[0];
+
+    /**
+     * 按参数解析方法时表示找不到方法的标记
+     *
+     * @author :loulan
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    /**
+     * 基本类型按照拓宽转换顺序的排序（boolean不能和其他类型转换，char只能拓宽为int及以上）
+     *
+     * @author :loulan
+     */
+    private static final List<Class<?>> PRIMITIVE_ORDER = Arrays.asList(byte.class, short.class, char.class, int.class, long.class, float.class, double.class);
+
+    /**
+     * 继承链上的所有字段（子类的字段在前）
+     *
+     * @author :loulan
+     */
+    final Field[] fields;
+
+    /**
+     * 字段名称和字段的映射（子类和父类有同名字段时保留子类的字段）
+     *
+     * @author :loulan
+     */
+    private final Map<String, Field> fieldMap;
+
+    /**
+     * 继承链上的所有方法（子类的方法在前）
+     *
+     * @author :loulan
+     */
+    final Method[] methods;
+
+    /**
+     * 方法名称和同名方法的映射（子类的方法在前）
+     *
+     * @author :loulan
+     */
+    private final Map<String, Method[]> methodMap;
+
+    /**
+     * 方法名称和同名方法参数类型的映射，和{@link #methodMap}中的方法一一对应
+     *
+     * @author :loulan
+     */
+    private final Map<String, Class<?>[][]> methodParamMap;
+
+    /**
+     * 方法名称和按参数个数分组的同名方法的映射（下标为参数个数，不包括桥接方法）
+     *
+     * @author :loulan
+     */
+    private final Map<String, Method[][]> arityMap;
+
+    /**
+     * 按名称和实际参数类型解析过的方法（找不到时为{@link #NOT_FOUND}）
+     *
+     * @author :loulan
+     */
+    private final Map<MethodKey, Object> resolvedMethods = new ConcurrentHashMap<>();
+
+    /**
+     * 类自身声明的构造方法
+     *
+     * @author :loulan
+     */
+    final Constructor<?>[] constructors;
+
+    /**
+     * 构造方法的参数类型，和{@link #constructors}一一对应
+     *
+     * @author :loulan
+     */
+    private final Class<?>[][] constructorParams;
+
+    /**
+     * 类自身声明的成员和设置了可访问的副本的映射
+     *
+     * @author :loulan
+     */
+    private final Map<AccessibleObject, AccessibleObject> accessibleCopies = new ConcurrentHashMap<>();
+
+    /**
+     * 类自身声明的字段和字段访问器的映射
+     *
+     * @author :loulan
+     */
+    private final Map<Field, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
+
+    /**
+     * 类自身声明的方法和方法调用器的映射
+     *
+     * @author :loulan
+     */
+    private final Map<Method, MethodInvoker> methodInvokers = new ConcurrentHashMap<>();
+
+    /**
+     * 沿着继承链收集类的反射元数据
+     *
+     * @param type 类对象
+     * @author :loulan
+     */
+    private ReflectMetadata(Class<?> type) {
+        List<Field> fieldList = new ArrayList<>();
+        List<Method> methodList = new ArrayList<>();
+        for (Class<?> searchType = type; searchType != null; searchType = searchType.getSuperclass()) {
+            fieldList.addAll(Arrays.asList(searchType.getDeclaredFields()));
+            methodList.addAll(Arrays.asList(searchType.getDeclaredMethods()));
+        }
+        this.fields = fieldList.toArray(new Field[0]);
+        this.methods = methodList.toArray(EMPTY_METHODS);
+
+        Map<String, Field> fieldMap = new HashMap<>();
+        for (Field field : fields) {
+            fieldMap.putIfAbsent(field.getName(), field);
+        }
+        this.fieldMap = fieldMap;
+
+        Map<String, List<Method>> grouped = new LinkedHashMap<>();
+        for (Method method : methods) {
+            grouped.computeIfAbsent(method.getName(), name -> new ArrayList<>()).add(method);
+        }
+        Map<String, Method[]> methodMap = new HashMap<>();
+        Map<String, Class<?>[][]> methodParamMap = new HashMap<>();
+        Map<String, Method[][]> arityMap = new HashMap<>();
+        for (Map.Entry<String, List<Method>> entry : grouped.entrySet()) {
+            arityMap.put(entry.getKey(), groupByArity(entry.getValue()));
+            Method[] sameNameMethods = entry.getValue().toArray(EMPTY_METHODS);
+            Class<?>[][] params = new Class<?>[sameNameMethods.length][];
+            for (int i = 0; i < sameNameMethods.length; i++) {
+                params[i] = sameNameMethods[i].getParameterTypes();
+            }
+            methodMap.put(entry.getKey(), sameNameMethods);
+            methodParamMap.put(entry.getKey(), params);
+        }
+        this.methodMap = methodMap;
+        this.methodParamMap = methodParamMap;
+        this.arityMap = arityMap;
+
+        this.constructors = type.getDeclaredConstructors();
+        this.constructorParams = new Class<?>[constructors.length][];
+        for (int i = 0; i < constructors.length; i++) {
+            constructorParams[i] = constructors[i].getParameterTypes();
+        }
+    }
+
+    /**
+     * 获取类的反射元数据
+     *
+     * @param type 类对象
+     * @return 反射元数据
+     * @author :loulan
+     */
+    static ReflectMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 根据名称获取字段（包括父类的字段）
+     *
+     * @param name 字段名称
+     * @return 字段对象，不存在时返回{@code null}
+     * @author :loulan
+     */
+    Field getField(String name) {
+        return fieldMap.get(name);
+    }
+
+    /**
+     * 获取指定名称的所有方法（包括父类的方法）
+     *
+     * @param name 方法名称
+     * @return 方法数组（缓存的数组，不能修改），不存在时返回空数组
+     * @author :loulan
+     */
+    Method[] getMethods(String name) {
+        Method[] sameNameMethods = methodMap.get(name);
+        return sameNameMethods == null ? EMPTY_METHODS : sameNameMethods;
+    }
+
+    /**
+     * 获取指定名称和参数个数的所有方法（包括父类的方法，不包括桥接方法）
+     *
+     * @param name       方法名称
+     * @param paramCount 参数个数
+     * @return 方法数组（缓存的数组，不能修改），不存在时返回空数组
+     * @author :loulan
+     */
+    Method[] getMethods(String name, int paramCount) {
+        Method[][] arities = arityMap.get(name);
+        if (arities == null || paramCount < 0 || paramCount >= arities.length) {
+            return EMPTY_METHODS;
+        }
+        return arities[paramCount];
+    }
+
+    /**
+     * 根据名称和实际参数解析要调用的方法（不支持可变参数的展开）。
+     * <p>
+     * 和java编译器的规则类似，先在不需要拆箱就可以接收实际参数的方法中选择（{@code null}参数可以匹配任意引用类型），
+     * 没有时再允许包装类型匹配对应的基本类型以及可以拓宽转换的基本类型；有多个候选方法时选择参数类型最具体的方法，
+     * 参数类型相同时子类的方法优先。解析结果按照实际参数的类型缓存。
+     *
+     * @param name 方法名称
+     * @param args 实际参数
+     * @return 方法对象，不存在时返回{@code null}
+     * @author :loulan
+     */
+    Method resolveMethod(String name, Object[] args) {
+        int paramCount = args == null ? 0 : args.length;
+        Method[] candidates = getMethods(name, paramCount);
+        if (candidates.length == 0) {
+            return null;
+        }
+        Class<?>[] argTypes = new Class<?>[paramCount];
+        for (int i = 0; i < paramCount; i++) {
+            argTypes[i] = args[i] == null ? null : args[i].getClass();
+        }
+        if (candidates.length == 1) {
+            return isApplicable(candidates[0].getParameterTypes(), argTypes, true) ? candidates[0] : null;
+        }
+        Object resolved = resolvedMethods.computeIfAbsent(new MethodKey(name, argTypes), key -> {
+            Method method = mostSpecific(candidates, key.argTypes, false);
+            if (method == null) {
+                method = mostSpecific(candidates, key.argTypes, true);
+            }
+            return method == null ? NOT_FOUND : method;
+        });
+        return resolved == NOT_FOUND ? null : (Method) resolved;
+    }
+
+    /**
+     * 根据名称和参数类型获取方法，子类的方法优先；同一个类中有多个参数相同的方法时（桥接方法）取返回值类型最具体的方法，
+     * 和{@link Class#getDeclaredMethod(String, Class[])}的规则一致。
+     *
+     * @param name       方法名称
+     * @param paramTypes 参数类型
+     * @return 方法对象，不存在时返回{@code null}
+     * @author :loulan
+     */
+    Method getMethod(String name, Class<?>[] paramTypes) {
+        Method[] sameNameMethods = methodMap.get(name);
+        if (sameNameMethods == null) {
+            return null;
+        }
+        Class<?>[][] params = methodParamMap.get(name);
+        Method result = null;
+        for (int i = 0; i < sameNameMethods.length; i++) {
+            Method method = sameNameMethods[i];
+            if (result != null && result.getDeclaringClass() != method.getDeclaringClass()) {
+                break;
+            }
+            if (paramsEquals(params[i], paramTypes)
+                    && (result == null || result.getReturnType().isAssignableFrom(method.getReturnType()))) {
+                result = method;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 根据参数类型获取类自身声明的构造方法
+     *
+     * @param paramTypes 参数类型
+     * @return 构造方法，不存在时返回{@code null}
+     * @author :loulan
+     */
+    Constructor<?> getConstructor(Class<?>[] paramTypes) {
+        for (int i = 0; i < constructors.length; i++) {
+            if (paramsEquals(constructorParams[i], paramTypes)) {
+                return constructors[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 将同名方法按照参数个数分组（不包括桥接方法）
+     *
+     * @param sameNameMethods 同名方法
+     * @return 下标为参数个数的方法数组
+     * @author :loulan
+     */
+    private static Method[][] groupByArity(List<Method> sameNameMethods) {
+        int maxCount = 0;
+        for (Method method : sameNameMethods) {
+            maxCount = Math.max(maxCount, method.getParameterCount());
+        }
+        List<List<Method>> groups = new ArrayList<>();
+        for (int i = 0; i <= maxCount; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (Method method : sameNameMethods) {
+            if (!method.isBridge()) {
+                groups.get(method.getParameterCount()).add(method);
+            }
+        }
+        Method[][] arities = new Method[maxCount + 1][];
+        for (int i = 0; i <= maxCount; i++) {
+            arities[i] = groups.get(i).toArray(EMPTY_METHODS);
+        }
+        return arities;
+    }
+
+    /**
+     * 从候选方法中选择可以接收实际参数并且参数类型最具体的方法
+     *
+     * @param candidates 候选方法（参数个数相同）
+     * @param argTypes   实际参数的类型（{@code null}参数的类型为{@code null}）
+     * @param unboxing   是否允许包装类型的实际参数匹配基本类型的参数
+     * @return 方法对象，没有可以接收实际参数的方法时返回{@code null}
+     * @author :loulan
+     */
+    private static Method mostSpecific(Method[] candidates, Class<?>[] argTypes, boolean unboxing) {
+        Method best = null;
+        Class<?>[] bestParams = null;
+        for (Method candidate : candidates) {
+            Class<?>[] params = candidate.getParameterTypes();
+            if (!isApplicable(params, argTypes, unboxing)) {
+                continue;
+            }
+            if (best == null || (isConvertible(params, bestParams) && !isConvertible(bestParams, params))) {
+                best = candidate;
+                bestParams = params;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 判断方法参数是否可以接收实际参数
+     *
+     * @param params   方法的参数类型
+     * @param argTypes 实际参数的类型（{@code null}参数的类型为{@code null}）
+     * @param unboxing 是否允许包装类型的实际参数匹配基本类型的参数
+     * @return 是否可以接收
+     * @author :loulan
+     */
+    private static boolean isApplicable(Class<?>[] params, Class<?>[] argTypes, boolean unboxing) {
+        for (int i = 0; i < params.length; i++) {
+            Class<?> param = params[i];
+            Class<?> argType = argTypes[i];
+            if (argType == null) {
+                if (param.isPrimitive()) {
+                    return false;
+                }
+            } else if (unboxing ? !isConvertible(argType, param) : param.isPrimitive() || !param.isAssignableFrom(argType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断一组参数类型是否都可以转换为另一组参数类型（用于比较两个方法哪个更具体）
+     *
+     * @param from 参数类型
+     * @param to   目标参数类型
+     * @return 是否都可以转换
+     * @author :loulan
+     */
+    private static boolean isConvertible(Class<?>[] from, Class<?>[] to) {
+        for (int i = 0; i < from.length; i++) {
+            if (!isConvertible(from[i], to[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断类型是否可以赋值给目标类型（支持装箱、拆箱和基本类型的拓宽转换）
+     *
+     * @param from 类型
+     * @param to   目标类型
+     * @return 是否可以赋值
+     * @author :loulan
+     */
+    static boolean isConvertible(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return true;
+        }
+        if (!to.isPrimitive()) {
+            return to.isAssignableFrom(from.isPrimitive() ? wrap(from) : from);
+        }
+        Class<?> primitive = from.isPrimitive() ? from : unwrap(from);
+        if (primitive == null) {
+            return false;
+        }
+        if (primitive == to) {
+            return true;
+        }
+        int fromIndex = PRIMITIVE_ORDER.indexOf(primitive);
+        int toIndex = PRIMITIVE_ORDER.indexOf(to);
+        // char不能拓宽为short，byte和short不能拓宽为char
+        return fromIndex >= 0 && toIndex > fromIndex && to != char.class && !(primitive == char.class && to == short.class);
+    }
+
+    /**
+     * 获取基本类型对应的包装类型
+     *
+     * @param type 基本类型
+     * @return 包装类型
+     * @author :loulan
+     */
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * 获取包装类型对应的基本类型
+     *
+     * @param type 类型
+     * @return 基本类型，不是包装类型时返回{@code null}
+     * @author :loulan
+     */
+    private static Class<?> unwrap(Class<?> type) {
+        Class<?> primitive = MethodType.methodType(type).unwrap().returnType();
+        return primitive.isPrimitive() ? primitive : null;
+    }
+
+    /**
+     * 判断参数类型是否完全相同（{@code null}等同于没有参数）
+     *
+     * @param params     方法的参数类型
+     * @param paramTypes 要查找的参数类型
+     * @return 是否相同
+     * @author :loulan
+     */
+    private static boolean paramsEquals(Class<?>[] params, Class<?>[] paramTypes) {
+        if (paramTypes == null) {
+            return params.length == 0;
+        }
+        return Arrays.equals(params, paramTypes);
+    }
+
+    /**
+     * 获取字段设置了可访问的副本，不改变传入的字段对象的访问权限
+     *
+     * @param field 字段对象
+     * @return 可访问的字段对象
+     * @author :loulan
+     */
+    static Field accessible(Field field) {
+        return (Field) of(field.getDeclaringClass()).accessibleCopies.computeIfAbsent(field, key -> {
+            for (Field copy : field.getDeclaringClass().getDeclaredFields()) {
+                if (copy.equals(field)) {
+                    copy.setAccessible(true);
+                    return copy;
+                }
+            }
+            field.setAccessible(true);
+            return field;
+        });
+    }
+
+    /**
+     * 获取方法设置了可访问的副本，不改变传入的方法对象的访问权限
+     *
+     * @param method 方法对象
+     * @return 可访问的方法对象
+     * @author :loulan
+     */
+    static Method accessible(Method method) {
+        return (Method) of(method.getDeclaringClass()).accessibleCopies.computeIfAbsent(method, key -> {
+            for (Method copy : method.getDeclaringClass().getDeclaredMethods()) {
+                if (copy.equals(method)) {
+                    copy.setAccessible(true);
+                    return copy;
+                }
+            }
+            method.setAccessible(true);
+            return method;
+        });
+    }
+
+    /**
+     * 获取构造方法设置了可访问的副本，不改变传入的构造方法对象的访问权限
+     *
+     * @param <T>         泛型
+     * @param constructor 构造方法对象
+     * @return 可访问的构造方法对象
+     * @author :loulan
+     */
+    static <T> Constructor<T> accessible(Constructor<T> constructor) {
+        @SuppressWarnings("unchecked")
+        Constructor<T> copy = (Constructor<T>) of(constructor.getDeclaringClass()).accessibleCopies.computeIfAbsent(constructor, key -> {
+            for (Constructor<?> declared : constructor.getDeclaringClass().getDeclaredConstructors()) {
+                if (declared.equals(constructor)) {
+                    declared.setAccessible(true);
+                    return declared;
+                }
+            }
+            constructor.setAccessible(true);
+            return constructor;
+        });
+        return copy;
+    }
+
+    /**
+     * 获取字段的访问器（每个字段只生成一次）
+     *
+     * @param field 字段对象
+     * @return 字段访问器
+     * @author :loulan
+     */
+    static FieldAccessor accessor(Field field) {
+        return of(field.getDeclaringClass()).fieldAccessors.computeIfAbsent(field, FieldAccessor::new);
+    }
+
+    /**
+     * 获取方法的调用器（每个方法只生成一次）
+     *
+     * @param method 方法对象
+     * @return 方法调用器
+     * @author :loulan
+     */
+    static MethodInvoker invoker(Method method) {
+        return of(method.getDeclaringClass()).methodInvokers.computeIfAbsent(method, MethodInvoker::new);
+    }
+
+    /**
+     * 按参数解析方法的缓存键（方法名称和实际参数的类型）
+     *
+     * @author loulan
+     * @since 8
+     */
+    private static final class MethodKey {
+
+        private final String name;
+
+        private final Class<?>[] argTypes;
+
+        private final int hash;
+
+        MethodKey(String name, Class<?>[] argTypes) {
+            this.name = name;
+            this.argTypes = argTypes;
+            this.hash = 31 * name.hashCode() + Arrays.hashCode(argTypes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey other = (MethodKey) obj;
+            return name.equals(other.name) && Arrays.equals(argTypes, other.argTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
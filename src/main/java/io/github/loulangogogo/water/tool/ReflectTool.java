@@ -2,16 +2,39 @@ package io.github.loulangogogo.water.tool;
 
 import io.github.loulangogogo.water.collection.ArrayTool;
 import io.github.loulangogogo.water.exception.ReflectException;
+import io.github.loulangogogo.water.thread.ThreadTool;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
 
 /*********************************************************
  ** 反射工具类
+ ** <p>
+ ** 字段、方法和构造方法的查找结果按类缓存（见{@link ReflectMetadata}），重复查找不再遍历继承链；
+ ** 返回的字段、方法和构造方法对象在多次调用之间是同一个对象。
  **
  ** @author loulan
  ** @since 8
@@ -52,7 +75,7 @@ public class ReflectTool {
     public static Object getFieldValue(Object obj, String fieldName) {
         Field field = getField(obj.getClass(), fieldName);
         try {
-            Object value = setAccessible(field).get(obj);
+            Object value = ReflectMetadata.accessible(field).get(obj);
             return value;
         } catch (IllegalAccessException e) {
             throw new ReflectException("throw IllegalAccessException.", e);
@@ -97,9 +120,8 @@ public class ReflectTool {
             // 判断值value的类型和要设置的字段的类型是否匹配，如果不匹配则尝试转换（转换失败抛出异常）
             Class<?> fieldType = field.getType();
 
-            // 开放访问权限
-            setAccessible(field);
-            field.set(obj, value);
+            // 使用开放了访问权限的字段副本进行设置
+            ReflectMetadata.accessible(field).set(obj, value);
         } catch (Exception e) {
             throw new ReflectException(e);
         }
@@ -119,13 +141,13 @@ public class ReflectTool {
             return null;
         }
 
-        try {
-            Constructor<T> declaredConstructor = clzz.getDeclaredConstructor(parameterTypes);
-            setAccessible(declaredConstructor);
-            return declaredConstructor;
-        } catch (NoSuchMethodException e) {
-            throw new ReflectException(e);
+        @SuppressWarnings("unchecked")
+        Constructor<T> declaredConstructor = (Constructor<T>) ReflectMetadata.of(clzz).getConstructor(parameterTypes);
+        if (ObjectTool.isNull(declaredConstructor)) {
+            throw new ReflectException("cannot find constructor: " + clzz.getName() + ".<init>" + Arrays.toString(parameterTypes));
         }
+        // 返回开放了访问权限的副本，不改变缓存的构造方法对象的访问权限
+        return ReflectMetadata.accessible(declaredConstructor);
     }
 
     /**
@@ -140,7 +162,7 @@ public class ReflectTool {
             return null;
         }
 
-        return clzz.getDeclaredConstructors();
+        return ReflectMetadata.of(clzz).constructors.clone();
     }
 
     /**
@@ -178,13 +200,46 @@ public class ReflectTool {
     public static Method[] getMethods(Class<?> clzz, String methodName) {
         AssertTool.notNull(clzz, "Class cannot be null!");
 
-        Method[] methods = getMethods(clzz);
-        if (ArrayTool.isNotEmpty(methods)) {
-            return StrTool.isEmpty(methodName) ? methods : Arrays.stream(methods).filter(method -> StrTool.equals(methodName, method.getName())).toArray(value -> new Method[value]);
+        ReflectMetadata metadata = ReflectMetadata.of(clzz);
+        if (ArrayTool.isNotEmpty(metadata.methods)) {
+            return StrTool.isEmpty(methodName) ? metadata.methods.clone() : metadata.getMethods(methodName).clone();
         }
         return null;
     }
 
+    /**
+     * 获取指定类的指定名称和参数个数的所有方法对象（不包括桥接方法）
+     *
+     * @param clzz       指定的类
+     * @param methodName 方法名称
+     * @param paramCount 参数个数
+     * @return 方法对象数组，找不到时返回空数组
+     * @author :loulan
+     */
+    public static Method[] getMethods(Class<?> clzz, String methodName, int paramCount) {
+        AssertTool.notNull(clzz, "Class cannot be null!");
+        AssertTool.notEmpty(methodName, "methodName cannot be empty!");
+        return ReflectMetadata.of(clzz).getMethods(methodName, paramCount).clone();
+    }
+
+    /**
+     * 根据实际参数获取指定类的指定名称的方法对象，有多个重载方法时选择可以接收实际参数并且参数类型最具体的方法
+     * （{@code null}参数可以匹配任意引用类型，包装类型可以匹配对应的基本类型以及可以拓宽转换的基本类型，不支持可变参数的展开），
+     * 解析结果按照实际参数的类型缓存。如果找不到对应的方法则返回{@code null}
+     *
+     * @param clzz       指定的类
+     * @param methodName 方法名称
+     * @param args       实际参数
+     * @return 指定方法的对象
+     * @author :loulan
+     */
+    public static Method getMethodByArgs(Class<?> clzz, String methodName, Object... args) {
+        if (ObjectTool.isNull(clzz) || StrTool.isEmpty(methodName)) {
+            return null;
+        }
+        return ReflectMetadata.of(clzz).resolveMethod(methodName, args);
+    }
+
     /**
      * 获取指定类的指定方法名称的方法对象，只获取一个（如果有多个则随机获取一个），如果找不到对应的方法则返回{@code null}
      *
@@ -194,14 +249,11 @@ public class ReflectTool {
      * @author :loulan
      */
     public static Method getMethodOne(Class<?> clzz, String methodName) {
-        Method[] methods = getMethods(clzz);
-        if (ArrayTool.isNotEmpty(methods)) {
-            Optional<Method> firstMethodOpt = Arrays.stream(methods).filter(method -> StrTool.equals(methodName, method.getName())).findFirst();
-            if (firstMethodOpt.isPresent()) {
-                return firstMethodOpt.get();
-            }
+        if (ObjectTool.isNull(clzz) || StrTool.isEmpty(methodName)) {
+            return null;
         }
-        return null;
+        Method[] methods = ReflectMetadata.of(clzz).getMethods(methodName);
+        return methods.length > 0 ? methods[0] : null;
     }
 
     /**
@@ -216,8 +268,7 @@ public class ReflectTool {
      */
     public static <T> T invoke(Object obj, Method method, Object... args) {
         try {
-            setAccessible(method);
-            return (T) method.invoke(obj, args);
+            return (T) ReflectMetadata.accessible(method).invoke(obj, args);
         } catch (Exception e) {
             throw new ReflectException(e);
         }
@@ -230,17 +281,288 @@ public class ReflectTool {
      * @param obj        要被执行方法的对象
      * @param methodName 方法对象的名称
      * @param args       方法对应的参数
-     * @param paramTypes 参数类型
+     * @param paramTypes 参数类型，为{@code null}时根据实际参数的类型选择重载的方法（见{@link #getMethodByArgs(Class, String, Object...)}）
      * @return 方法返回值
      * @author :loulan
      */
     public static <T> T invoke(Object obj, String methodName, Object[] args, Class<?>[] paramTypes) {
         AssertTool.notNull(obj, "Object cannot be null!");
         AssertTool.notEmpty(methodName, "methodName cannot be empty!");
-        Method method = getMethod(obj.getClass(), methodName, paramTypes);
+        Method method = ObjectTool.isNull(paramTypes) ? getMethodByArgs(obj.getClass(), methodName, args) : getMethod(obj.getClass(), methodName, paramTypes);
+        if (ObjectTool.isNull(method)) {
+            throw new ReflectException("cannot find method: " + obj.getClass().getName() + "." + methodName);
+        }
         return invoke(obj, method, args);
     }
 
+    /**
+     * 获取字段的访问器，访问器通过{@link java.lang.invoke.MethodHandle}读写字段，每个字段只生成一次，
+     * 适合在循环中反复读写同一个字段
+     *
+     * @param field 字段对象
+     * @return 字段访问器
+     * @author :loulan
+     */
+    public static FieldAccessor getFieldAccessor(Field field) {
+        AssertTool.notNull(field, "The field cannot be null!");
+        return ReflectMetadata.accessor(field);
+    }
+
+    /**
+     * 根据字段名获取字段的访问器（包括父类的字段），如果找不到对应的字段则返回{@code null}
+     *
+     * @param clzz      类对象
+     * @param fieldName 字段名称
+     * @return 字段访问器
+     * @author :loulan
+     */
+    public static FieldAccessor getFieldAccessor(Class<?> clzz, String fieldName) {
+        Field field = getField(clzz, fieldName);
+        return ObjectTool.isNull(field) ? null : ReflectMetadata.accessor(field);
+    }
+
+    /**
+     * 读取对象int类型字段的值（通过缓存的字段访问器读取，不会产生装箱对象），见{@link FieldAccessor#getInt(Object)}
+     *
+     * @param obj       属性对象
+     * @param fieldName 要获取值的字段名称
+     * @return 字段的值
+     * @author :loulan
+     */
+    public static int getInt(Object obj, String fieldName) {
+        return requireFieldAccessor(obj, fieldName).getInt(obj);
+    }
+
+    /**
+     * 读取对象long类型字段的值（通过缓存的字段访问器读取，不会产生装箱对象），见{@link FieldAccessor#getLong(Object)}
+     *
+     * @param obj       属性对象
+     * @param fieldName 要获取值的字段名称
+     * @return 字段的值
+     * @author :loulan
+     */
+    public static long getLong(Object obj, String fieldName) {
+        return requireFieldAccessor(obj, fieldName).getLong(obj);
+    }
+
+    /**
+     * 读取对象double类型字段的值（通过缓存的字段访问器读取，不会产生装箱对象），见{@link FieldAccessor#getDouble(Object)}
+     *
+     * @param obj       属性对象
+     * @param fieldName 要获取值的字段名称
+     * @return 字段的值
+     * @author :loulan
+     */
+    public static double getDouble(Object obj, String fieldName) {
+        return requireFieldAccessor(obj, fieldName).getDouble(obj);
+    }
+
+    /**
+     * 读取对象boolean类型字段的值（通过缓存的字段访问器读取，不会产生装箱对象），见{@link FieldAccessor#getBoolean(Object)}
+     *
+     * @param obj       属性对象
+     * @param fieldName 要获取值的字段名称
+     * @return 字段的值
+     * @author :loulan
+     */
+    public static boolean getBoolean(Object obj, String fieldName) {
+        return requireFieldAccessor(obj, fieldName).getBoolean(obj);
+    }
+
+    /**
+     * 设置对象int类型字段的值（通过缓存的字段访问器写入，不会产生装箱对象），见{@link FieldAccessor#setInt(Object, int)}
+     *
+     * @param obj       要被进行设置的对象
+     * @param fieldName 指定的字段的名称
+     * @param value     值
+     * @author :loulan
+     */
+    public static void setInt(Object obj, String fieldName, int value) {
+        requireFieldAccessor(obj, fieldName).setInt(obj, value);
+    }
+
+    /**
+     * 设置对象long类型字段的值（通过缓存的字段访问器写入，不会产生装箱对象），见{@link FieldAccessor#setLong(Object, long)}
+     *
+     * @param obj       要被进行设置的对象
+     * @param fieldName 指定的字段的名称
+     * @param value     值
+     * @author :loulan
+     */
+    public static void setLong(Object obj, String fieldName, long value) {
+        requireFieldAccessor(obj, fieldName).setLong(obj, value);
+    }
+
+    /**
+     * 设置对象double类型字段的值（通过缓存的字段访问器写入，不会产生装箱对象），见{@link FieldAccessor#setDouble(Object, double)}
+     *
+     * @param obj       要被进行设置的对象
+     * @param fieldName 指定的字段的名称
+     * @param value     值
+     * @author :loulan
+     */
+    public static void setDouble(Object obj, String fieldName, double value) {
+        requireFieldAccessor(obj, fieldName).setDouble(obj, value);
+    }
+
+    /**
+     * 设置对象boolean类型字段的值（通过缓存的字段访问器写入，不会产生装箱对象），见{@link FieldAccessor#setBoolean(Object, boolean)}
+     *
+     * @param obj       要被进行设置的对象
+     * @param fieldName 指定的字段的名称
+     * @param value     值
+     * @author :loulan
+     */
+    public static void setBoolean(Object obj, String fieldName, boolean value) {
+        requireFieldAccessor(obj, fieldName).setBoolean(obj, value);
+    }
+
+    /**
+     * 获取方法的调用器，调用器通过{@link java.lang.invoke.MethodHandle}或者{@link java.lang.invoke.LambdaMetafactory}
+     * 生成的函数对象调用方法，每个方法只生成一次，适合在循环中反复调用同一个方法
+     *
+     * @param method 方法对象
+     * @return 方法调用器
+     * @author :loulan
+     */
+    public static MethodInvoker getMethodInvoker(Method method) {
+        AssertTool.notNull(method, "The method cannot be null!");
+        return ReflectMetadata.invoker(method);
+    }
+
+    /**
+     * 获取指定类的指定方法的调用器（包括父类的方法），如果找不到对应的方法则返回{@code null}
+     *
+     * @param clzz       指定的类
+     * @param methodName 方法名称
+     * @param paramTypes 参数类型
+     * @return 方法调用器
+     * @author :loulan
+     */
+    public static MethodInvoker getMethodInvoker(Class<?> clzz, String methodName, Class<?>... paramTypes) {
+        Method method = getMethod(clzz, methodName, paramTypes);
+        return ObjectTool.isNull(method) ? null : ReflectMetadata.invoker(method);
+    }
+
+    /**
+     * 对集合中的每个对象执行同一个方法，方法调用器只生成一次（见{@link #getMethodInvoker(Method)}），
+     * 返回值的顺序和集合的迭代顺序一致；实例方法遇到{@code null}元素时对应的返回值为{@code null}
+     *
+     * @param <R>     返回值泛型
+     * @param targets 要被执行方法的对象集合
+     * @param method  要被执行的方法对象
+     * @param args    方法对应的参数（每个对象使用相同的参数）
+     * @return 方法返回值的集合（{@link java.util.ArrayList}）
+     * @author :loulan
+     */
+    public static <R> List<R> invokeAll(Collection<?> targets, Method method, Object... args) {
+        return invokeAll(targets, method, args, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * 对集合中的每个对象执行同一个方法，元素个数达到{@code parallelThreshold}时使用{@code executor}分块并行执行
+     * （见{@link ThreadTool#parallelMap(Collection, Function, int, Executor)}），返回值的顺序和集合的迭代顺序一致；
+     * 实例方法遇到{@code null}元素时对应的返回值为{@code null}
+     *
+     * @param <R>               返回值泛型
+     * @param targets           要被执行方法的对象集合
+     * @param method            要被执行的方法对象
+     * @param args              方法对应的参数（每个对象使用相同的参数）
+     * @param parallelThreshold 并行执行的元素个数阈值
+     * @param executor          并行执行使用的执行器（为{@code null}时顺序执行）
+     * @return 方法返回值的集合（{@link java.util.ArrayList}）
+     * @author :loulan
+     */
+    public static <R> List<R> invokeAll(Collection<?> targets, Method method, Object[] args, int parallelThreshold, Executor executor) {
+        MethodInvoker invoker = getMethodInvoker(method);
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        return ThreadTool.parallelMap(targets, target -> isStatic || ObjectTool.isNotNull(target) ? invoker.<R>invoke(target, args) : null, parallelThreshold, executor);
+    }
+
+    /**
+     * 读取集合中每个对象的同一个字段的值，字段访问器只生成一次（见{@link #getFieldAccessor(Field)}），
+     * 结果的顺序和集合的迭代顺序一致；{@code null}元素对应的结果为{@code null}
+     *
+     * @param <V>     字段值泛型
+     * @param targets 对象集合
+     * @param field   字段对象
+     * @return 字段值的集合（{@link java.util.ArrayList}）
+     * @author :loulan
+     */
+    public static <V> List<V> getFieldValues(Collection<?> targets, Field field) {
+        return getFieldValues(targets, field, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * 读取集合中每个对象的同一个字段的值，元素个数达到{@code parallelThreshold}时使用{@code executor}分块并行读取，
+     * 结果的顺序和集合的迭代顺序一致；{@code null}元素对应的结果为{@code null}
+     *
+     * @param <V>               字段值泛型
+     * @param targets           对象集合
+     * @param field             字段对象
+     * @param parallelThreshold 并行执行的元素个数阈值
+     * @param executor          并行执行使用的执行器（为{@code null}时顺序执行）
+     * @return 字段值的集合（{@link java.util.ArrayList}）
+     * @author :loulan
+     */
+    public static <V> List<V> getFieldValues(Collection<?> targets, Field field, int parallelThreshold, Executor executor) {
+        FieldAccessor accessor = getFieldAccessor(field);
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        return ThreadTool.parallelMap(targets, target -> isStatic || ObjectTool.isNotNull(target) ? accessor.<V>get(target) : null, parallelThreshold, executor);
+    }
+
+    /**
+     * 预先生成类的反射元数据（字段、方法和构造方法的缓存），避免第一次反射调用时在业务线程上进行收集
+     *
+     * @param clzz 指定的类
+     * @author :loulan
+     */
+    public static void warmUp(Class<?> clzz) {
+        AssertTool.notNull(clzz, "Class cannot be null!");
+        ReflectMetadata.of(clzz);
+    }
+
+    /**
+     * 扫描指定包（包括子包）下的所有类，支持目录和jar包中的类，使用当前线程的类加载器加载（不会初始化类），
+     * 无法加载的类会被忽略
+     *
+     * @param packageName 包名
+     * @return 类对象集合（按类名排序）
+     * @author :loulan
+     */
+    public static List<Class<?>> scanClasses(String packageName) {
+        AssertTool.notEmpty(packageName, "packageName cannot be empty!");
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (ObjectTool.isNull(classLoader)) {
+            classLoader = ReflectTool.class.getClassLoader();
+        }
+        String path = packageName.replace('.', '/');
+        Set<String> classNames = new TreeSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if ("file".equals(resource.getProtocol())) {
+                    scanDirectory(Paths.get(resource.toURI()), packageName, classNames);
+                } else if ("jar".equals(resource.getProtocol())) {
+                    scanJar((JarURLConnection) resource.openConnection(), path, classNames);
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new ReflectException("scan package failed: " + packageName, e);
+        }
+
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                // 依赖缺失等原因无法加载的类直接忽略
+            }
+        }
+        return classes;
+    }
+
     /**
      * 设置方法为可访问（私有方法可以被外部调用）
      *
@@ -264,14 +586,7 @@ public class ReflectTool {
      */
     private static Field[] getDeclaredFields(Class<?> clzz) {
         if (ObjectTool.isNull(clzz)) return null;
-        Class<?> searchType = clzz;
-        Field[] fields = ArrayTool.of();
-        do {
-            Field[] declaredFields = searchType.getDeclaredFields();
-            fields = ArrayTool.addAll(fields, declaredFields);
-            searchType = searchType.getSuperclass();
-        } while (ObjectTool.isNotNull(searchType));
-        return fields;
+        return ReflectMetadata.of(clzz).fields.clone();
     }
 
     /**
@@ -284,19 +599,7 @@ public class ReflectTool {
      */
     private static Field getDeclaredField(Class<?> clzz, String fieldName) {
         if (ObjectTool.isNull(clzz) || StrTool.isEmpty(fieldName)) return null;
-        Class<?> searchType = clzz;
-        do {
-            try {
-                Field declaredField = searchType.getDeclaredField(fieldName);
-                if (ObjectTool.isNotNull(declaredField)) {
-                    return declaredField;
-                }
-            } catch (NoSuchFieldException e) {
-                // 如果未找到指定字段发生异常，那么继续向父类查找，这里不进行抛出
-            }
-            searchType = searchType.getSuperclass();
-        } while (ObjectTool.isNotNull(searchType));
-        return null;
+        return ReflectMetadata.of(clzz).getField(fieldName);
     }
 
     /**
@@ -308,14 +611,7 @@ public class ReflectTool {
      */
     private static Method[] getDeclaredMethods(Class<?> clzz) {
         if (ObjectTool.isNull(clzz)) return null;
-        Class<?> searchType = clzz;
-        Method[] methods = ArrayTool.of();
-        do {
-            Method[] declaredMethods = searchType.getDeclaredMethods();
-            methods = ArrayTool.addAll(methods, declaredMethods);
-            searchType = searchType.getSuperclass();
-        } while (ObjectTool.isNotNull(searchType));
-        return methods;
+        return ReflectMetadata.of(clzz).methods.clone();
     }
 
     /**
@@ -329,19 +625,77 @@ public class ReflectTool {
      */
     private static Method getDeclaredMethod(Class<?> clzz, String methodName, Class<?>... paramTypes) {
         if (ObjectTool.isNull(clzz) || StrTool.isEmpty(methodName)) return null;
-        Class<?> searchType = clzz;
-        do {
-            try {
-                Method declaredMethod = searchType.getDeclaredMethod(methodName, paramTypes);
-                if (ObjectTool.isNotNull(declaredMethod)) {
-                    return declaredMethod;
+        return ReflectMetadata.of(clzz).getMethod(methodName, paramTypes);
+    }
+
+    /**
+     * 获取对象指定字段的访问器，找不到字段时抛出异常
+     *
+     * @param obj       对象
+     * @param fieldName 字段名称
+     * @return 字段访问器
+     * @author :loulan
+     */
+    private static FieldAccessor requireFieldAccessor(Object obj, String fieldName) {
+        AssertTool.notNull(obj, "The obj cannot be null!");
+        FieldAccessor accessor = getFieldAccessor(obj.getClass(), fieldName);
+        if (ObjectTool.isNull(accessor)) {
+            throw new ReflectException("cannot find field: " + obj.getClass().getName() + "." + fieldName);
+        }
+        return accessor;
+    }
+
+    /**
+     * 扫描目录中的类文件
+     *
+     * @param directory   包对应的目录
+     * @param packageName 包名
+     * @param classNames  扫描到的类名
+     * @throws IOException 读取目录异常
+     * @author :loulan
+     */
+    private static void scanDirectory(Path directory, String packageName, Set<String> classNames) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.filter(file -> file.toString().endsWith(".class")).forEach(file -> {
+                String relative = directory.relativize(file).toString().replace(File.separatorChar, '.');
+                addClassName(packageName + "." + relative, classNames);
+            });
+        }
+    }
+
+    /**
+     * 扫描jar包中的类文件
+     *
+     * @param connection jar包的连接
+     * @param path       包对应的路径
+     * @param classNames 扫描到的类名
+     * @throws IOException 读取jar包异常
+     * @author :loulan
+     */
+    private static void scanJar(JarURLConnection connection, String path, Set<String> classNames) throws IOException {
+        connection.setUseCaches(false);
+        try (JarFile jarFile = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(path + "/") && name.endsWith(".class")) {
+                    addClassName(name.replace('/', '.'), classNames);
                 }
-            } catch (NoSuchMethodException e) {
-                // 如果未找到指定字段发生异常，那么继续向父类查找，这里不进行抛出
             }
-            searchType = searchType.getSuperclass();
-        } while (ObjectTool.isNotNull(searchType));
-        // 如果没有找到就返回null
-        return null;
+        }
+    }
+
+    /**
+     * 将类文件名（以.class结尾）转换为类名，忽略package-info和module-info
+     *
+     * @param fileName   类文件名
+     * @param classNames 扫描到的类名
+     * @author :loulan
+     */
+    private static void addClassName(String fileName, Set<String> classNames) {
+        String className = fileName.substring(0, fileName.length() - ".class".length());
+        if (!className.endsWith("package-info") && !className.endsWith("module-info")) {
+            classNames.add(className);
+        }
     }
 }
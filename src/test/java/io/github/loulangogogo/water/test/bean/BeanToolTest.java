@@ -1,12 +1,25 @@
 package io.github.loulangogogo.water.test.bean;
 
+import io.github.loulangogogo.water.bean.BeanCopier;
 import io.github.loulangogogo.water.bean.BeanTool;
+import io.github.loulangogogo.water.bean.CompactSerializer;
+import io.github.loulangogogo.water.bean.ConverterRegistry;
+import io.github.loulangogogo.water.bean.CopyOptions;
+import io.github.loulangogogo.water.bean.CopyProperty;
+import io.github.loulangogogo.water.bean.NamingStyleEnum;
 import io.github.loulangogogo.water.bean.JsonBeanTool;
 import io.github.loulangogogo.water.bean.SerializeTool;
+import io.github.loulangogogo.water.bean.WarmUpReport;
+import io.github.loulangogogo.water.exception.CopyPropertieException;
+import io.github.loulangogogo.water.exception.SerializeException;
 import org.junit.Test;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -51,6 +64,279 @@ public class BeanToolTest {
         public void setStreet(String street) { this.street = street; }
     }
 
+    public static class HomeAddress extends Address {
+        private static final long serialVersionUID = 1L;
+        private String zip;
+
+        public String getZip() { return zip; }
+        public void setZip(String zip) { this.zip = zip; }
+    }
+
+    public static class Route {
+        private List<Address> stops;
+
+        public List<Address> getStops() { return stops; }
+        public void setStops(List<Address> stops) { this.stops = stops; }
+    }
+
+    public static class Place {
+        private java.util.Locale locale;
+        private java.net.URI uri;
+        private java.nio.file.Path path;
+        private java.util.regex.Pattern pattern;
+        private Optional<Address> address;
+        private List<java.util.Locale> locales;
+
+        public java.util.Locale getLocale() { return locale; }
+        public void setLocale(java.util.Locale locale) { this.locale = locale; }
+        public java.net.URI getUri() { return uri; }
+        public void setUri(java.net.URI uri) { this.uri = uri; }
+        public java.nio.file.Path getPath() { return path; }
+        public void setPath(java.nio.file.Path path) { this.path = path; }
+        public java.util.regex.Pattern getPattern() { return pattern; }
+        public void setPattern(java.util.regex.Pattern pattern) { this.pattern = pattern; }
+        public Optional<Address> getAddress() { return address; }
+        public void setAddress(Optional<Address> address) { this.address = address; }
+        public List<java.util.Locale> getLocales() { return locales; }
+        public void setLocales(List<java.util.Locale> locales) { this.locales = locales; }
+    }
+
+    public static class UserDto {
+        private String name;
+        private Integer age;
+        private String remark;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public Integer getAge() { return age; }
+        public void setAge(Integer age) { this.age = age; }
+        public String getRemark() { return remark; }
+        public void setRemark(String remark) { this.remark = remark; }
+    }
+
+    static class HiddenUser {
+        private String name;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+    }
+
+    public static class CountingBean {
+        private int count;
+
+        public String getValue() {
+            count++;
+            return "value";
+        }
+    }
+
+    public static class Order {
+        private Integer id;
+        private Date createTime;
+        private String amount;
+        private int count;
+
+        public Integer getId() { return id; }
+        public void setId(Integer id) { this.id = id; }
+        public Date getCreateTime() { return createTime; }
+        public void setCreateTime(Date createTime) { this.createTime = createTime; }
+        public String getAmount() { return amount; }
+        public void setAmount(String amount) { this.amount = amount; }
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+    }
+
+    public static class OrderDto {
+        private Long id;
+        private LocalDateTime createTime;
+        private BigDecimal amount;
+        private String count;
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public LocalDateTime getCreateTime() { return createTime; }
+        public void setCreateTime(LocalDateTime createTime) { this.createTime = createTime; }
+        public BigDecimal getAmount() { return amount; }
+        public void setAmount(BigDecimal amount) { this.amount = amount; }
+        public String getCount() { return count; }
+        public void setCount(String count) { this.count = count; }
+    }
+
+    public static class Shop {
+        private String name;
+        private Address address;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public Address getAddress() { return address; }
+        public void setAddress(Address address) { this.address = address; }
+    }
+
+    public static class ShopDto {
+        private String name;
+        private String address;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getAddress() { return address; }
+        public void setAddress(String address) { this.address = address; }
+    }
+
+    public static class Note {
+        private String title;
+        private StringBuilder content;
+        private java.util.concurrent.atomic.AtomicInteger views;
+
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        public StringBuilder getContent() { return content; }
+        public void setContent(StringBuilder content) { this.content = content; }
+        public java.util.concurrent.atomic.AtomicInteger getViews() { return views; }
+        public void setViews(java.util.concurrent.atomic.AtomicInteger views) { this.views = views; }
+    }
+
+    public static class Dept {
+        private String name;
+        private Dept parent;
+        private List<User> users;
+        private Map<String, Address> addresses;
+        private int[] scores;
+        private Date createTime;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public Dept getParent() { return parent; }
+        public void setParent(Dept parent) { this.parent = parent; }
+        public List<User> getUsers() { return users; }
+        public void setUsers(List<User> users) { this.users = users; }
+        public Map<String, Address> getAddresses() { return addresses; }
+        public void setAddresses(Map<String, Address> addresses) { this.addresses = addresses; }
+        public int[] getScores() { return scores; }
+        public void setScores(int[] scores) { this.scores = scores; }
+        public Date getCreateTime() { return createTime; }
+        public void setCreateTime(Date createTime) { this.createTime = createTime; }
+    }
+
+    public static class DeptDto {
+        private String name;
+        private List<UserDto> users;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public List<UserDto> getUsers() { return users; }
+        public void setUsers(List<UserDto> users) { this.users = users; }
+    }
+
+    public static class Account {
+        @CopyProperty("nickName")
+        private String name;
+        @CopyProperty(ignore = true)
+        private String password;
+        @CopyProperty(format = "yyyy/MM/dd")
+        private Date birthday;
+        private String userType;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+        public Date getBirthday() { return birthday; }
+        public void setBirthday(Date birthday) { this.birthday = birthday; }
+        public String getUserType() { return userType; }
+        public void setUserType(String userType) { this.userType = userType; }
+    }
+
+    public static class AccountDto {
+        private String nickName;
+        private String password;
+        private String birthday;
+        private String type;
+
+        public String getNickName() { return nickName; }
+        public void setNickName(String nickName) { this.nickName = nickName; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+        public String getBirthday() { return birthday; }
+        public void setBirthday(String birthday) { this.birthday = birthday; }
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+    }
+
+    public enum Level { LOW, HIGH }
+
+    public static class Profile implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private long id;
+        private double score;
+        private char grade;
+        private boolean active;
+        private String name;
+        private Level level;
+        private int[] numbers;
+        private List<Address> addresses;
+        private Map<String, Object> attributes;
+        private LocalDateTime updateTime;
+        private BigDecimal amount;
+        private UUID uuid;
+        private Profile self;
+        private transient String cache;
+
+        public long getId() { return id; }
+        public void setId(long id) { this.id = id; }
+        public double getScore() { return score; }
+        public void setScore(double score) { this.score = score; }
+        public char getGrade() { return grade; }
+        public void setGrade(char grade) { this.grade = grade; }
+        public boolean isActive() { return active; }
+        public void setActive(boolean active) { this.active = active; }
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public Level getLevel() { return level; }
+        public void setLevel(Level level) { this.level = level; }
+        public int[] getNumbers() { return numbers; }
+        public void setNumbers(int[] numbers) { this.numbers = numbers; }
+        public List<Address> getAddresses() { return addresses; }
+        public void setAddresses(List<Address> addresses) { this.addresses = addresses; }
+        public Map<String, Object> getAttributes() { return attributes; }
+        public void setAttributes(Map<String, Object> attributes) { this.attributes = attributes; }
+        public LocalDateTime getUpdateTime() { return updateTime; }
+        public void setUpdateTime(LocalDateTime updateTime) { this.updateTime = updateTime; }
+        public BigDecimal getAmount() { return amount; }
+        public void setAmount(BigDecimal amount) { this.amount = amount; }
+        public UUID getUuid() { return uuid; }
+        public void setUuid(UUID uuid) { this.uuid = uuid; }
+        public Profile getSelf() { return self; }
+        public void setSelf(Profile self) { this.self = self; }
+        public String getCache() { return cache; }
+        public void setCache(String cache) { this.cache = cache; }
+    }
+
+    /**
+     * 创建一个包含各种类型字段的测试对象
+     */
+    private static Profile newProfile() {
+        Profile profile = new Profile();
+        profile.setId(-123456789L);
+        profile.setScore(98.5);
+        profile.setGrade('优');
+        profile.setActive(true);
+        profile.setName("楼兰loulan");
+        profile.setLevel(Level.HIGH);
+        profile.setNumbers(new int[]{-1, 0, 300});
+        Address address = new Address("hz", "x");
+        profile.setAddresses(new ArrayList<>(Arrays.asList(address, address)));
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("count", 3);
+        attributes.put("tags", Collections.unmodifiableList(Arrays.asList("a", "b")));
+        profile.setAttributes(attributes);
+        profile.setUpdateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6));
+        profile.setAmount(new BigDecimal("-12.345"));
+        profile.setUuid(UUID.randomUUID());
+        profile.setSelf(profile);
+        profile.setCache("cache");
+        return profile;
+    }
+
     // BeanTool tests
     /**
      * 测试BeanTool.copy方法，验证Bean到Bean的属性拷贝场景。
@@ -202,6 +488,31 @@ public class BeanToolTest {
         assertEquals("a", result.get(0).get("name"));
     }
 
+    /**
+     * 测试BeanTool.fastCopy方法，验证超过并行阈值时使用指定执行器转换并且顺序不变的场景。
+     */
+    @Test
+    public void testFastCopy_parallelWithExecutor() {
+        List<User> source = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            source.add(new User("u" + i, i));
+        }
+        java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newFixedThreadPool(4);
+        try {
+            List<UserDto> result = BeanTool.fastCopy(source, UserDto.class, 100, executor);
+            assertEquals(5000, result.size());
+            for (int i = 0; i < result.size(); i++) {
+                assertEquals("u" + i, result.get(i).getName());
+            }
+
+            List<Map<String, Object>> maps = BeanTool.fastCopy(source, 100, executor);
+            assertEquals(5000, maps.size());
+            assertEquals("u4999", maps.get(4999).get("name"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * 测试BeanTool.beanToMap方法，验证Bean转为Map的场景。
      */
@@ -224,6 +535,34 @@ public class BeanToolTest {
         assertEquals("loulan", target.get("name"));
     }
 
+    /**
+     * 测试BeanTool.beanToMap方法，验证是否包含null值属性的场景。
+     */
+    @Test
+    public void testBeanToMap_ignoreNull() {
+        User user = new User(null, 18);
+        assertFalse(BeanTool.beanToMap(user).containsKey("name"));
+
+        Map<String, Object> map = BeanTool.beanToMap(user, false);
+        assertTrue(map.containsKey("name"));
+        assertNull(map.get("name"));
+        assertEquals(18, map.get("age"));
+
+        Map<String, Object> target = new LinkedHashMap<>();
+        BeanTool.beanToMap(user, target, false);
+        assertEquals(2, target.size());
+    }
+
+    /**
+     * 测试BeanTool.beanToMap方法，验证每个属性的读方法只会调用一次的场景。
+     */
+    @Test
+    public void testBeanToMap_readOnce() {
+        CountingBean bean = new CountingBean();
+        BeanTool.beanToMap(bean);
+        assertEquals(1, bean.count);
+    }
+
     /**
      * 测试BeanTool.copy方法，验证null源对象抛出异常的场景。
      */
@@ -240,6 +579,250 @@ public class BeanToolTest {
         BeanTool.copy(new User(), (Object) null);
     }
 
+    /**
+     * 测试BeanCopier.create方法，验证同一对类的复制器会被缓存复用。
+     */
+    @Test
+    public void testBeanCopier_cached() {
+        BeanCopier copier = BeanCopier.create(User.class, UserDto.class);
+        assertSame(copier, BeanCopier.create(User.class, UserDto.class));
+        assertSame(copier, BeanCopier.create(User.class, UserDto.class, ConverterRegistry.getDefault()));
+        assertSame(copier, BeanCopier.create(User.class, UserDto.class, CopyOptions.getDefault()));
+        assertEquals(User.class, copier.getSourceClass());
+        assertEquals(UserDto.class, copier.getTargetClass());
+    }
+
+    /**
+     * 测试BeanCopier.copy方法，验证不同类之间只复制同名同类型的属性。
+     */
+    @Test
+    public void testBeanCopier_copyDifferentClass() {
+        UserDto target = new UserDto();
+        target.setRemark("keep");
+        BeanCopier.create(User.class, UserDto.class).copy(new User("loulan", 18), target);
+        assertEquals("loulan", target.getName());
+        assertEquals("keep", target.getRemark());
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证非public类的属性也可以正常复制。
+     */
+    @Test
+    public void testCopy_nonPublicClass() {
+        HiddenUser source = new HiddenUser();
+        source.setName("loulan");
+        HiddenUser target = BeanTool.copy(source, HiddenUser.class);
+        assertEquals("loulan", target.getName());
+    }
+
+    /**
+     * 测试BeanCopier.copyList方法，验证批量复制结果顺序和源集合一致的场景。
+     */
+    @Test
+    public void testBeanCopier_copyList() {
+        List<User> source = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            source.add(new User("u" + i, i));
+        }
+        BeanCopier copier = BeanCopier.create(User.class, UserDto.class);
+
+        List<UserDto> sequential = copier.copyList(source);
+        assertEquals(3000, sequential.size());
+        assertEquals("u2999", sequential.get(2999).getName());
+        assertEquals(Integer.valueOf(2999), sequential.get(2999).getAge());
+
+        List<UserDto> parallel = copier.copyList(source, 100, java.util.concurrent.ForkJoinPool.commonPool());
+        for (int i = 0; i < parallel.size(); i++) {
+            assertEquals("u" + i, parallel.get(i).getName());
+        }
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证没有无参构造方法的类抛出异常的场景。
+     */
+    @Test
+    public void testCopy_noDefaultConstructor() {
+        try {
+            BeanTool.copy(new User("loulan", 18), Integer.class);
+            fail();
+        } catch (CopyPropertieException ex) {
+            assertTrue(ex.getMessage().contains(Integer.class.getName()));
+            // 实例化失败的异常包装在复制异常中
+            assertTrue(ex.getCause() instanceof CopyPropertieException);
+            assertTrue(ex.getCause().getCause() instanceof NoSuchMethodException);
+        }
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证类型不同的属性通过类型转换器进行复制的场景。
+     */
+    @Test
+    public void testCopy_typeConvert() {
+        Order order = new Order();
+        order.setId(1);
+        order.setCreateTime(new Date(0));
+        order.setAmount("12.50");
+        order.setCount(3);
+
+        OrderDto dto = BeanTool.copy(order, OrderDto.class);
+        assertEquals(Long.valueOf(1), dto.getId());
+        assertEquals(new Date(0).toInstant().atZone(java.time.ZoneId.of("Asia/Shanghai")).toLocalDateTime(), dto.getCreateTime());
+        assertEquals(new BigDecimal("12.50"), dto.getAmount());
+        assertEquals("3", dto.getCount());
+
+        Order back = BeanTool.copy(dto, Order.class);
+        assertEquals(Integer.valueOf(1), back.getId());
+        assertEquals(new Date(0), back.getCreateTime());
+        assertEquals("12.50", back.getAmount());
+        assertEquals(3, back.getCount());
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证内置转换失败（非数字字符串、数值溢出）时跳过属性的场景。
+     */
+    @Test
+    public void testCopy_typeConvert_failedSkipped() {
+        Order order = new Order();
+        order.setId(1);
+        order.setAmount("abc");
+        OrderDto dto = BeanTool.copy(order, OrderDto.class);
+        assertEquals(Long.valueOf(1), dto.getId());
+        assertNull(dto.getAmount());
+
+        OrderDto big = new OrderDto();
+        big.setId(5000000000L);
+        big.setCount("7");
+        Order back = BeanTool.copy(big, Order.class);
+        assertNull(back.getId());
+        assertEquals(7, back.getCount());
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证嵌套的bean属性不会转换为字符串的场景。
+     */
+    @Test
+    public void testCopy_beanToStringSkipped() {
+        Shop shop = new Shop();
+        shop.setName("shop");
+        shop.setAddress(new Address("hz", "xihu"));
+        ShopDto dto = BeanTool.copy(shop, ShopDto.class);
+        assertEquals("shop", dto.getName());
+        assertNull(dto.getAddress());
+        assertNull(ConverterRegistry.getDefault().getConverter(Address.class, String.class));
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证null值不会写入基本类型属性的场景。
+     */
+    @Test
+    public void testCopy_typeConvert_nullToPrimitive() {
+        OrderDto dto = new OrderDto();
+        Order target = new Order();
+        target.setCount(5);
+        BeanTool.copy(dto, target);
+        assertEquals(5, target.getCount());
+        assertNull(target.getId());
+    }
+
+    /**
+     * 测试BeanCopier.create方法，验证父子类加载器中的类之间复制并且缓存不会阻止子类加载器被回收的场景。
+     */
+    @Test
+    public void testBeanCopier_childClassLoader() throws Exception {
+        java.lang.ref.WeakReference<ClassLoader> loaderRef = copyWithChildLoader();
+        for (int i = 0; i < 50 && loaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(loaderRef.get());
+    }
+
+    private static java.lang.ref.WeakReference<ClassLoader> copyWithChildLoader() throws Exception {
+        String name = User.class.getName();
+        byte[] bytes;
+        try (java.io.InputStream in = BeanToolTest.class.getResourceAsStream("/" + name.replace('.', '/') + ".class")) {
+            java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int n; (n = in.read(buffer)) > 0; ) {
+                out.write(buffer, 0, n);
+            }
+            bytes = out.toByteArray();
+        }
+        ClassLoader loader = new ClassLoader(BeanToolTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException {
+                if (!name.equals(className)) {
+                    return super.loadClass(className, resolve);
+                }
+                synchronized (getClassLoadingLock(className)) {
+                    Class<?> loaded = findLoadedClass(className);
+                    return loaded != null ? loaded : defineClass(className, bytes, 0, bytes.length);
+                }
+            }
+        };
+        Class<?> childUser = loader.loadClass(name);
+        assertNotSame(User.class, childUser);
+
+        Object child = BeanCopier.create(User.class, childUser).copy(new User("a", 1));
+        assertSame(childUser, child.getClass());
+        assertSame(BeanCopier.create(User.class, childUser), BeanCopier.create(User.class, childUser));
+        User back = BeanCopier.create(childUser, User.class).copy(child);
+        assertEquals("a", back.getName());
+        assertEquals(1, back.getAge());
+        assertSame(BeanCopier.create(childUser, User.class), BeanCopier.create(childUser, User.class));
+        return new java.lang.ref.WeakReference<>(loader);
+    }
+
+    /**
+     * 测试BeanCopier.create方法，验证使用自定义类型转换器注册中心的场景。
+     */
+    @Test
+    public void testBeanCopier_customRegistry() {
+        ConverterRegistry registry = ConverterRegistry.create()
+                .register(String.class, BigDecimal.class, value -> new BigDecimal(value).setScale(0, java.math.RoundingMode.DOWN));
+        Order order = new Order();
+        order.setAmount("12.50");
+        OrderDto dto = new OrderDto();
+        BeanCopier.create(Order.class, OrderDto.class, registry).copy(order, dto);
+        assertEquals(new BigDecimal("12"), dto.getAmount());
+        assertNotSame(BeanCopier.create(Order.class, OrderDto.class), BeanCopier.create(Order.class, OrderDto.class, registry));
+        assertSame(BeanCopier.create(Order.class, OrderDto.class, registry), BeanCopier.create(Order.class, OrderDto.class, registry));
+    }
+
+    /**
+     * 测试ConverterRegistry.convert方法，验证常用类型之间的转换场景。
+     */
+    @Test
+    public void testConverterRegistry_convert() {
+        ConverterRegistry registry = ConverterRegistry.getDefault();
+        assertEquals(Integer.valueOf(12), registry.convert("12", Integer.class));
+        assertEquals(Long.valueOf(12), registry.convert(12, long.class));
+        assertEquals("2024-01-02 03:04:05", registry.convert(LocalDateTime.of(2024, 1, 2, 3, 4, 5), String.class));
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), registry.convert("2024-01-02 03:04:05", LocalDateTime.class));
+        assertEquals(Thread.State.NEW, registry.convert("NEW", Thread.State.class));
+        assertNull(registry.getConverter(User.class, Address.class));
+        assertEquals(Integer.valueOf(5), registry.convert(5L, Integer.class));
+        assertEquals(Integer.valueOf(2), registry.convert(new BigDecimal("2.0"), Integer.class));
+        try {
+            registry.convert(5000000000L, Integer.class);
+            fail();
+        } catch (ArithmeticException ex) {
+            assertNotNull(ex.getMessage());
+        }
+        try {
+            registry.convert(new BigDecimal("1.5"), Integer.class);
+            fail();
+        } catch (ArithmeticException ex) {
+            assertNotNull(ex.getMessage());
+        }
+        try {
+            registry.convert(300, Byte.class);
+            fail();
+        } catch (ArithmeticException ex) {
+            assertNotNull(ex.getMessage());
+        }
+    }
+
     // JsonBeanTool tests
     /**
      * 测试JsonBeanTool.copy方法，验证Map到Bean的JSON方式拷贝场景。
@@ -293,6 +876,297 @@ public class BeanToolTest {
         assertEquals("loulan", user.getName());
     }
 
+    /**
+     * 测试JsonBeanTool.mapToBean方法，验证日期字符串按照json配置的格式转换并且不存在的属性保持原值的场景。
+     */
+    @Test
+    public void testJsonBeanTool_mapToBean_dateAndKeep() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("createTime", "2024-01-02 03:04:05");
+        map.put("amount", "12.5");
+        OrderDto dto = JsonBeanTool.mapToBean(map, OrderDto.class);
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), dto.getCreateTime());
+        assertEquals(new BigDecimal("12.5"), dto.getAmount());
+
+        OrderDto target = new OrderDto();
+        target.setId(9L);
+        JsonBeanTool.mapToBean(map, target);
+        assertEquals(Long.valueOf(9), target.getId());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), target.getCreateTime());
+    }
+
+    /**
+     * 测试BeanTool.deepCopy方法，验证嵌套的bean、集合、Map、数组和日期都会生成新对象的场景。
+     */
+    @Test
+    public void testDeepCopy_nested() {
+        Dept dept = new Dept();
+        dept.setName("dev");
+        dept.setUsers(new ArrayList<>(Arrays.asList(new User("a", 1), new User("b", 2))));
+        Map<String, Address> addresses = new HashMap<>();
+        addresses.put("home", new Address("hz", "x"));
+        dept.setAddresses(addresses);
+        dept.setScores(new int[]{1, 2, 3});
+        dept.setCreateTime(new Date(1000L));
+
+        Dept copy = BeanTool.deepCopy(dept);
+        assertNotSame(dept, copy);
+        assertEquals("dev", copy.getName());
+        assertNotSame(dept.getUsers(), copy.getUsers());
+        assertNotSame(dept.getUsers().get(0), copy.getUsers().get(0));
+        assertEquals("b", copy.getUsers().get(1).getName());
+        assertNotSame(dept.getAddresses().get("home"), copy.getAddresses().get("home"));
+        assertEquals("hz", copy.getAddresses().get("home").getCity());
+        assertNotSame(dept.getScores(), copy.getScores());
+        assertArrayEquals(new int[]{1, 2, 3}, copy.getScores());
+        assertNotSame(dept.getCreateTime(), copy.getCreateTime());
+        assertEquals(dept.getCreateTime(), copy.getCreateTime());
+    }
+
+    /**
+     * 测试BeanTool.deepCopy方法，验证可变的java类型无法深度复制时抛出带有属性名的异常的场景。
+     */
+    @Test
+    public void testDeepCopy_mutableJdkTypes() {
+        Note note = new Note();
+        note.setTitle("t");
+        note.setContent(new StringBuilder("abc"));
+        try {
+            BeanTool.deepCopy(note);
+            fail();
+        } catch (CopyPropertieException ex) {
+            assertTrue(ex.getMessage().contains("content"));
+            assertTrue(ex.getMessage().contains(StringBuilder.class.getName()));
+        }
+
+        Note views = new Note();
+        views.setViews(new java.util.concurrent.atomic.AtomicInteger(3));
+        Map<String, Object> map = new HashMap<>();
+        try {
+            BeanTool.deepCopy(views, map);
+            fail();
+        } catch (CopyPropertieException ex) {
+            assertTrue(ex.getMessage().contains("views"));
+        }
+    }
+
+    /**
+     * 测试BeanTool.deepCopy方法，验证不可变的java类型共享引用、Optional深度复制其中的值的场景。
+     */
+    @Test
+    public void testDeepCopy_immutableJdkTypes() {
+        Place place = new Place();
+        place.setLocale(java.util.Locale.CHINA);
+        place.setUri(java.net.URI.create("http://localhost/a"));
+        place.setPath(java.nio.file.Paths.get("a", "b"));
+        place.setPattern(java.util.regex.Pattern.compile("a+"));
+        place.setAddress(Optional.of(new Address("hz", "x")));
+        place.setLocales(Arrays.asList(java.util.Locale.CHINA, java.util.Locale.US));
+
+        Place copy = BeanTool.deepCopy(place);
+        assertSame(place.getLocale(), copy.getLocale());
+        assertSame(place.getUri(), copy.getUri());
+        assertSame(place.getPath(), copy.getPath());
+        assertSame(place.getPattern(), copy.getPattern());
+        assertEquals("hz", copy.getAddress().get().getCity());
+        assertNotSame(place.getAddress().get(), copy.getAddress().get());
+        assertEquals(place.getLocales(), copy.getLocales());
+    }
+
+    /**
+     * 测试BeanTool.deepCopy方法，验证父类类型的属性和集合元素按照值的实际类型（子类）复制的场景。
+     */
+    @Test
+    public void testDeepCopy_subclassValue() {
+        HomeAddress home = new HomeAddress();
+        home.setCity("hz");
+        home.setZip("310000");
+        Shop shop = new Shop();
+        shop.setAddress(home);
+
+        Shop shopCopy = BeanTool.deepCopy(shop);
+        assertNotSame(home, shopCopy.getAddress());
+        assertTrue(shopCopy.getAddress() instanceof HomeAddress);
+        assertEquals("310000", ((HomeAddress) shopCopy.getAddress()).getZip());
+
+        Route route = new Route();
+        route.setStops(Arrays.asList(new Address("a", "x"), home));
+        Route routeCopy = BeanTool.deepCopy(route);
+        assertEquals(Address.class, routeCopy.getStops().get(0).getClass());
+        assertTrue(routeCopy.getStops().get(1) instanceof HomeAddress);
+        assertNotSame(home, routeCopy.getStops().get(1));
+        assertEquals("310000", ((HomeAddress) routeCopy.getStops().get(1)).getZip());
+    }
+
+    /**
+     * 测试BeanTool.deepCopy方法，验证顶层为不能实例化的java集合（Arrays.asList、Collections.unmodifiableXxx）的场景。
+     */
+    @Test
+    public void testDeepCopy_jdkCollections() {
+        List<Integer> asList = Arrays.asList(1, 2);
+        List<Integer> listCopy = BeanTool.deepCopy(asList);
+        assertNotSame(asList, listCopy);
+        assertEquals(asList, listCopy);
+
+        List<User> users = Collections.unmodifiableList(Arrays.asList(new User("a", 1), new User("b", 2)));
+        List<User> usersCopy = BeanTool.deepCopy(users);
+        assertEquals(2, usersCopy.size());
+        assertNotSame(users.get(0), usersCopy.get(0));
+        assertEquals("b", usersCopy.get(1).getName());
+
+        Set<String> set = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList("x", "y")));
+        assertEquals(set, BeanTool.deepCopy(set));
+
+        Map<String, Address> map = Collections.unmodifiableMap(Collections.singletonMap("home", new Address("hz", "x")));
+        Map<String, Address> mapCopy = BeanTool.deepCopy(map);
+        assertNotSame(map.get("home"), mapCopy.get("home"));
+        assertEquals("hz", mapCopy.get("home").getCity());
+
+        assertEquals(Collections.singletonList("s"), BeanTool.deepCopy(Collections.singletonList("s")));
+    }
+
+    /**
+     * 测试BeanTool.deepCopy方法，验证循环引用的对象只复制一次并保持循环引用的场景。
+     */
+    @Test
+    public void testDeepCopy_cycle() {
+        Dept dept = new Dept();
+        dept.setName("self");
+        dept.setParent(dept);
+
+        Dept copy = BeanTool.deepCopy(dept);
+        assertNotSame(dept, copy);
+        assertSame(copy, copy.getParent());
+    }
+
+    /**
+     * 测试BeanTool.deepCopy方法，验证按照目标属性的泛型类型复制集合元素的场景。
+     */
+    @Test
+    public void testDeepCopy_differentClass() {
+        Dept dept = new Dept();
+        dept.setName("dev");
+        dept.setUsers(Collections.singletonList(new User("a", 1)));
+
+        DeptDto dto = BeanTool.deepCopy(dept, DeptDto.class);
+        assertEquals("dev", dto.getName());
+        assertEquals(1, dto.getUsers().size());
+        UserDto userDto = dto.getUsers().get(0);
+        assertEquals("a", userDto.getName());
+        assertEquals(Integer.valueOf(1), userDto.getAge());
+    }
+
+    /**
+     * 测试BeanTool.deepCopy方法，验证Map到bean的深度复制场景。
+     */
+    @Test
+    public void testDeepCopy_mapToBean() {
+        Map<String, Object> user = new HashMap<>();
+        user.put("name", "a");
+        user.put("age", 1);
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "dev");
+        map.put("users", Collections.singletonList(user));
+
+        Dept target = new Dept();
+        BeanTool.deepCopy(map, target);
+        assertEquals("dev", target.getName());
+        assertEquals("a", target.getUsers().get(0).getName());
+        assertEquals(1, target.getUsers().get(0).getAge());
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证{@link CopyProperty}注解的重命名、忽略和日期格式的场景。
+     */
+    @Test
+    public void testCopy_annotation() {
+        Account account = new Account();
+        account.setName("loulan");
+        account.setPassword("secret");
+        Calendar birthday = new GregorianCalendar(TimeZone.getTimeZone("Asia/Shanghai"));
+        birthday.clear();
+        birthday.set(2024, Calendar.JANUARY, 2);
+        account.setBirthday(birthday.getTime());
+
+        AccountDto dto = BeanTool.copy(account, AccountDto.class);
+        assertEquals("loulan", dto.getNickName());
+        assertNull(dto.getPassword());
+        assertEquals("2024/01/02", dto.getBirthday());
+
+        Map<String, Object> map = BeanTool.beanToMap(account);
+        assertEquals("loulan", map.get("nickName"));
+        assertFalse(map.containsKey("password"));
+        assertEquals("2024/01/02", map.get("birthday"));
+
+        Account back = BeanTool.copy(map, Account.class);
+        assertEquals("loulan", back.getName());
+        assertEquals(account.getBirthday(), back.getBirthday());
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证日期格式不匹配的值和其它内置转换一样跳过这个属性的场景。
+     */
+    @Test
+    public void testCopy_annotationFormatMismatch() {
+        AccountDto dto = new AccountDto();
+        dto.setNickName("loulan");
+        dto.setBirthday("2024-01-02");
+        Account account = BeanTool.copy(dto, Account.class);
+        assertEquals("loulan", account.getName());
+        assertNull(account.getBirthday());
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("nickName", "loulan");
+        map.put("birthday", "not a date");
+        Account fromMap = BeanTool.copy(map, Account.class);
+        assertEquals("loulan", fromMap.getName());
+        assertNull(fromMap.getBirthday());
+    }
+
+    /**
+     * 测试BeanTool.copy方法，验证CopyOptions的重命名、忽略和忽略null值的场景。
+     */
+    @Test
+    public void testCopy_options() {
+        CopyOptions options = CopyOptions.builder()
+                .addRename("userType", "type")
+                .setIgnoreProperties("nickName")
+                .setIgnoreNull(true)
+                .build();
+        Account account = new Account();
+        account.setName("loulan");
+        account.setUserType("admin");
+
+        AccountDto dto = new AccountDto();
+        dto.setNickName("old");
+        dto.setBirthday("keep");
+        BeanTool.copy(account, dto, options);
+        assertEquals("admin", dto.getType());
+        assertEquals("old", dto.getNickName());
+        assertEquals("keep", dto.getBirthday());
+    }
+
+    /**
+     * 测试BeanTool.beanToMap和copy方法，验证驼峰和下划线命名风格转换的场景。
+     */
+    @Test
+    public void testCopy_namingStyle() {
+        CopyOptions toUnderline = CopyOptions.builder().setNamingStyle(NamingStyleEnum.CAMEL_TO_UNDERLINE).build();
+        Account account = new Account();
+        account.setName("loulan");
+        account.setUserType("admin");
+
+        Map<String, Object> map = BeanTool.beanToMap(account, toUnderline);
+        assertEquals("admin", map.get("user_type"));
+        assertEquals("loulan", map.get("nickName"));
+        assertFalse(map.containsKey("userType"));
+
+        CopyOptions toCamel = CopyOptions.builder().setNamingStyle(NamingStyleEnum.UNDERLINE_TO_CAMEL).build();
+        Account back = BeanTool.copy(map, Account.class, toCamel);
+        assertEquals("admin", back.getUserType());
+        assertEquals("loulan", back.getName());
+    }
+
     // SerializeTool tests
     /**
      * 测试SerializeTool.clone方法，验证序列化深拷贝的场景。
@@ -351,4 +1225,151 @@ public class BeanToolTest {
         User deserialized = SerializeTool.deserialize(bais);
         assertEquals("loulan", deserialized.getName());
     }
+
+    /**
+     * 测试SerializeTool.clone方法，验证使用CompactSerializer克隆包含各种类型字段、共享引用和循环引用的对象的场景。
+     */
+    @Test
+    public void testSerialize_compactClone() {
+        Profile original = newProfile();
+        Profile cloned = SerializeTool.clone(original, CompactSerializer.getInstance());
+
+        assertNotSame(original, cloned);
+        assertEquals(original.getId(), cloned.getId());
+        assertEquals(original.getScore(), cloned.getScore(), 0);
+        assertEquals(original.getGrade(), cloned.getGrade());
+        assertTrue(cloned.isActive());
+        assertEquals(original.getName(), cloned.getName());
+        assertSame(Level.HIGH, cloned.getLevel());
+        assertArrayEquals(original.getNumbers(), cloned.getNumbers());
+        assertEquals("hz", cloned.getAddresses().get(0).getCity());
+        assertNotSame(original.getAddresses().get(0), cloned.getAddresses().get(0));
+        assertSame(cloned.getAddresses().get(0), cloned.getAddresses().get(1));
+        assertEquals(original.getAttributes(), cloned.getAttributes());
+        assertEquals(original.getUpdateTime(), cloned.getUpdateTime());
+        assertEquals(original.getAmount(), cloned.getAmount());
+        assertEquals(original.getUuid(), cloned.getUuid());
+        assertSame(cloned, cloned.getSelf());
+        assertNull(cloned.getCache());
+    }
+
+    /**
+     * 测试CompactSerializer使用java原生序列化编码的对象（不可修改的集合），验证内部的共享引用可以还原、
+     * 和外部共享的对象反序列化后是单独的副本的场景。
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSerialize_compactJdkFallbackReferences() {
+        User user = new User("loulan", 18);
+        List<User> view = Collections.unmodifiableList(Arrays.asList(user, user));
+        ArrayList<Object> original = new ArrayList<>(Arrays.asList(user, view));
+
+        List<Object> cloned = SerializeTool.clone(original, CompactSerializer.getInstance());
+        List<User> clonedView = (List<User>) cloned.get(1);
+        assertSame(clonedView.get(0), clonedView.get(1));
+        assertEquals("loulan", clonedView.get(0).getName());
+        assertNotSame(cloned.get(0), clonedView.get(0));
+    }
+
+    /**
+     * 测试SerializeTool.serialize和deserialize方法，验证CompactSerializer的字节数组和流的序列化结果一致并且比java原生序列化更小的场景。
+     */
+    @Test
+    public void testSerialize_compactBytesAndStream() {
+        Profile profile = newProfile();
+        byte[] bytes = SerializeTool.serialize(profile, CompactSerializer.getInstance());
+        assertTrue(bytes.length < SerializeTool.serialize(profile).length);
+
+        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+        SerializeTool.serialize(profile, baos, CompactSerializer.getInstance());
+        SerializeTool.serialize(new User("loulan", 18), baos, CompactSerializer.getInstance());
+        java.io.ByteArrayInputStream bais = new java.io.ByteArrayInputStream(baos.toByteArray());
+        Profile first = SerializeTool.deserialize(bais, CompactSerializer.getInstance());
+        User second = SerializeTool.deserialize(bais, CompactSerializer.getInstance());
+        assertEquals(profile.getName(), first.getName());
+        assertEquals("loulan", second.getName());
+
+        Profile fromBytes = SerializeTool.deserialize(bytes, CompactSerializer.getInstance());
+        assertEquals(profile.getUuid(), fromBytes.getUuid());
+    }
+
+    /**
+     * 测试CompactSerializer.deserialize方法，验证数据不完整时抛出异常的场景。
+     */
+    @Test(expected = SerializeException.class)
+    public void testSerialize_compactTruncated() {
+        byte[] bytes = SerializeTool.serialize(new User("loulan", 18), CompactSerializer.getInstance());
+        SerializeTool.deserialize(Arrays.copyOf(bytes, bytes.length - 1), CompactSerializer.getInstance());
+    }
+
+    /**
+     * 紧凑序列化器在堆缓冲区和直接缓冲区中连续写入、读取多个对象
+     */
+    @Test
+    public void testSerialize_compactByteBuffer() {
+        CompactSerializer serializer = CompactSerializer.getInstance();
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(4096), ByteBuffer.allocateDirect(4096)}) {
+            Profile profile = newProfile();
+            SerializeTool.serialize(profile, buffer, serializer);
+            SerializeTool.serialize(new User("loulan", 18), buffer, serializer);
+            buffer.flip();
+
+            Profile profileCopy = SerializeTool.deserialize(buffer, serializer);
+            User userCopy = SerializeTool.deserialize(buffer, serializer);
+            assertEquals(profile.getName(), profileCopy.getName());
+            assertSame(profileCopy, profileCopy.getSelf());
+            assertEquals("loulan", userCopy.getName());
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    /**
+     * 缓冲区剩余空间不足或者数据不完整时抛出异常，缓冲区的位置保持不变；java原生序列化器同样支持缓冲区
+     */
+    @Test
+    public void testSerialize_byteBufferOverflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        try {
+            SerializeTool.serialize(newProfile(), buffer, CompactSerializer.getInstance());
+            fail();
+        } catch (SerializeException ex) {
+            assertEquals(0, buffer.position());
+        }
+
+        // 数据不完整时反序列化失败，缓冲区的位置保持不变
+        for (ByteBuffer truncated : new ByteBuffer[]{ByteBuffer.allocate(4096), ByteBuffer.allocateDirect(4096)}) {
+            SerializeTool.serialize(newProfile(), truncated, CompactSerializer.getInstance());
+            truncated.flip();
+            truncated.limit(truncated.limit() - 1);
+            try {
+                SerializeTool.deserialize(truncated, CompactSerializer.getInstance());
+                fail();
+            } catch (SerializeException ex) {
+                assertEquals(0, truncated.position());
+            }
+        }
+
+        ByteBuffer jdkBuffer = ByteBuffer.allocate(4096);
+        SerializeTool.serialize(new User("loulan", 18), jdkBuffer);
+        jdkBuffer.flip();
+        User user = SerializeTool.deserialize(jdkBuffer);
+        assertEquals("loulan", user.getName());
+    }
+
+    /**
+     * 预热指定的类以及扫描包中的类，验证预热报告
+     */
+    @Test
+    public void testWarmUp() {
+        WarmUpReport report = BeanTool.warmUp(Arrays.asList(User.class, Profile.class, Dept.class), ForkJoinPool.commonPool());
+        assertEquals(3, report.getClassCount());
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(Arrays.asList(User.class, Profile.class, Dept.class), new ArrayList<>(report.getElapsedNanos().keySet()));
+        assertEquals(1, report.getSlowest(1).size());
+        assertTrue(report.toString().contains(User.class.getName()));
+
+        WarmUpReport packageReport = BeanTool.warmUp(BeanToolTest.class.getPackage().getName());
+        assertTrue(packageReport.getElapsedNanos().containsKey(User.class));
+        assertFalse(packageReport.getElapsedNanos().containsKey(Level.class));
+    }
 }
@@ -0,0 +1,140 @@
+package io.github.loulangogogo.water.test.benchmark;
+
+import io.github.loulangogogo.water.json.JsonFormatEnum;
+import io.github.loulangogogo.water.json.JsonHandler;
+import io.github.loulangogogo.water.json.JsonTool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * json和Smile、CBOR二进制格式（见{@link JsonFormatEnum}）的序列化性能和数据大小对比。
+ * <p>
+ * 运行方式：执行{@link #main(String[])}，会先输出每种格式序列化之后的字节数，再运行jmh。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonFormatBenchmark {
+
+    public static class Item {
+        private long id;
+        private String name;
+        private BigDecimal price;
+        private int count;
+
+        public Item() {}
+
+        public Item(long id, String name, BigDecimal price, int count) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.count = count;
+        }
+
+        public long getId() { return id; }
+        public void setId(long id) { this.id = id; }
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public BigDecimal getPrice() { return price; }
+        public void setPrice(BigDecimal price) { this.price = price; }
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+    }
+
+    public static class Order {
+        private long id;
+        private String customer;
+        private LocalDateTime createTime;
+        private List<Item> items;
+        private Map<String, String> attributes;
+
+        public Order() {}
+
+        public long getId() { return id; }
+        public void setId(long id) { this.id = id; }
+        public String getCustomer() { return customer; }
+        public void setCustomer(String customer) { this.customer = customer; }
+        public LocalDateTime getCreateTime() { return createTime; }
+        public void setCreateTime(LocalDateTime createTime) { this.createTime = createTime; }
+        public List<Item> getItems() { return items; }
+        public void setItems(List<Item> items) { this.items = items; }
+        public Map<String, String> getAttributes() { return attributes; }
+        public void setAttributes(Map<String, String> attributes) { this.attributes = attributes; }
+    }
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private JsonFormatEnum format;
+
+    private JsonHandler handler;
+    private Order order;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        handler = JsonTool.getHandler(format);
+        order = createOrder();
+        bytes = handler.toJsonBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return handler.toJsonBytes(order);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeToBuffer() {
+        return handler.toJsonBuffer(order);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return handler.parseObj(bytes, Order.class);
+    }
+
+    private static Order createOrder() {
+        Order order = new Order();
+        order.id = 10001L;
+        order.customer = "loulan";
+        order.createTime = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        order.items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            order.items.add(new Item(i, "item-" + i, new BigDecimal("19.99"), i % 5));
+        }
+        order.attributes = new HashMap<>();
+        order.attributes.put("channel", "web");
+        order.attributes.put("region", "cn");
+        return order;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Order order = createOrder();
+        for (JsonFormatEnum format : JsonFormatEnum.values()) {
+            System.out.println(format + ": " + JsonTool.getHandler(format).toJsonBytes(order).length + " bytes");
+        }
+        new Runner(new OptionsBuilder().include(JsonFormatBenchmark.class.getSimpleName()).build()).run();
+    }
+}
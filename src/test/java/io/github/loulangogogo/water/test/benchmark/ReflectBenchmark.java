@@ -0,0 +1,93 @@
+package io.github.loulangogogo.water.test.benchmark;
+
+import io.github.loulangogogo.water.tool.FieldAccessor;
+import io.github.loulangogogo.water.tool.MethodInvoker;
+import io.github.loulangogogo.water.tool.ReflectTool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReflectTool}的反射访问和{@link FieldAccessor}、{@link MethodInvoker}的性能对比。
+ * <p>
+ * 运行方式：执行{@link #main(String[])}，或者在测试编译之后使用jmh的命令行运行。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectBenchmark {
+
+    public static class Bean {
+        private String name = "loulan";
+        private int age = 18;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private Bean bean;
+    private Method getName;
+    private FieldAccessor nameAccessor;
+    private MethodInvoker getNameInvoker;
+    private FieldAccessor ageAccessor;
+
+    @Setup
+    public void setup() {
+        bean = new Bean();
+        getName = ReflectTool.getMethod(Bean.class, "getName");
+        nameAccessor = ReflectTool.getFieldAccessor(Bean.class, "name");
+        getNameInvoker = ReflectTool.getMethodInvoker(getName);
+        ageAccessor = ReflectTool.getFieldAccessor(Bean.class, "age");
+    }
+
+    @Benchmark
+    public Object getFieldValue() {
+        return ReflectTool.getFieldValue(bean, "name");
+    }
+
+    @Benchmark
+    public Object fieldAccessor() {
+        return nameAccessor.get(bean);
+    }
+
+    @Benchmark
+    public Object invoke() {
+        return ReflectTool.invoke(bean, getName);
+    }
+
+    @Benchmark
+    public Object methodInvoker() {
+        return getNameInvoker.invoke(bean);
+    }
+
+    @Benchmark
+    public Object boxedIntField() {
+        return ReflectTool.getFieldValue(bean, "age");
+    }
+
+    @Benchmark
+    public int primitiveIntField() {
+        return ageAccessor.getInt(bean);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReflectBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.loulangogogo.water.test.benchmark;
+
+import io.github.loulangogogo.water.bean.CompactSerializer;
+import io.github.loulangogogo.water.bean.JdkSerializer;
+import io.github.loulangogogo.water.bean.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JdkSerializer}和{@link CompactSerializer}的序列化性能对比。
+ * <p>
+ * 运行方式：执行{@link #main(String[])}，或者在测试编译之后使用jmh的命令行运行。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+
+    public static class Item implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private long id;
+        private String name;
+        private BigDecimal price;
+        private int count;
+
+        public Item() {}
+
+        public Item(long id, String name, BigDecimal price, int count) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.count = count;
+        }
+    }
+
+    public static class Order implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private long id;
+        private String customer;
+        private LocalDateTime createTime;
+        private List<Item> items;
+        private Map<String, String> attributes;
+
+        public Order() {}
+    }
+
+    @Param({"CompactSerializer", "JdkSerializer"})
+    private String serializerName;
+
+    private Serializer serializer;
+    private Order order;
+    private byte[] bytes;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        serializer = "CompactSerializer".equals(serializerName) ? CompactSerializer.getInstance() : JdkSerializer.getInstance();
+        order = new Order();
+        order.id = 10001L;
+        order.customer = "loulan";
+        order.createTime = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        order.items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            order.items.add(new Item(i, "item-" + i, new BigDecimal("19.99"), i % 5));
+        }
+        order.attributes = new HashMap<>();
+        order.attributes.put("channel", "web");
+        order.attributes.put("region", "cn");
+        bytes = serializer.serialize(order);
+        buffer = ByteBuffer.allocateDirect(64 * 1024);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(order);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeToBuffer() {
+        buffer.clear();
+        serializer.serialize(order, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+    @Benchmark
+    public Object deepClone() {
+        return serializer.clone(order);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SerializeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
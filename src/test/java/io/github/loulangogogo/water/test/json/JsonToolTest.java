@@ -1,15 +1,50 @@
 package io.github.loulangogogo.water.test.json;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.github.loulangogogo.water.exception.AssertException;
+import io.github.loulangogogo.water.exception.JsonException;
 import io.github.loulangogogo.water.json.JSON;
+import io.github.loulangogogo.water.json.JsonArrayIterator;
+import io.github.loulangogogo.water.json.JsonFormatEnum;
+import io.github.loulangogogo.water.json.JsonHandler;
+import io.github.loulangogogo.water.json.JsonPathExtractor;
 import io.github.loulangogogo.water.json.JsonMap;
 import io.github.loulangogogo.water.json.JsonTool;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -18,6 +53,9 @@ import static org.junit.Assert.*;
  */
 public class JsonToolTest {
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     public static class Person {
         private String name;
         private int age;
@@ -257,6 +295,38 @@ public class JsonToolTest {
         assertNotNull(JsonTool.getTypeFactory());
     }
 
+    /**
+     * 测试convert方法，验证Map直接转换为对象并使用配置的日期格式的场景。
+     */
+    @Test
+    public void testConvert() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "loulan");
+        map.put("age", "18");
+        map.put("birthDate", "2000-01-02");
+        Person p = JsonTool.convert(map, Person.class);
+        assertEquals("loulan", p.getName());
+        assertEquals(18, p.getAge());
+        assertEquals(LocalDate.of(2000, 1, 2), p.getBirthDate());
+
+        List<Person> list = JsonTool.convert(Collections.singletonList(map), new TypeReference<List<Person>>() {});
+        assertEquals("loulan", list.get(0).getName());
+    }
+
+    /**
+     * 测试update方法，验证使用Map更新已有对象属性的场景。
+     */
+    @Test
+    public void testUpdate() {
+        Person p = new Person("loulan", 18);
+        Map<String, Object> map = new HashMap<>();
+        map.put("age", 20);
+        Person updated = JsonTool.update(p, map);
+        assertSame(p, updated);
+        assertEquals("loulan", p.getName());
+        assertEquals(20, p.getAge());
+    }
+
     // JSON (extends JsonTool) tests
     /**
      * 测试JSON类继承自JsonTool的场景，验证静态方法可正常调用。
@@ -471,4 +541,528 @@ public class JsonToolTest {
         jsonMap.put("key", "value");
         assertEquals("value", jsonMap.get("key"));
     }
+
+    // JsonHandler tests
+    /**
+     * 测试JsonTool.builder方法，验证snake_case处理器和默认配置互不影响的场景。
+     */
+    @Test
+    public void testBuilder_snakeCase() {
+        JsonHandler snakeCase = JsonTool.builder()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .addWarmUpType(Person.class)
+                .build();
+        Person p = new Person("loulan", 18);
+        p.setBirthDate(LocalDate.of(2000, 1, 2));
+        String json = snakeCase.toJson(p);
+        assertTrue(json.contains("\"birth_date\":\"2000-01-02\""));
+        assertTrue(JsonTool.toJson(p).contains("\"birthDate\""));
+
+        Person parsed = snakeCase.parseObj("{\"name\":\"loulan\",\"birth_date\":\"2000-01-02\"}", Person.class);
+        assertEquals(LocalDate.of(2000, 1, 2), parsed.getBirthDate());
+        assertNull(JsonTool.parseObj("{\"birth_date\":\"2000-01-02\"}", Person.class).getBirthDate());
+    }
+
+    /**
+     * 测试JsonHandlerBuilder的日期格式和未知属性配置，验证配置只作用于构建的处理器的场景。
+     */
+    @Test
+    public void testBuilder_dateAndFeatures() {
+        JsonHandler handler = JsonTool.builder()
+                .setDatePattern("yyyy/MM/dd")
+                .setFailOnUnknownProperties(true)
+                .setSerializationInclusion(JsonInclude.Include.ALWAYS)
+                .build();
+        Person p = new Person("loulan", 18);
+        p.setBirthDate(LocalDate.of(2000, 1, 2));
+        String json = handler.toJson(p);
+        assertTrue(json.contains("\"2000/01/02\""));
+        assertTrue(json.contains("\"createTime\":null"));
+        assertEquals(p.getBirthDate(), handler.parseObj(json, Person.class).getBirthDate());
+        try {
+            handler.parseObj("{\"unknown\":1}", Person.class);
+            fail();
+        } catch (JsonException ex) {
+            assertNotNull(ex.getCause());
+        }
+        assertNotNull(JsonTool.parseObj("{\"unknown\":1}", Person.class));
+    }
+
+    /**
+     * 测试JsonHandler.getDefault方法，验证默认处理器和JsonTool静态方法结果一致的场景。
+     */
+    @Test
+    public void testDefaultHandler() {
+        JsonHandler handler = JsonHandler.getDefault();
+        Person p = new Person("loulan", 18);
+        assertEquals(JsonTool.toJson(p), handler.toJson(p));
+        assertEquals(handler.getTypeFactory(), JsonTool.getTypeFactory());
+        assertNotNull(handler.getReader());
+        assertNotNull(handler.getWriter());
+        List<Person> list = handler.parseList("[{\"name\":\"a\"},{\"name\":\"b\"}]", Person.class);
+        assertEquals("b", list.get(1).getName());
+    }
+
+    /**
+     * 测试parseList、parseMap等方法重复解析，验证按类型缓存的读取器在不同类型和不同处理器之间互不影响的场景。
+     */
+    @Test
+    public void testParse_cachedReaders() {
+        JsonHandler snakeCase = JsonTool.builder()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        String json = "[{\"name\":\"a\",\"birth_date\":\"2000-01-02\"}]";
+        for (int i = 0; i < 3; i++) {
+            assertEquals(LocalDate.of(2000, 1, 2), snakeCase.parseList(json, Person.class).get(0).getBirthDate());
+            assertNull(JsonTool.parseList(json, Person.class).get(0).getBirthDate());
+            assertEquals("a", JsonTool.parseList(json, Map.class).get(0).get("name"));
+        }
+        Map<String, Integer> ints = JsonTool.parseMap("{\"a\":1,\"b\":\"2\"}", Integer.class);
+        assertEquals(Integer.valueOf(2), ints.get("b"));
+        Map<String, String> strings = JsonTool.parseMap("{\"a\":1}".getBytes(), String.class);
+        assertEquals("1", strings.get("a"));
+        assertEquals("a", JsonTool.parseListJsonMap(json).get(0).getString("name"));
+        assertEquals("a", snakeCase.parseJsonMap("{\"name\":\"a\"}").getString("name"));
+    }
+
+    /**
+     * 测试iterateArray和streamArray方法，验证从输入流、字符流和字节数组中逐个解析数组元素的场景。
+     */
+    @Test
+    public void testIterateArray() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"name\":\"p").append(i).append("\",\"age\":").append(i).append("}");
+        }
+        String array = json.append("]").toString();
+
+        try (JsonArrayIterator<Person> iterator = JsonTool.iterateArray(new ByteArrayInputStream(array.getBytes()), Person.class)) {
+            assertTrue(iterator.hasNext());
+            assertEquals("p0", iterator.next().getName());
+            assertEquals("p1", iterator.next().getName());
+        }
+        try (Stream<Person> stream = JsonTool.streamArray(new StringReader(array), Person.class)) {
+            assertEquals(499500, stream.mapToInt(Person::getAge).sum());
+        }
+        AtomicInteger count = new AtomicInteger();
+        assertEquals(1000, JsonTool.iterateArray(array.getBytes(), Person.class).forEach(p -> count.incrementAndGet()));
+        assertEquals(1000, count.get());
+
+        // 根节点不是数组时依次解析多个值
+        assertEquals(2, JsonTool.iterateArray("{\"age\":1}\n{\"age\":2}".getBytes(), Person.class).forEach(p -> {}));
+        assertFalse(JsonTool.iterateArray("[]".getBytes(), Person.class).hasNext());
+
+        // 数组中的null元素原样返回，流不声明NONNULL
+        try (Stream<Integer> stream = JsonTool.streamArray("[1,null,2]".getBytes(), Integer.class)) {
+            assertFalse(stream.spliterator().hasCharacteristics(Spliterator.NONNULL));
+        }
+        assertEquals(Arrays.asList(1, null, 2), JsonTool.streamArray("[1,null,2]".getBytes(), Integer.class).collect(Collectors.toList()));
+    }
+
+    /**
+     * 测试JsonArrayIterator的分批并行处理，验证所有元素都被处理以及处理异常抛出的场景。
+     */
+    @Test
+    public void testIterateArray_parallel() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append(i);
+        }
+        byte[] array = json.append("]").toString().getBytes();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            LongAdder sum = new LongAdder();
+            assertEquals(1000, JsonTool.iterateArray(array, Integer.class).forEach(sum::add, 64, executor));
+            assertEquals(499500, sum.sum());
+
+            try {
+                JsonTool.iterateArray(array, Integer.class).forEach(i -> {
+                    if (i == 500) {
+                        throw new IllegalStateException("fail");
+                    }
+                }, 64, executor);
+                fail();
+            } catch (IllegalStateException ex) {
+                assertEquals("fail", ex.getMessage());
+            }
+
+            try {
+                JsonTool.iterateArray(array, Integer.class).forEach(i -> {
+                }, 0, executor);
+                fail();
+            } catch (AssertException ex) {
+                assertEquals("每批元素的个数必须大于0", ex.getMessage());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 测试writeArray方法，验证将流和迭代器中的元素逐个写入为json数组并且不关闭输出的场景。
+     */
+    @Test
+    public void testWriteArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        long count = JsonTool.writeArray(IntStream.range(0, 2500).mapToObj(i -> new Person("p" + i, i)), channel);
+        assertEquals(2500, count);
+        assertTrue(channel.isOpen());
+        List<Person> persons = JsonTool.parseList(out.toByteArray(), Person.class);
+        assertEquals(2500, persons.size());
+        assertEquals("p2499", persons.get(2499).getName());
+
+        out.reset();
+        assertEquals(0, JsonTool.writeArray(Collections.emptyIterator(), out));
+        assertEquals("[]", out.toString());
+    }
+
+    /**
+     * 测试writeLines方法，验证将元素逐个写入为NDJSON（每行一个json）的场景。
+     */
+    @Test
+    public void testWriteLines() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonHandler indent = JsonTool.builder().setIndentOutput(true).build();
+        assertEquals(3, indent.writeLines(Arrays.asList(new Person("a", 1), new Person("b", 2), new Person("c", 3)).iterator(), out));
+        String[] lines = out.toString().split("\n", -1);
+        assertEquals(4, lines.length);
+        assertEquals("", lines[3]);
+        assertEquals("b", JsonTool.parseObj(lines[1], Person.class).getName());
+        assertEquals(6, JsonTool.streamArray(out.toByteArray(), Person.class).mapToInt(Person::getAge).sum());
+    }
+
+    /**
+     * 测试iterateLines方法，验证直接从堆缓冲区和直接缓冲区中解析NDJSON并且不改变缓冲区位置的场景。
+     */
+    @Test
+    public void testIterateLines() {
+        byte[] lines = "xx{\"name\":\"a\",\"age\":1}\n{\"name\":\"b\",\"age\":2}\n".getBytes();
+        ByteBuffer heap = ByteBuffer.wrap(lines);
+        heap.position(2);
+        try (JsonArrayIterator<Person> iterator = JsonTool.iterateLines(heap, Person.class)) {
+            assertEquals("a", iterator.next().getName());
+            assertEquals("b", iterator.next().getName());
+            assertFalse(iterator.hasNext());
+        }
+        assertEquals(2, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(lines.length);
+        direct.put(lines).flip();
+        direct.position(2);
+        assertEquals(3, JsonTool.iterateLines(direct, Person.class).stream().mapToInt(Person::getAge).sum());
+        assertEquals(2, direct.position());
+    }
+
+    /**
+     * 测试forEachLine方法，验证NDJSON文件通过内存映射分块并行解析时有序和无序处理的场景。
+     */
+    @Test
+    public void testForEachLine_parallel() throws IOException {
+        Path file = tempFolder.newFile("persons.ndjson").toPath();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            JsonTool.writeLines(IntStream.range(0, 20000).mapToObj(i -> new Person("person-" + i, i)), out);
+        }
+        assertTrue(Files.size(file) > 4 * 64 * 1024);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> ordered = new ArrayList<>();
+            assertEquals(20000, JsonTool.forEachLine(file, Person.class, p -> ordered.add(p.getAge()), executor, true));
+            for (int i = 0; i < 20000; i++) {
+                assertEquals(Integer.valueOf(i), ordered.get(i));
+            }
+
+            LongAdder sum = new LongAdder();
+            assertEquals(20000, JsonTool.forEachLine(file, Person.class, p -> sum.add(p.getAge()), executor, false));
+            assertEquals(199990000L, sum.sum());
+
+            List<Integer> sequential = new ArrayList<>();
+            JsonTool.forEachLine(file, Person.class, p -> sequential.add(p.getAge()), null, true);
+            assertEquals(ordered, sequential);
+            try (JsonArrayIterator<Person> iterator = JsonTool.iterateLines(file, Person.class)) {
+                assertEquals("person-0", iterator.next().getName());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 测试forEachLine方法，验证处理失败时等待已经提交的分块结束之后抛出异常、之后不再处理对象的场景。
+     */
+    @Test
+    public void testForEachLine_parallelFailure() throws IOException, InterruptedException {
+        Path file = tempFolder.newFile("failure.ndjson").toPath();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            JsonTool.writeLines(IntStream.range(0, 20000).mapToObj(i -> new Person("person-" + i, i)), out);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AtomicInteger processed = new AtomicInteger();
+            try {
+                JsonTool.forEachLine(file, Person.class, p -> {
+                    if (p.getAge() == 0) {
+                        throw new IllegalStateException("error");
+                    }
+                    processed.incrementAndGet();
+                }, executor, false);
+                fail();
+            } catch (IllegalStateException ex) {
+                int count = processed.get();
+                Thread.sleep(50);
+                assertEquals(count, processed.get());
+            }
+
+            try {
+                JsonTool.forEachLine(file, Person.class, p -> {
+                    throw new IllegalStateException("ordered");
+                }, executor, true);
+                fail();
+            } catch (IllegalStateException ex) {
+                assertEquals("ordered", ex.getMessage());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 测试JsonMap数值类型的获取方法，验证数据值已经是数值类型时直接转换以及字符串数据值的场景。
+     */
+    @Test
+    public void testJsonMapNumberAccessors() {
+        JsonMap jsonMap = new JsonMap();
+        jsonMap.put("int", 5);
+        jsonMap.put("long", 5L);
+        jsonMap.put("big", Long.MAX_VALUE);
+        jsonMap.put("double", 1.5d);
+        jsonMap.put("decimal", new BigDecimal("1.25"));
+        jsonMap.put("bigInteger", BigInteger.TEN);
+        jsonMap.put("string", "7");
+        assertEquals(Integer.valueOf(5), jsonMap.getInt("long"));
+        assertEquals(Long.valueOf(5), jsonMap.getLong("int"));
+        assertEquals(Double.valueOf(5), jsonMap.getDouble("int"));
+        assertEquals(Float.valueOf(5), jsonMap.getFloat("long"));
+        assertEquals(new BigDecimal("1.5"), jsonMap.getBigDecimal("double"));
+        assertEquals(BigDecimal.valueOf(5), jsonMap.getBigDecimal("int"));
+        assertEquals(BigDecimal.TEN, jsonMap.getBigDecimal("bigInteger"));
+        assertSame(jsonMap.get("decimal"), jsonMap.getBigDecimal("decimal"));
+        assertEquals(Integer.valueOf(7), jsonMap.getInt("string"));
+        assertEquals(Double.valueOf(1.25), jsonMap.getDouble("decimal"));
+        try {
+            jsonMap.getInt("big");
+            fail();
+        } catch (NumberFormatException ex) {
+            assertNotNull(ex.getMessage());
+        }
+    }
+
+    /**
+     * 测试parseLazyJsonMap方法，验证属性在读取时才转换、修改或遍历时按原顺序全部转换的场景。
+     */
+    @Test
+    public void testParseLazyJsonMap() {
+        String json = "{\"name\":\"loulan\",\"age\":18,\"score\":9.5,\"child\":{\"name\":\"c\",\"tags\":[\"a\",{\"x\":1}]},\"empty\":null}";
+        JsonMap lazy = JsonTool.parseLazyJsonMap(json);
+        assertEquals(5, lazy.size());
+        assertTrue(lazy.containsKey("empty"));
+        assertFalse(lazy.containsKey("missing"));
+        assertEquals(Integer.valueOf(18), lazy.getInt("age"));
+        assertEquals(Double.valueOf(9.5), lazy.getDouble("score"));
+        assertNull(lazy.get("empty"));
+        assertEquals("default", lazy.getOrDefault("missing", "default"));
+
+        JsonMap child = (JsonMap) lazy.get("child");
+        assertEquals("c", child.getString("name"));
+        List<?> tags = (List<?>) child.get("tags");
+        assertEquals(1, ((JsonMap) tags.get(1)).getInt("x").intValue());
+
+        JsonMap eager = JsonTool.parseJsonMap(json);
+        assertEquals(eager, lazy);
+        assertEquals(Arrays.asList("name", "age", "score", "child", "empty"), new ArrayList<>(lazy.keySet()));
+        assertEquals(JsonTool.toJson(eager), JsonTool.toJson(JsonTool.parseLazyJsonMap(json)));
+
+        JsonMap modified = JsonTool.parseLazyJsonMap(json.getBytes());
+        modified.getString("child");
+        modified.put("extra", 1);
+        assertEquals(Arrays.asList("name", "age", "score", "child", "empty", "extra"), new ArrayList<>(modified.keySet()));
+
+        try {
+            JsonTool.parseLazyJsonMap("[1,2]");
+            fail();
+        } catch (JsonException ex) {
+            assertNotNull(ex.getMessage());
+        }
+    }
+
+    /**
+     * 测试read方法，验证按路径读取对象属性、数组元素和指定类型的值的场景。
+     */
+    @Test
+    public void testRead_path() {
+        String json = "{\"skip\":{\"deep\":[1,2,{\"x\":1}]},\"a\":{\"b\":[0,1,2,{\"c\":\"found\"}],\"key.dot\":true},"
+                + "\"person\":{\"name\":\"loulan\",\"birthDate\":\"2000-01-02\"}}";
+        assertEquals("found", JsonTool.read(json, "$.a.b[3].c"));
+        assertEquals(Integer.valueOf(2), JsonTool.read(json.getBytes(), "$.a.b[2]"));
+        assertEquals(Boolean.TRUE, JsonTool.read(json, "$.a['key.dot']"));
+        assertEquals(Arrays.asList(1, 2, Collections.singletonMap("x", 1)), JsonTool.read(json, "$.skip.deep"));
+        assertNull(JsonTool.read(json, "$.a.b[9]"));
+        assertNull(JsonTool.read(json, "$.a.missing.c"));
+
+        Person person = JsonTool.read(json.getBytes(), "$.person", Person.class);
+        assertEquals(LocalDate.of(2000, 1, 2), person.getBirthDate());
+        assertEquals(Integer.valueOf(1), JsonTool.read(json, "$.a.b[1]", Integer.class));
+
+        try {
+            JsonTool.read(json, "a.b");
+            fail();
+        } catch (JsonException ex) {
+            assertTrue(ex.getMessage().contains("a.b"));
+        }
+    }
+
+    /**
+     * 测试compilePaths方法，验证一次解析提取多个路径、嵌套路径以及找到所有路径后停止解析的场景。
+     */
+    @Test
+    public void testCompilePaths() {
+        JsonPathExtractor extractor = JsonTool.compilePaths("$.id", "$.user", "$.user.name", "$.items[1].price", "$.missing");
+        assertEquals(5, extractor.getPaths().size());
+        String json = "{\"id\":7,\"user\":{\"name\":\"loulan\",\"age\":18},\"items\":[{\"price\":1.5},{\"price\":2.5}],\"tail\":1}";
+        Map<String, Object> values = extractor.extract(json.getBytes());
+        assertEquals(Integer.valueOf(7), values.get("$.id"));
+        assertEquals("loulan", values.get("$.user.name"));
+        assertEquals(18, ((Map<?, ?>) values.get("$.user")).get("age"));
+        assertEquals(2.5, values.get("$.items[1].price"));
+        assertFalse(values.containsKey("$.missing"));
+
+        // 所有路径找到之后停止解析，后面不完整的json不会导致异常
+        JsonPathExtractor first = JsonTool.compilePaths("$.id", "$.user.name");
+        Map<String, Object> partial = first.extract(new ByteArrayInputStream("{\"id\":1,\"user\":{\"name\":\"a\"},\"broken\":[".getBytes()));
+        assertEquals(2, partial.size());
+        assertEquals("a", first.extract("{\"user\":{\"name\":\"a\"},\"id\":1}").get("$.user.name"));
+    }
+
+    /**
+     * 测试writeTo方法，验证写入堆缓冲区、直接缓冲区和输出流以及缓冲区空间不足时位置不变的场景。
+     */
+    @Test
+    public void testWriteTo() {
+        Person p = new Person("loulan", 18);
+        byte[] expected = JsonTool.toJsonBytes(p);
+
+        ByteBuffer heap = ByteBuffer.allocate(256);
+        heap.put((byte) 'x');
+        assertEquals(expected.length, JsonTool.writeTo(p, heap));
+        assertEquals(expected.length + 1, heap.position());
+        assertArrayEquals(expected, Arrays.copyOfRange(heap.array(), 1, expected.length + 1));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(256);
+        JsonTool.writeTo(p, direct);
+        direct.flip();
+        byte[] written = new byte[direct.remaining()];
+        direct.get(written);
+        assertArrayEquals(expected, written);
+
+        ByteBuffer small = ByteBuffer.allocate(expected.length - 1);
+        small.put((byte) 'x');
+        try {
+            JsonTool.writeTo(p, small);
+            fail();
+        } catch (JsonException ex) {
+            assertEquals(1, small.position());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonTool.writeTo(p, out);
+        JsonTool.writeTo(p, out);
+        assertEquals(expected.length * 2, out.size());
+    }
+
+    /**
+     * 测试toJsonBuffer方法，验证返回线程复用缓冲区中json数据视图的场景。
+     */
+    @Test
+    public void testToJsonBuffer() {
+        ByteBuffer first = JsonTool.toJsonBuffer(new Person("a", 1));
+        assertEquals(0, first.position());
+        byte[] bytes = new byte[first.remaining()];
+        first.get(bytes);
+        assertArrayEquals(JsonTool.toJsonBytes(new Person("a", 1)), bytes);
+
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            name.append('n');
+        }
+        ByteBuffer large = JsonTool.toJsonBuffer(new Person(name.toString(), 2));
+        assertEquals(JsonTool.toJsonBytes(new Person(name.toString(), 2)).length, large.remaining());
+        try (JsonArrayIterator<Person> iterator = JsonTool.iterateLines(large, Person.class)) {
+            assertEquals(name.toString(), iterator.next().getName());
+        }
+    }
+
+    /**
+     * 测试getHandler方法，验证Smile、CBOR二进制格式序列化和反序列化对象、列表以及日期格式和json一致的场景。
+     */
+    @Test
+    public void testGetHandler_binaryFormats() {
+        Person p = new Person("loulan", 18);
+        p.setBirthDate(LocalDate.of(2000, 1, 2));
+        p.setCreateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        byte[] json = JsonTool.toJsonBytes(p);
+        assertSame(JsonTool.getHandler(JsonFormatEnum.JSON), JsonHandler.getDefault());
+
+        for (JsonFormatEnum format : new JsonFormatEnum[]{JsonFormatEnum.SMILE, JsonFormatEnum.CBOR}) {
+            JsonHandler handler = JsonTool.getHandler(format);
+            assertSame(handler, JsonTool.getHandler(format));
+            assertEquals(format, handler.getFormat());
+            assertTrue(format.isBinary());
+
+            byte[] bytes = handler.toJsonBytes(p);
+            assertTrue(bytes.length < json.length);
+            Person parsed = handler.parseObj(bytes, Person.class);
+            assertEquals("loulan", parsed.getName());
+            assertEquals(18, parsed.getAge());
+            assertEquals(p.getBirthDate(), parsed.getBirthDate());
+            assertEquals(p.getCreateTime(), parsed.getCreateTime());
+            assertEquals("2024-01-02 03:04:05", handler.parseMap(bytes).get("createTime"));
+
+            List<Person> list = handler.parseList(handler.toJsonBytes(Arrays.asList(p, new Person("a", 1))), Person.class);
+            assertEquals(2, list.size());
+            assertEquals("a", list.get(1).getName());
+        }
+    }
+
+    /**
+     * 测试二进制格式的字符串方法和NDJSON方法，验证抛出JsonException的场景。
+     */
+    @Test
+    public void testGetHandler_binaryFormatString() {
+        try {
+            JsonTool.getHandler(JsonFormatEnum.SMILE).toJsonString(new Person("loulan", 18));
+            fail();
+        } catch (JsonException ex) {
+            assertNotNull(ex.getMessage());
+        }
+        try {
+            JsonTool.getHandler(JsonFormatEnum.CBOR).writeLines(Collections.singletonList(new Person("loulan", 18)).iterator(), new ByteArrayOutputStream());
+            fail();
+        } catch (JsonException ex) {
+            assertTrue(ex.getMessage().contains("CBOR"));
+        }
+        try {
+            JsonTool.getHandler(JsonFormatEnum.SMILE).read("{\"a\":1}", "$.a");
+            fail();
+        } catch (JsonException ex) {
+            assertTrue(ex.getCause() instanceof UnsupportedOperationException);
+        }
+        try {
+            JsonTool.getHandler(JsonFormatEnum.CBOR).read("{\"a\":1}", "$.a", Integer.class);
+            fail();
+        } catch (JsonException ex) {
+            assertTrue(ex.getCause() instanceof UnsupportedOperationException);
+        }
+    }
 }
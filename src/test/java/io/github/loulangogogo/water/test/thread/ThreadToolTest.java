@@ -9,7 +9,10 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -424,4 +427,86 @@ public class ThreadToolTest {
         long elapsed = System.currentTimeMillis() - start;
         assertTrue("Sleep should take at least 50ms, was " + elapsed, elapsed >= 40);
     }
+
+    /**
+     * 测试ThreadTool.parallelMap方法，验证并行分块转换后结果顺序和源集合一致的场景。
+     */
+    @Test
+    public void testThreadTool_parallelMap_ordered() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            source.add(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<String> result = ThreadTool.parallelMap(source, String::valueOf, 100, executor);
+            assertEquals(source.size(), result.size());
+            for (int i = 0; i < source.size(); i++) {
+                assertEquals(String.valueOf(i), result.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 测试ThreadTool.parallelMap方法，验证元素个数小于阈值时在当前线程顺序转换的场景。
+     */
+    @Test
+    public void testThreadTool_parallelMap_belowThreshold() {
+        List<Integer> source = new ArrayList<>();
+        source.add(1);
+        source.add(2);
+        Thread current = Thread.currentThread();
+        List<Boolean> result = ThreadTool.parallelMap(source, i -> Thread.currentThread() == current, 100, ForkJoinPool.commonPool());
+        assertEquals(2, result.size());
+        assertTrue(result.get(0));
+        assertTrue(result.get(1));
+    }
+
+    /**
+     * 测试ThreadTool.parallelMap方法，验证转换函数抛出的异常会原样抛出的场景。
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testThreadTool_parallelMap_exception() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            source.add(i);
+        }
+        ThreadTool.parallelMap(source, i -> {
+            if (i == 999) {
+                throw new IllegalStateException("error");
+            }
+            return i;
+        }, 10, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 测试ThreadTool.parallelMap方法，验证当前线程执行的第一个元素抛出异常时，等待已经提交的分块结束之后再抛出异常的场景。
+     */
+    @Test
+    public void testThreadTool_parallelMap_callerChunkException() throws InterruptedException {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            source.add(i);
+        }
+        AtomicInteger mapped = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ThreadTool.parallelMap(source, i -> {
+                if (i == 0) {
+                    throw new IllegalStateException("error");
+                }
+                ThreadTool.sleep(1, TimeUnit.MILLISECONDS);
+                return mapped.incrementAndGet();
+            }, 10, executor);
+            fail();
+        } catch (IllegalStateException ex) {
+            int count = mapped.get();
+            Thread.sleep(50);
+            assertEquals(count, mapped.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.loulangogogo.water.test.tool;
 
+import io.github.loulangogogo.water.bean.CompactSerializer;
 import io.github.loulangogogo.water.tool.CharsetTool;
 import io.github.loulangogogo.water.tool.IdTool;
 import io.github.loulangogogo.water.tool.ObjectTool;
@@ -157,4 +158,16 @@ public class ObjectToolTest {
         assertEquals(list, cloned);
         assertNotSame(list, cloned);
     }
+
+    /**
+     * 测试ObjectTool.deepClone方法，验证使用CompactSerializer进行深度克隆的场景。
+     */
+    @Test
+    public void testDeepClone_withSerializer() {
+        java.util.HashMap<String, java.util.ArrayList<Integer>> map = new java.util.HashMap<>();
+        map.put("a", new java.util.ArrayList<>(java.util.Arrays.asList(1, 2)));
+        java.util.HashMap<String, java.util.ArrayList<Integer>> cloned = ObjectTool.deepClone(map, CompactSerializer.getInstance());
+        assertEquals(map, cloned);
+        assertNotSame(map.get("a"), cloned.get("a"));
+    }
 }
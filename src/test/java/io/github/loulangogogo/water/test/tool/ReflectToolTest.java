@@ -1,12 +1,18 @@
 package io.github.loulangogogo.water.test.tool;
 
+import io.github.loulangogogo.water.exception.ReflectException;
+import io.github.loulangogogo.water.tool.FieldAccessor;
+import io.github.loulangogogo.water.tool.MethodInvoker;
 import io.github.loulangogogo.water.tool.ReflectTool;
 import org.junit.Test;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -46,6 +52,44 @@ public class ReflectToolTest {
         }
     }
 
+    public static class TestStaticBean {
+        private static int counter;
+
+        private static int add(int a, int b) {
+            return a + b;
+        }
+    }
+
+    public static class TestNumberBean {
+        private int count = 3;
+        private short level = 2;
+        private long total = 10L;
+        private double ratio = 0.5;
+        private boolean enabled;
+        private String label;
+    }
+
+    public static class TestOverloadBean {
+        public String describe(Object value) { return "object"; }
+        public String describe(String value) { return "string"; }
+        public String describe(Number value) { return "number"; }
+        public String describe(long value) { return "long"; }
+        public String describe(Object first, Object second) { return "pair"; }
+    }
+
+    public static class TestPrimitiveBean {
+        public String describe(long value) { return "long"; }
+        public String describe(double value) { return "double"; }
+        public String describe(String value) { return "string"; }
+    }
+
+    public static class TestOverrideBean extends TestBean {
+        @Override
+        public String greet(String greeting) {
+            return "override";
+        }
+    }
+
     public static class TestChildBean extends TestBean {
         private String extra;
         public String getExtra() { return extra; }
@@ -147,6 +191,19 @@ public class ReflectToolTest {
         ReflectTool.getConstructor(TestBean.class, double.class);
     }
 
+    /**
+     * 测试getConstructor方法，验证返回可访问的私有构造器，getConstructors返回的构造器访问权限不会被改变。
+     */
+    @Test
+    public void testGetConstructor_keepAccessible() throws Exception {
+        Constructor<TestBean> ctor = ReflectTool.getConstructor(TestBean.class, String.class);
+        assertTrue(ctor.isAccessible());
+        assertEquals("loulan", ctor.newInstance("loulan").getName());
+        for (Constructor<?> cached : ReflectTool.getConstructors(TestBean.class)) {
+            assertFalse(cached.isAccessible());
+        }
+    }
+
     /**
      * 测试getConstructors方法，验证获取类的所有构造器。
      */
@@ -275,4 +332,209 @@ public class ReflectToolTest {
         Method method = ReflectTool.getMethod(null, "getName");
         assertNull(method);
     }
+
+    /**
+     * 测试反射元数据缓存，验证重复查找返回同一个对象，不存在的字段和方法返回null。
+     */
+    @Test
+    public void testMetadataCache() {
+        assertSame(ReflectTool.getField(TestChildBean.class, "name"), ReflectTool.getField(TestChildBean.class, "name"));
+        assertSame(ReflectTool.getMethod(TestBean.class, "greet", String.class), ReflectTool.getMethod(TestBean.class, "greet", String.class));
+        assertNull(ReflectTool.getField(TestChildBean.class, "nonexistent"));
+        assertNull(ReflectTool.getMethod(TestChildBean.class, "nonexistent"));
+        assertNull(ReflectTool.getMethod(TestBean.class, "greet", Integer.class));
+        assertNull(ReflectTool.getMethodOne(TestBean.class, "nonexistent"));
+    }
+
+    /**
+     * 测试反射元数据缓存，验证子类重写的方法优先，返回的数组可以修改而不影响缓存。
+     */
+    @Test
+    public void testMetadataCache_overrideAndCopy() {
+        Method method = ReflectTool.getMethod(TestOverrideBean.class, "greet", String.class);
+        assertEquals(TestOverrideBean.class, method.getDeclaringClass());
+        assertEquals(2, ReflectTool.getMethods(TestOverrideBean.class, "greet").length);
+        assertEquals(TestOverrideBean.class, ReflectTool.getMethodOne(TestOverrideBean.class, "greet").getDeclaringClass());
+
+        Method[] methods = ReflectTool.getMethods(TestBean.class, "greet");
+        methods[0] = null;
+        assertNotNull(ReflectTool.getMethods(TestBean.class, "greet")[0]);
+    }
+
+    /**
+     * 测试调用私有方法之后，查找得到的方法对象的访问权限不会被改变。
+     */
+    @Test
+    public void testInvoke_keepAccessible() {
+        Method method = ReflectTool.getMethod(TestBean.class, "privateMethod", String.class);
+        String result = ReflectTool.invoke(new TestBean("loulan", 18), method, "hi ");
+        assertEquals("hi loulan", result);
+        assertFalse(ReflectTool.getMethod(TestBean.class, "privateMethod", String.class).isAccessible());
+    }
+
+    /**
+     * 测试字段访问器，验证私有字段、父类字段和静态字段的读写，以及访问器的缓存。
+     */
+    @Test
+    public void testGetFieldAccessor() {
+        FieldAccessor accessor = ReflectTool.getFieldAccessor(TestChildBean.class, "name");
+        assertSame(accessor, ReflectTool.getFieldAccessor(ReflectTool.getField(TestBean.class, "name")));
+        assertEquals(String.class, accessor.getType());
+
+        TestChildBean bean = new TestChildBean();
+        accessor.set(bean, "loulan");
+        assertEquals("loulan", accessor.get(bean));
+        FieldAccessor ageAccessor = ReflectTool.getFieldAccessor(TestBean.class, "age");
+        ageAccessor.set(bean, 18);
+        assertEquals(Integer.valueOf(18), ageAccessor.get(bean));
+
+        FieldAccessor staticAccessor = ReflectTool.getFieldAccessor(TestStaticBean.class, "counter");
+        staticAccessor.set(null, 5);
+        assertEquals(Integer.valueOf(5), staticAccessor.get(null));
+        assertNull(ReflectTool.getFieldAccessor(TestBean.class, "nonexistent"));
+    }
+
+    /**
+     * 测试方法调用器，验证无参方法、带参私有方法、静态方法以及异常的传递。
+     */
+    @Test
+    public void testGetMethodInvoker() {
+        TestBean bean = new TestBean("loulan", 18);
+        MethodInvoker getName = ReflectTool.getMethodInvoker(TestBean.class, "getName");
+        assertSame(getName, ReflectTool.getMethodInvoker(ReflectTool.getMethod(TestBean.class, "getName")));
+        assertEquals("loulan", getName.invoke(bean));
+
+        MethodInvoker privateMethod = ReflectTool.getMethodInvoker(TestBean.class, "privateMethod", String.class);
+        assertEquals("hi loulan", privateMethod.invoke(bean, "hi "));
+        assertFalse(privateMethod.getMethod().isAccessible());
+
+        MethodInvoker setAge = ReflectTool.getMethodInvoker(TestBean.class, "setAge", int.class);
+        assertNull(setAge.invoke(bean, 20));
+        assertEquals(20, bean.getAge());
+
+        MethodInvoker add = ReflectTool.getMethodInvoker(TestStaticBean.class, "add", int.class, int.class);
+        assertEquals(Integer.valueOf(3), add.invoke(null, 1, 2));
+        assertNull(ReflectTool.getMethodInvoker(TestBean.class, "nonexistent"));
+
+        try {
+            getName.invoke(null);
+            fail();
+        } catch (NullPointerException ex) {
+            // 方法抛出的运行时异常原样抛出
+        }
+    }
+
+    /**
+     * 测试按参数个数获取方法，以及根据实际参数选择最具体的重载方法。
+     */
+    @Test
+    public void testGetMethodByArgs() {
+        assertEquals(4, ReflectTool.getMethods(TestOverloadBean.class, "describe", 1).length);
+        assertEquals(1, ReflectTool.getMethods(TestOverloadBean.class, "describe", 2).length);
+        assertEquals(0, ReflectTool.getMethods(TestOverloadBean.class, "describe", 3).length);
+
+        assertEquals(String.class, ReflectTool.getMethodByArgs(TestOverloadBean.class, "describe", "a").getParameterTypes()[0]);
+        assertEquals(Number.class, ReflectTool.getMethodByArgs(TestOverloadBean.class, "describe", 1.5).getParameterTypes()[0]);
+        // 不需要拆箱就可以匹配的方法优先，没有时包装类型才匹配基本类型（Integer可以拓宽转换为long）
+        assertEquals(Number.class, ReflectTool.getMethodByArgs(TestOverloadBean.class, "describe", 1L).getParameterTypes()[0]);
+        assertEquals(long.class, ReflectTool.getMethodByArgs(TestPrimitiveBean.class, "describe", 1).getParameterTypes()[0]);
+        assertEquals(int.class, ReflectTool.getMethodByArgs(TestBean.class, "setAge", 18).getParameterTypes()[0]);
+        assertEquals(Object.class, ReflectTool.getMethodByArgs(TestOverloadBean.class, "describe", new Object()).getParameterTypes()[0]);
+        assertEquals(2, ReflectTool.getMethodByArgs(TestOverloadBean.class, "describe", null, "b").getParameterCount());
+        assertNull(ReflectTool.getMethodByArgs(TestOverloadBean.class, "describe", 1, 2, 3));
+        assertNull(ReflectTool.getMethodByArgs(TestBean.class, "setAge", (Object) null));
+    }
+
+    /**
+     * 测试invoke方法，验证不指定参数类型时根据实际参数选择重载方法。
+     */
+    @Test
+    public void testInvoke_byArgs() {
+        TestOverloadBean bean = new TestOverloadBean();
+        assertEquals("string", ReflectTool.invoke(bean, "describe", new Object[]{"a"}, null));
+        assertEquals("number", ReflectTool.invoke(bean, "describe", new Object[]{new BigDecimal("1")}, null));
+        assertEquals("pair", ReflectTool.invoke(bean, "describe", new Object[]{"a", 1}, null));
+        assertEquals(Integer.valueOf(18), ReflectTool.invoke(new TestBean("loulan", 18), "getAge", null, null));
+    }
+
+    /**
+     * 测试基本类型字段的读写，验证拓宽转换以及类型不兼容时抛出异常。
+     */
+    @Test
+    public void testPrimitiveFieldAccess() {
+        TestNumberBean bean = new TestNumberBean();
+        assertEquals(3, ReflectTool.getInt(bean, "count"));
+        assertEquals(2, ReflectTool.getInt(bean, "level"));
+        assertEquals(3L, ReflectTool.getLong(bean, "count"));
+        assertEquals(10.0, ReflectTool.getDouble(bean, "total"), 0);
+        assertFalse(ReflectTool.getBoolean(bean, "enabled"));
+
+        ReflectTool.setInt(bean, "count", 7);
+        ReflectTool.setInt(bean, "total", 8);
+        ReflectTool.setLong(bean, "ratio", 9L);
+        ReflectTool.setBoolean(bean, "enabled", true);
+        ReflectTool.setDouble(bean, "ratio", ReflectTool.getDouble(bean, "ratio") + 0.25);
+        assertEquals(7, bean.count);
+        assertEquals(8L, bean.total);
+        assertEquals(9.25, bean.ratio, 0);
+        assertTrue(bean.enabled);
+
+        FieldAccessor accessor = ReflectTool.getFieldAccessor(TestNumberBean.class, "level");
+        assertEquals(2L, accessor.getLong(bean));
+        try {
+            accessor.setInt(bean, 1);
+            fail();
+        } catch (ReflectException ex) {
+            // int不能拓宽转换为short
+        }
+        try {
+            ReflectTool.getInt(bean, "label");
+            fail();
+        } catch (ReflectException ex) {
+            // 引用类型的字段不能按基本类型读取
+        }
+        try {
+            ReflectTool.getInt(bean, "nonexistent");
+            fail();
+        } catch (ReflectException ex) {
+            // 字段不存在
+        }
+    }
+
+    /**
+     * 测试批量执行方法和读取字段，验证顺序执行和并行执行的结果顺序一致，null元素返回null。
+     */
+    @Test
+    public void testInvokeAll() {
+        List<TestBean> beans = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            beans.add(i == 10 ? null : new TestBean("name" + i, i));
+        }
+        Method greet = ReflectTool.getMethod(TestBean.class, "greet", String.class);
+        List<String> greetings = ReflectTool.invokeAll(beans, greet, "Hi");
+        List<String> parallelGreetings = ReflectTool.invokeAll(beans, greet, new Object[]{"Hi"}, 100, ForkJoinPool.commonPool());
+        assertEquals(1000, greetings.size());
+        assertEquals("Hi, name999", greetings.get(999));
+        assertNull(greetings.get(10));
+        assertEquals(greetings, parallelGreetings);
+
+        Field age = ReflectTool.getField(TestBean.class, "age");
+        List<Integer> ages = ReflectTool.getFieldValues(beans, age, 100, ForkJoinPool.commonPool());
+        assertEquals(Integer.valueOf(500), ages.get(500));
+        assertNull(ages.get(10));
+        assertEquals(ages, ReflectTool.getFieldValues(beans, age));
+    }
+
+    /**
+     * 测试扫描包中的类，验证目录和jar包中的类都可以扫描到。
+     */
+    @Test
+    public void testScanClasses() {
+        List<Class<?>> classes = ReflectTool.scanClasses("io.github.loulangogogo.water.tool");
+        assertTrue(classes.contains(ReflectTool.class));
+        assertTrue(classes.contains(FieldAccessor.class));
+        assertTrue(ReflectTool.scanClasses("org.junit").contains(Test.class));
+        assertTrue(ReflectTool.scanClasses("io.github.loulangogogo.nonexistent").isEmpty());
+        ReflectTool.warmUp(TestBean.class);
+    }
 }